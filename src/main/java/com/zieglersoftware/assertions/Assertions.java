@@ -2,16 +2,29 @@ package com.zieglersoftware.assertions;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.IllegalFormatException;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public final class Assertions
 {
+	/**
+	 * The number of levels of nesting allowed by {@link #deepAllNotNull(Object, String)} and
+	 * {@link #deepNotEmptyAllNotEmpty(Object, String)}.
+	 */
+	public static final int DEFAULT_MAX_DEPTH = 64;
+
 	// Do not instantiate
 	private Assertions()
 	{
@@ -28,7 +41,7 @@ public final class Assertions
 		if (variableName == null)
 			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
 		if (object == null)
-			throw new NullPointerException("Variable \"" + variableName + "\" cannot be null");
+			throw Failures.isNull(Subject.VARIABLE, variableName);
 		return object;
 	}
 
@@ -38,6 +51,9 @@ public final class Assertions
 	 * {@code exceptionMessageWithPlaceholders}, along with the (optional) {@code placeholderValues}, will be used as the exception message
 	 * if {@code test} is false. {@code exceptionMessageWithPlaceholders} should be formatted exactly the same way as in
 	 * {@link String#format(String, Object...)}, e.g., %d to represent a long or integer, and %s to represent a string.
+	 * The message is formatted only if the assertion fails, so passing assertions do not call {@code toString} on the placeholder values.
+	 * For the same reason, an illegally formatted message is only reported, with an {@code IllegalArgumentException}, if the assertion
+	 * fails.
 	 */
 	public static void tru(boolean test, String exceptionMessageWithPlaceholders, Object... placeholderValues)
 	{
@@ -45,17 +61,19 @@ public final class Assertions
 			throw new NullPointerException("exceptionMessageWithPlaceholders cannot be null");
 		if (placeholderValues == null)
 			throw new NullPointerException("placeholderValues cannot be null");
-		String combinedExceptionMessage;
-		try
-		{
-			combinedExceptionMessage = String.format(exceptionMessageWithPlaceholders, placeholderValues);
-		}
-		catch (IllegalFormatException e)
-		{
-			throw new IllegalArgumentException("exceptionMessageWithPlaceholders and placeholderValues are illegally formatted", e);
-		}
 		if (!test)
-			throw new IllegalStateException(combinedExceptionMessage);
+			throw Failures.state(exceptionMessageWithPlaceholders, placeholderValues);
+	}
+
+	/**
+	 * Same as {@link #tru(boolean, String, Object...)} with no placeholder values, but without allocating the varargs array.
+	 */
+	public static void tru(boolean test, String exceptionMessageWithPlaceholders)
+	{
+		if (exceptionMessageWithPlaceholders == null)
+			throw new NullPointerException("exceptionMessageWithPlaceholders cannot be null");
+		if (!test)
+			throw Failures.state(exceptionMessageWithPlaceholders);
 	}
 
 	/**
@@ -64,6 +82,9 @@ public final class Assertions
 	 * {@code exceptionMessageWithPlaceholders}, along with the (optional) {@code placeholderValues}, will be used as the exception message
 	 * if {@code test} is true. {@code exceptionMessageWithPlaceholders} should be formatted exactly the same way as in
 	 * {@link String#format(String, Object...)}, e.g., %d to represent a long or integer, and %s to represent a string.
+	 * The message is formatted only if the assertion fails, so passing assertions do not call {@code toString} on the placeholder values.
+	 * For the same reason, an illegally formatted message is only reported, with an {@code IllegalArgumentException}, if the assertion
+	 * fails.
 	 */
 	public static void fals(boolean test, String exceptionMessageWithPlaceholders, Object... placeholderValues)
 	{
@@ -71,17 +92,19 @@ public final class Assertions
 			throw new NullPointerException("exceptionMessageWithPlaceholders cannot be null");
 		if (placeholderValues == null)
 			throw new NullPointerException("placeholderValues cannot be null");
-		String combinedExceptionMessage;
-		try
-		{
-			combinedExceptionMessage = String.format(exceptionMessageWithPlaceholders, placeholderValues);
-		}
-		catch (IllegalFormatException e)
-		{
-			throw new IllegalArgumentException("exceptionMessageWithPlaceholders and placeholderValues are illegally formatted", e);
-		}
 		if (test)
-			throw new IllegalStateException(combinedExceptionMessage);
+			throw Failures.state(exceptionMessageWithPlaceholders, placeholderValues);
+	}
+
+	/**
+	 * Same as {@link #fals(boolean, String, Object...)} with no placeholder values, but without allocating the varargs array.
+	 */
+	public static void fals(boolean test, String exceptionMessageWithPlaceholders)
+	{
+		if (exceptionMessageWithPlaceholders == null)
+			throw new NullPointerException("exceptionMessageWithPlaceholders cannot be null");
+		if (test)
+			throw Failures.state(exceptionMessageWithPlaceholders);
 	}
 
 	/**
@@ -101,12 +124,10 @@ public final class Assertions
 			if (referenceVal == null)
 				return object;
 			else
-				throw new IllegalStateException(
-					"Variable \"" + variableName + "\" must be equal to " + referenceVal + ". Was null");
+				throw Failures.compared(CheckKind.EQUAL, variableName, null, referenceVal);
 		}
 		else if (!object.equals(referenceVal))
-			throw new IllegalStateException(
-				"Variable \"" + variableName + "\" must be equal to " + referenceVal + ". Was " + object);
+			throw Failures.compared(CheckKind.EQUAL, variableName, object, referenceVal);
 		return object;
 	}
 
@@ -125,14 +146,12 @@ public final class Assertions
 		if (object == null)
 		{
 			if (referenceVal == null)
-				throw new IllegalStateException(
-					"Variable \"" + variableName + "\" must not be equal to the given reference value. Both are null");
+				throw Failures.compared(CheckKind.NOT_EQUAL, variableName, null, null);
 			else
 				return object;
 		}
 		else if (object.equals(referenceVal))
-			throw new IllegalStateException(
-				"Variable \"" + variableName + "\" must not be equal to " + referenceVal);
+			throw Failures.compared(CheckKind.NOT_EQUAL, variableName, object, referenceVal);
 		return object;
 	}
 
@@ -147,9 +166,9 @@ public final class Assertions
 		if (stringName == null)
 			throw new NullPointerException("stringName cannot be null. This is about the name of the string, not the string itself!");
 		if (string == null)
-			throw new NullPointerException("String \"" + stringName + "\" cannot be null");
+			throw Failures.isNull(Subject.STRING, stringName);
 		if (string.isEmpty())
-			throw new IllegalStateException("String \"" + stringName + "\" cannot be empty");
+			throw Failures.empty(Subject.STRING, stringName);
 		return string;
 	}
 
@@ -165,12 +184,132 @@ public final class Assertions
 		if (variableName == null)
 			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
 		if (optionalObject == null)
-			throw new NullPointerException("Variable \"" + variableName + "\" cannot be null");
+			throw Failures.isNull(Subject.VARIABLE, variableName);
 		if (!optionalObject.isPresent())
-			throw new IllegalStateException("Variable \"" + variableName + "\" must be present");
+			throw Failures.notPresent(variableName);
 		return optionalObject.get();
 	}
 
+	/**
+	 * Asserts that the given {@code OptionalInt} is not null and is {@code present}. Returns the present value, i.e.,
+	 * {@code optionalVal.getAsInt()}, if the assertion succeeds.
+	 * <p>
+	 * {@code variableName} should be the name of the variable being tested.
+	 * It will be included in the exception message for debugging purposes.
+	 */
+	public static int present(OptionalInt optionalVal, String variableName)
+	{
+		if (variableName == null)
+			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
+		if (optionalVal == null)
+			throw Failures.isNull(Subject.VARIABLE, variableName);
+		if (!optionalVal.isPresent())
+			throw Failures.notPresent(variableName);
+		return optionalVal.getAsInt();
+	}
+
+	/**
+	 * Asserts that the given {@code OptionalLong} is not null and is {@code present}. Returns the present value, i.e.,
+	 * {@code optionalVal.getAsLong()}, if the assertion succeeds.
+	 * <p>
+	 * {@code variableName} should be the name of the variable being tested.
+	 * It will be included in the exception message for debugging purposes.
+	 */
+	public static long present(OptionalLong optionalVal, String variableName)
+	{
+		if (variableName == null)
+			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
+		if (optionalVal == null)
+			throw Failures.isNull(Subject.VARIABLE, variableName);
+		if (!optionalVal.isPresent())
+			throw Failures.notPresent(variableName);
+		return optionalVal.getAsLong();
+	}
+
+	/**
+	 * Asserts that the given {@code OptionalDouble} is not null and is {@code present}. Returns the present value, i.e.,
+	 * {@code optionalVal.getAsDouble()}, if the assertion succeeds.
+	 * <p>
+	 * {@code variableName} should be the name of the variable being tested.
+	 * It will be included in the exception message for debugging purposes.
+	 */
+	public static double present(OptionalDouble optionalVal, String variableName)
+	{
+		if (variableName == null)
+			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
+		if (optionalVal == null)
+			throw Failures.isNull(Subject.VARIABLE, variableName);
+		if (!optionalVal.isPresent())
+			throw Failures.notPresent(variableName);
+		return optionalVal.getAsDouble();
+	}
+
+	/**
+	 * Asserts that the given {@code OptionalInt} is not null and is {@code present}, and that its value is between the two given reference
+	 * values, inclusive, as in {@link #between(long, long, long, String)}. Returns the present value if the
+	 * assertion succeeds.
+	 * <p>
+	 * {@code variableName} should be the name of the variable being tested.
+	 * It will be included in the exception message for debugging purposes.
+	 */
+	public static int presentAndBetween(OptionalInt optionalVal, int lowReferenceVal, int highReferenceVal, String variableName)
+	{
+		if (variableName == null)
+			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
+		if (optionalVal == null)
+			throw Failures.isNull(Subject.VARIABLE, variableName);
+		if (!optionalVal.isPresent())
+			throw Failures.notPresent(variableName);
+		int val = optionalVal.getAsInt();
+		if (val < lowReferenceVal || val > highReferenceVal)
+			throw Failures.notBetween(variableName, val, lowReferenceVal, highReferenceVal);
+		return val;
+	}
+
+	/**
+	 * Asserts that the given {@code OptionalLong} is not null and is {@code present}, and that its value is between the two given reference
+	 * values, inclusive, as in {@link #between(long, long, long, String)}. Returns the present value if the
+	 * assertion succeeds.
+	 * <p>
+	 * {@code variableName} should be the name of the variable being tested.
+	 * It will be included in the exception message for debugging purposes.
+	 */
+	public static long presentAndBetween(OptionalLong optionalVal, long lowReferenceVal, long highReferenceVal, String variableName)
+	{
+		if (variableName == null)
+			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
+		if (optionalVal == null)
+			throw Failures.isNull(Subject.VARIABLE, variableName);
+		if (!optionalVal.isPresent())
+			throw Failures.notPresent(variableName);
+		long val = optionalVal.getAsLong();
+		if (val < lowReferenceVal || val > highReferenceVal)
+			throw Failures.notBetween(variableName, val, lowReferenceVal, highReferenceVal);
+		return val;
+	}
+
+	/**
+	 * Asserts that the given {@code OptionalDouble} is not null and is {@code present}, and that its value is between the two given reference
+	 * values, inclusive, as in {@link #between(double, double, double, String)}. Returns the present value if the
+	 * assertion succeeds.
+	 * <p>
+	 * {@code variableName} should be the name of the variable being tested.
+	 * It will be included in the exception message for debugging purposes.
+	 */
+	public static double presentAndBetween(OptionalDouble optionalVal, double lowReferenceVal, double highReferenceVal, String variableName)
+	{
+		if (variableName == null)
+			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
+		if (optionalVal == null)
+			throw Failures.isNull(Subject.VARIABLE, variableName);
+		if (!optionalVal.isPresent())
+			throw Failures.notPresent(variableName);
+		double val = optionalVal.getAsDouble();
+		if (val < lowReferenceVal || val > highReferenceVal)
+			throw Failures.notBetween(variableName, val, lowReferenceVal, highReferenceVal);
+		return val;
+	}
+
 	/**
 	 * Asserts that the given value is equal to the given reference value. Returns the given value if the assertion succeeds.
 	 * <p>
@@ -182,7 +321,7 @@ public final class Assertions
 		if (variableName == null)
 			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
 		if (val != referenceVal)
-			throw new IllegalStateException("Variable \"" + variableName + "\" must be equal to " + referenceVal + ". Was " + val);
+			throw Failures.compared(CheckKind.EQUAL, variableName, val, referenceVal);
 		return val;
 	}
 
@@ -199,7 +338,7 @@ public final class Assertions
 		if (variableName == null)
 			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
 		if (val != referenceVal)
-			throw new IllegalStateException("Variable \"" + variableName + "\" must be equal to " + referenceVal + ". Was " + val);
+			throw Failures.compared(CheckKind.EQUAL, variableName, val, referenceVal);
 		return val;
 	}
 
@@ -218,8 +357,8 @@ public final class Assertions
 	{
 		if (variableName == null)
 			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
-		if (val.compareTo(referenceVal) != 0)
-			throw new IllegalStateException("Variable \"" + variableName + "\" must be equal to " + referenceVal + ". Was " + val);
+		if (compare(val, referenceVal) != 0)
+			throw Failures.compared(CheckKind.EQUAL, variableName, val, referenceVal);
 		return val;
 	}
 
@@ -234,7 +373,7 @@ public final class Assertions
 		if (variableName == null)
 			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
 		if (val == referenceVal)
-			throw new IllegalStateException("Variable \"" + variableName + "\" must not be equal to " + referenceVal);
+			throw Failures.compared(CheckKind.NOT_EQUAL, variableName, val, referenceVal);
 		return val;
 	}
 
@@ -251,7 +390,7 @@ public final class Assertions
 		if (variableName == null)
 			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
 		if (val == referenceVal)
-			throw new IllegalStateException("Variable \"" + variableName + "\" must not be equal to " + referenceVal);
+			throw Failures.compared(CheckKind.NOT_EQUAL, variableName, val, referenceVal);
 		return val;
 	}
 
@@ -270,8 +409,8 @@ public final class Assertions
 	{
 		if (variableName == null)
 			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
-		if (val.compareTo(referenceVal) == 0)
-			throw new IllegalStateException("Variable \"" + variableName + "\" must not be equal to " + referenceVal);
+		if (compare(val, referenceVal) == 0)
+			throw Failures.compared(CheckKind.NOT_EQUAL, variableName, val, referenceVal);
 		return val;
 	}
 
@@ -286,7 +425,7 @@ public final class Assertions
 		if (variableName == null)
 			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
 		if (val <= referenceVal)
-			throw new IllegalStateException("Variable \"" + variableName + "\" must be greater than " + referenceVal + ". Was " + val);
+			throw Failures.compared(CheckKind.GREATER, variableName, val, referenceVal);
 		return val;
 	}
 
@@ -301,7 +440,7 @@ public final class Assertions
 		if (variableName == null)
 			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
 		if (val <= referenceVal)
-			throw new IllegalStateException("Variable \"" + variableName + "\" must be greater than " + referenceVal + ". Was " + val);
+			throw Failures.compared(CheckKind.GREATER, variableName, val, referenceVal);
 		return val;
 	}
 
@@ -318,7 +457,7 @@ public final class Assertions
 		if (variableName == null)
 			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
 		if (val.compareTo(referenceVal) <= 0)
-			throw new IllegalStateException("Variable \"" + variableName + "\" must be greater than " + referenceVal + ". Was " + val);
+			throw Failures.compared(CheckKind.GREATER, variableName, val, referenceVal);
 		return val;
 	}
 
@@ -334,8 +473,8 @@ public final class Assertions
 	{
 		if (variableName == null)
 			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
-		if (val.compareTo(referenceVal) <= 0)
-			throw new IllegalStateException("Variable \"" + variableName + "\" must be greater than " + referenceVal + ". Was " + val);
+		if (compare(val, referenceVal) <= 0)
+			throw Failures.compared(CheckKind.GREATER, variableName, val, referenceVal);
 		return val;
 	}
 
@@ -350,8 +489,7 @@ public final class Assertions
 		if (variableName == null)
 			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
 		if (val > referenceVal)
-			throw new IllegalStateException(
-				"Variable \"" + variableName + "\" must not be greater than " + referenceVal + ". Was " + val);
+			throw Failures.compared(CheckKind.NOT_GREATER, variableName, val, referenceVal);
 		return val;
 	}
 
@@ -366,8 +504,7 @@ public final class Assertions
 		if (variableName == null)
 			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
 		if (val > referenceVal)
-			throw new IllegalStateException(
-				"Variable \"" + variableName + "\" must not be greater than " + referenceVal + ". Was " + val);
+			throw Failures.compared(CheckKind.NOT_GREATER, variableName, val, referenceVal);
 		return val;
 	}
 
@@ -384,8 +521,7 @@ public final class Assertions
 		if (variableName == null)
 			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
 		if (val.compareTo(referenceVal) > 0)
-			throw new IllegalStateException(
-				"Variable \"" + variableName + "\" must not be greater than " + referenceVal + ". Was " + val);
+			throw Failures.compared(CheckKind.NOT_GREATER, variableName, val, referenceVal);
 		return val;
 	}
 
@@ -401,9 +537,8 @@ public final class Assertions
 	{
 		if (variableName == null)
 			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
-		if (val.compareTo(referenceVal) > 0)
-			throw new IllegalStateException(
-				"Variable \"" + variableName + "\" must not be greater than " + referenceVal + ". Was " + val);
+		if (compare(val, referenceVal) > 0)
+			throw Failures.compared(CheckKind.NOT_GREATER, variableName, val, referenceVal);
 		return val;
 	}
 
@@ -418,7 +553,7 @@ public final class Assertions
 		if (variableName == null)
 			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
 		if (val >= referenceVal)
-			throw new IllegalStateException("Variable \"" + variableName + "\" must be less than " + referenceVal + ". Was " + val);
+			throw Failures.compared(CheckKind.LESS, variableName, val, referenceVal);
 		return val;
 	}
 
@@ -433,7 +568,7 @@ public final class Assertions
 		if (variableName == null)
 			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
 		if (val >= referenceVal)
-			throw new IllegalStateException("Variable \"" + variableName + "\" must be less than " + referenceVal + ". Was " + val);
+			throw Failures.compared(CheckKind.LESS, variableName, val, referenceVal);
 		return val;
 	}
 
@@ -450,7 +585,7 @@ public final class Assertions
 		if (variableName == null)
 			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
 		if (val.compareTo(referenceVal) >= 0)
-			throw new IllegalStateException("Variable \"" + variableName + "\" must be less than " + referenceVal + ". Was " + val);
+			throw Failures.compared(CheckKind.LESS, variableName, val, referenceVal);
 		return val;
 	}
 
@@ -466,8 +601,8 @@ public final class Assertions
 	{
 		if (variableName == null)
 			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
-		if (val.compareTo(referenceVal) >= 0)
-			throw new IllegalStateException("Variable \"" + variableName + "\" must be less than " + referenceVal + ". Was " + val);
+		if (compare(val, referenceVal) >= 0)
+			throw Failures.compared(CheckKind.LESS, variableName, val, referenceVal);
 		return val;
 	}
 
@@ -482,7 +617,7 @@ public final class Assertions
 		if (variableName == null)
 			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
 		if (val < referenceVal)
-			throw new IllegalStateException("Variable \"" + variableName + "\" must not be less than " + referenceVal + ". Was " + val);
+			throw Failures.compared(CheckKind.NOT_LESS, variableName, val, referenceVal);
 		return val;
 	}
 
@@ -497,7 +632,7 @@ public final class Assertions
 		if (variableName == null)
 			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
 		if (val < referenceVal)
-			throw new IllegalStateException("Variable \"" + variableName + "\" must not be less than " + referenceVal + ". Was " + val);
+			throw Failures.compared(CheckKind.NOT_LESS, variableName, val, referenceVal);
 		return val;
 	}
 
@@ -514,7 +649,7 @@ public final class Assertions
 		if (variableName == null)
 			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
 		if (val.compareTo(referenceVal) < 0)
-			throw new IllegalStateException("Variable \"" + variableName + "\" must not be less than " + referenceVal + ". Was " + val);
+			throw Failures.compared(CheckKind.NOT_LESS, variableName, val, referenceVal);
 		return val;
 	}
 
@@ -530,8 +665,8 @@ public final class Assertions
 	{
 		if (variableName == null)
 			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
-		if (val.compareTo(referenceVal) < 0)
-			throw new IllegalStateException("Variable \"" + variableName + "\" must not be less than " + referenceVal + ". Was " + val);
+		if (compare(val, referenceVal) < 0)
+			throw Failures.compared(CheckKind.NOT_LESS, variableName, val, referenceVal);
 		return val;
 	}
 
@@ -547,9 +682,7 @@ public final class Assertions
 		if (variableName == null)
 			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
 		if (val < lowReferenceVal || val > highReferenceVal)
-			throw new IllegalStateException(
-				"Variable \"" + variableName + "\" must be between " +
-					lowReferenceVal + " and " + highReferenceVal + ", inclusive. Was " + val);
+			throw Failures.notBetween(variableName, val, lowReferenceVal, highReferenceVal);
 		return val;
 	}
 
@@ -565,9 +698,7 @@ public final class Assertions
 		if (variableName == null)
 			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
 		if (val < lowReferenceVal || val > highReferenceVal)
-			throw new IllegalStateException(
-				"Variable \"" + variableName + "\" must be between " +
-					lowReferenceVal + " and " + highReferenceVal + ", inclusive. Was " + val);
+			throw Failures.notBetween(variableName, val, lowReferenceVal, highReferenceVal);
 		return val;
 	}
 
@@ -585,9 +716,7 @@ public final class Assertions
 		if (variableName == null)
 			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
 		if (val.compareTo(lowReferenceVal) < 0 || val.compareTo(highReferenceVal) > 0)
-			throw new IllegalStateException(
-				"Variable \"" + variableName + "\" must be between " +
-					lowReferenceVal + " and " + highReferenceVal + ", inclusive. Was " + val);
+			throw Failures.notBetween(variableName, val, lowReferenceVal, highReferenceVal);
 		return val;
 	}
 
@@ -601,13 +730,220 @@ public final class Assertions
 	 * It will be included in the exception message for debugging purposes.
 	 */
 	public static BigDecimal between(BigDecimal val, BigDecimal lowReferenceVal, BigDecimal highReferenceVal, String variableName)
+	{
+		if (variableName == null)
+			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
+		if (compare(val, lowReferenceVal) < 0 || compare(val, highReferenceVal) > 0)
+			throw Failures.notBetween(variableName, val, lowReferenceVal, highReferenceVal);
+		return val;
+	}
+
+	/**
+	 * Asserts that the given value and reference value are not null
+	 * and that the value is not greater than the reference value.
+	 * Returns the given value if the assertion succeeds.
+	 * <p>
+	 * {@code variableName} should be the name of the variable being tested.
+	 * It will be included in the exception message for debugging purposes.
+	 */
+	public static Duration notGreater(Duration val, Duration referenceVal, String variableName)
+	{
+		if (variableName == null)
+			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
+		if (val.compareTo(referenceVal) > 0)
+			throw Failures.compared(CheckKind.NOT_GREATER, variableName, val, referenceVal);
+		return val;
+	}
+
+	/**
+	 * Asserts that the given value and reference values are not null and that the value is between the two reference values,
+	 * inclusive, i.e., {@code lowReferenceVal <= val <= highReferenceVal}. Returns the given value if the assertion succeeds.
+	 * <p>
+	 * {@code variableName} should be the name of the variable being tested.
+	 * It will be included in the exception message for debugging purposes.
+	 */
+	public static Duration between(Duration val, Duration lowReferenceVal, Duration highReferenceVal, String variableName)
 	{
 		if (variableName == null)
 			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
 		if (val.compareTo(lowReferenceVal) < 0 || val.compareTo(highReferenceVal) > 0)
-			throw new IllegalStateException(
-				"Variable \"" + variableName + "\" must be between " +
-					lowReferenceVal + " and " + highReferenceVal + ", inclusive. Was " + val);
+			throw Failures.notBetween(variableName, val, lowReferenceVal, highReferenceVal);
+		return val;
+	}
+
+	/**
+	 * Asserts that the given deadline, a value of {@link System#nanoTime()}, has not passed, i.e., that the current
+	 * {@code System.nanoTime()} is not later than it. Returns the given deadline if the assertion succeeds.
+	 * <p>
+	 * {@code variableName} should be the name of the deadline being tested.
+	 * It will be included in the exception message for debugging purposes.
+	 */
+	public static long withinDeadline(long deadlineNanos, String variableName)
+	{
+		if (variableName == null)
+			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
+		long overdueNanos = System.nanoTime() - deadlineNanos;
+		if (overdueNanos > 0)
+			throw Failures.expired(variableName, overdueNanos);
+		return deadlineNanos;
+	}
+
+	/**
+	 * Same as {@link #withinDeadline(long, String)}, but reads the current time from the given {@link CoarseClock}, which is cheaper
+	 * but may let the check pass for up to about its resolution after the deadline.
+	 */
+	public static long withinDeadline(long deadlineNanos, CoarseClock clock, String variableName)
+	{
+		if (variableName == null)
+			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
+		if (clock == null)
+			throw new NullPointerException("clock cannot be null");
+		long overdueNanos = clock.nanoTime() - deadlineNanos;
+		if (overdueNanos > 0)
+			throw Failures.expired(variableName, overdueNanos);
+		return deadlineNanos;
+	}
+
+	/**
+	 * Asserts that the given deadline is not null and has not passed, i.e., that the current time, to the millisecond, as given by
+	 * {@link System#currentTimeMillis()}, is not later than it. Returns the given deadline if the assertion succeeds.
+	 * <p>
+	 * {@code variableName} should be the name of the deadline being tested.
+	 * It will be included in the exception message for debugging purposes.
+	 */
+	public static Instant notExpired(Instant deadline, String variableName)
+	{
+		if (variableName == null)
+			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
+		if (deadline == null)
+			throw Failures.isNull(Subject.VARIABLE, variableName);
+		checkNotExpired(deadline, System.currentTimeMillis(), variableName);
+		return deadline;
+	}
+
+	/**
+	 * Same as {@link #notExpired(Instant, String)}, but reads the current time from the given {@link CoarseClock}, which is cheaper but
+	 * may let the check pass for up to about its resolution after the deadline.
+	 */
+	public static Instant notExpired(Instant deadline, CoarseClock clock, String variableName)
+	{
+		if (variableName == null)
+			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
+		if (clock == null)
+			throw new NullPointerException("clock cannot be null");
+		if (deadline == null)
+			throw Failures.isNull(Subject.VARIABLE, variableName);
+		checkNotExpired(deadline, clock.currentTimeMillis(), variableName);
+		return deadline;
+	}
+
+	/**
+	 * Asserts that the given constant is not null and is a member of the given {@link EnumMembership}.
+	 * Returns the given constant if the assertion succeeds.
+	 * <p>
+	 * {@code variableName} should be the name of the variable being tested.
+	 * It will be included in the exception message for debugging purposes.
+	 */
+	public static <E extends Enum<E>> E oneOf(E val, EnumMembership<E> members, String variableName)
+	{
+		if (variableName == null)
+			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
+		if (members == null)
+			throw new NullPointerException("members cannot be null");
+		if (val == null)
+			throw Failures.isNull(Subject.VARIABLE, variableName);
+		if (!members.contains(val))
+			throw Failures.compared(CheckKind.ONE_OF, variableName, val, members);
+		return val;
+	}
+
+	/**
+	 * Asserts that the given object is not null and is equal to a member of the given {@link ObjectMembership}.
+	 * Returns the given object if the assertion succeeds.
+	 * <p>
+	 * {@code variableName} should be the name of the variable being tested.
+	 * It will be included in the exception message for debugging purposes.
+	 */
+	public static <T> T oneOf(T val, ObjectMembership<? super T> members, String variableName)
+	{
+		if (variableName == null)
+			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
+		if (members == null)
+			throw new NullPointerException("members cannot be null");
+		if (val == null)
+			throw Failures.isNull(Subject.VARIABLE, variableName);
+		if (!members.contains(val))
+			throw Failures.compared(CheckKind.ONE_OF, variableName, val, members);
+		return val;
+	}
+
+	/**
+	 * Asserts that the given value is a member of the given {@link LongMembership}. Returns the given value if the assertion succeeds.
+	 * <p>
+	 * {@code variableName} should be the name of the variable being tested.
+	 * It will be included in the exception message for debugging purposes.
+	 */
+	public static long oneOf(long val, LongMembership members, String variableName)
+	{
+		if (variableName == null)
+			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
+		if (members == null)
+			throw new NullPointerException("members cannot be null");
+		if (!members.contains(val))
+			throw Failures.compared(CheckKind.ONE_OF, variableName, val, members);
+		return val;
+	}
+
+	/**
+	 * Asserts that the given constant is not a member of the given {@link EnumMembership}. Null is never a member, so a null
+	 * constant passes. Returns the given constant if the assertion succeeds.
+	 * <p>
+	 * {@code variableName} should be the name of the variable being tested.
+	 * It will be included in the exception message for debugging purposes.
+	 */
+	public static <E extends Enum<E>> E noneOf(E val, EnumMembership<E> members, String variableName)
+	{
+		if (variableName == null)
+			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
+		if (members == null)
+			throw new NullPointerException("members cannot be null");
+		if (members.contains(val))
+			throw Failures.compared(CheckKind.NONE_OF, variableName, val, members);
+		return val;
+	}
+
+	/**
+	 * Asserts that the given object is not equal to any member of the given {@link ObjectMembership}. Null is never a member, so a null
+	 * object passes. Returns the given object if the assertion succeeds.
+	 * <p>
+	 * {@code variableName} should be the name of the variable being tested.
+	 * It will be included in the exception message for debugging purposes.
+	 */
+	public static <T> T noneOf(T val, ObjectMembership<? super T> members, String variableName)
+	{
+		if (variableName == null)
+			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
+		if (members == null)
+			throw new NullPointerException("members cannot be null");
+		if (members.contains(val))
+			throw Failures.compared(CheckKind.NONE_OF, variableName, val, members);
+		return val;
+	}
+
+	/**
+	 * Asserts that the given value is not a member of the given {@link LongMembership}. Returns the given value if the assertion succeeds.
+	 * <p>
+	 * {@code variableName} should be the name of the variable being tested.
+	 * It will be included in the exception message for debugging purposes.
+	 */
+	public static long noneOf(long val, LongMembership members, String variableName)
+	{
+		if (variableName == null)
+			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
+		if (members == null)
+			throw new NullPointerException("members cannot be null");
+		if (members.contains(val))
+			throw Failures.compared(CheckKind.NONE_OF, variableName, val, members);
 		return val;
 	}
 
@@ -624,9 +960,9 @@ public final class Assertions
 			throw new NullPointerException(
 				"collectionName cannot be null. This is about the name of the collection, not the collection itself!");
 		if (collection == null)
-			throw new NullPointerException("Collection \"" + collectionName + "\" cannot be null");
+			throw Failures.isNull(Subject.COLLECTION, collectionName);
 		if (collection.isEmpty())
-			throw new IllegalStateException("Collection \"" + collectionName + "\" cannot be empty");
+			throw Failures.empty(Subject.COLLECTION, collectionName);
 		return collection;
 	}
 
@@ -634,6 +970,12 @@ public final class Assertions
 	 * Asserts that the given {@code Collection} is not null and that none of its elements are null.
 	 * Returns the given collection if the assertion succeeds.
 	 * <p>
+	 * The elements are not looked at if the collection cannot contain null, i.e., if its {@code Spliterator} reports
+	 * {@link java.util.Spliterator#NONNULL NONNULL} or its type is known to reject null.
+	 * This is the case for most concurrent collections, such as {@code ConcurrentLinkedQueue} and the key set of a
+	 * {@code ConcurrentHashMap}. The copy-on-write collections can contain null, so they are always checked. The check runs over the
+	 * snapshot their iterator takes, so modifications made during the check do not affect it.
+	 * <p>
 	 * {@code collectionName} should be the name of the collection being tested.
 	 * It will be included in the exception message for debugging purposes.
 	 * 
@@ -646,10 +988,9 @@ public final class Assertions
 			throw new NullPointerException(
 				"collectionName cannot be null. This is about the name of the collection, not the collection itself!");
 		if (collection == null)
-			throw new NullPointerException("Collection \"" + collectionName + "\" cannot be null");
-		for (Object o : collection)
-			if (o == null)
-				throw new NullPointerException("No element in collection \"" + collectionName + "\" may be null");
+			throw Failures.isNull(Subject.COLLECTION, collectionName);
+		if (!CollectionTraits.cannotContainNull(collection))
+			checkElementsNotNull(collection, Subject.COLLECTION, collectionName);
 		return collection;
 	}
 
@@ -657,6 +998,12 @@ public final class Assertions
 	 * Asserts that the given {@code Collection} is not null, not empty, and that none of its elements are null.
 	 * Returns the given collection if the assertion succeeds.
 	 * <p>
+	 * The elements are not looked at if the collection cannot contain null, i.e., if its {@code Spliterator} reports
+	 * {@link java.util.Spliterator#NONNULL NONNULL} or its type is known to reject null.
+	 * This is the case for most concurrent collections, such as {@code ConcurrentLinkedQueue} and the key set of a
+	 * {@code ConcurrentHashMap}. The copy-on-write collections can contain null, so they are always checked. The check runs over the
+	 * snapshot their iterator takes, so modifications made during the check do not affect it.
+	 * <p>
 	 * {@code collectionName} should be the name of the collection being tested.
 	 * It will be included in the exception message for debugging purposes.
 	 * 
@@ -669,12 +1016,11 @@ public final class Assertions
 			throw new NullPointerException(
 				"collectionName cannot be null. This is about the name of the collection, not the collection itself!");
 		if (collection == null)
-			throw new NullPointerException("Collection \"" + collectionName + "\" cannot be null");
+			throw Failures.isNull(Subject.COLLECTION, collectionName);
 		if (collection.isEmpty())
-			throw new IllegalStateException("Collection \"" + collectionName + "\" cannot be empty");
-		for (Object o : collection)
-			if (o == null)
-				throw new NullPointerException("No element in collection \"" + collectionName + "\" may be null");
+			throw Failures.empty(Subject.COLLECTION, collectionName);
+		if (!CollectionTraits.cannotContainNull(collection))
+			checkElementsNotNull(collection, Subject.COLLECTION, collectionName);
 		return collection;
 	}
 
@@ -682,6 +1028,10 @@ public final class Assertions
 	 * Asserts that the given {@code Collection<String>} is not null, not empty,
 	 * and that none of its elements are null or empty. Returns the given collection if the assertion succeeds.
 	 * <p>
+	 * If the collection is modified while it is being checked, the check sees what one traversal of it sees: a snapshot for the
+	 * copy-on-write collections, and a weakly consistent view for the other concurrent collections, in which elements added or removed
+	 * during the check may or may not be checked. The index of a failing element is its position in that traversal.
+	 * <p>
 	 * {@code collectionName} should be the name of the collection being tested.
 	 * It will be included in the exception message for debugging purposes.
 	 * 
@@ -694,15 +1044,19 @@ public final class Assertions
 			throw new NullPointerException(
 				"collectionName cannot be null. This is about the name of the collection, not the collection itself!");
 		if (collection == null)
-			throw new NullPointerException("Collection \"" + collectionName + "\" cannot be null");
+			throw Failures.isNull(Subject.COLLECTION, collectionName);
 		if (collection.isEmpty())
-			throw new IllegalStateException("Collection \"" + collectionName + "\" cannot be empty");
+			throw Failures.empty(Subject.COLLECTION, collectionName);
+		if (CollectionTraits.cannotContainNullOrEmpty(collection))
+			return collection;
+		int index = 0;
 		for (String s : collection)
 		{
 			if (s == null)
-				throw new NullPointerException("No string in collection \"" + collectionName + "\" may be null");
+				throw Failures.nullElement(Subject.STRING_COLLECTION, collectionName, index);
 			if (s.isEmpty())
-				throw new IllegalStateException("No string in collection \"" + collectionName + "\" may be empty");
+				throw Failures.emptyElement(Subject.STRING_COLLECTION, collectionName, index);
+			index++;
 		}
 		return collection;
 	}
@@ -724,13 +1078,17 @@ public final class Assertions
 		if (listName == null)
 			throw new NullPointerException("listName cannot be null. This is about the name of the list, not the list itself!");
 		if (list == null)
-			throw new NullPointerException("List \"" + listName + "\" cannot be null");
+			throw Failures.isNull(Subject.LIST, listName);
+		if (CollectionTraits.cannotContainNull(list))
+			return new ArrayList<>(list);
 		ArrayList<T> copy = new ArrayList<>(list.size());
+		int index = 0;
 		for (T t : list)
 		{
 			if (t == null)
-				throw new NullPointerException("No element in list \"" + listName + "\" may be null");
+				throw Failures.nullElement(Subject.LIST, listName, index);
 			copy.add(t);
+			index++;
 		}
 		return copy;
 	}
@@ -752,13 +1110,17 @@ public final class Assertions
 		if (setName == null)
 			throw new NullPointerException("setName cannot be null. This is about the name of the set, not the set itself!");
 		if (set == null)
-			throw new NullPointerException("Set \"" + setName + "\" cannot be null");
-		HashSet<T> copy = new HashSet<>(set.size());
+			throw Failures.isNull(Subject.SET, setName);
+		if (CollectionTraits.cannotContainNull(set))
+			return new HashSet<>(set);
+		HashSet<T> copy = new HashSet<>(hashCapacity(set.size()));
+		int index = 0;
 		for (T t : set)
 		{
 			if (t == null)
-				throw new NullPointerException("No element in set \"" + setName + "\" may be null");
+				throw Failures.nullElement(Subject.SET, setName, index);
 			copy.add(t);
+			index++;
 		}
 		return copy;
 	}
@@ -780,15 +1142,19 @@ public final class Assertions
 		if (listName == null)
 			throw new NullPointerException("listName cannot be null. This is about the name of the list, not the list itself!");
 		if (list == null)
-			throw new NullPointerException("List \"" + listName + "\" cannot be null");
+			throw Failures.isNull(Subject.LIST, listName);
 		if (list.isEmpty())
-			throw new IllegalStateException("List \"" + listName + "\" cannot be empty");
+			throw Failures.empty(Subject.LIST, listName);
+		if (CollectionTraits.cannotContainNull(list))
+			return new ArrayList<>(list);
 		ArrayList<T> copy = new ArrayList<>(list.size());
+		int index = 0;
 		for (T t : list)
 		{
 			if (t == null)
-				throw new NullPointerException("No element in list \"" + listName + "\" may be null");
+				throw Failures.nullElement(Subject.LIST, listName, index);
 			copy.add(t);
+			index++;
 		}
 		return copy;
 	}
@@ -810,15 +1176,19 @@ public final class Assertions
 		if (setName == null)
 			throw new NullPointerException("setName cannot be null. This is about the name of the set, not the set itself!");
 		if (set == null)
-			throw new NullPointerException("Set \"" + setName + "\" cannot be null");
+			throw Failures.isNull(Subject.SET, setName);
 		if (set.isEmpty())
-			throw new IllegalStateException("Set \"" + setName + "\" cannot be empty");
-		HashSet<T> copy = new HashSet<>(set.size());
+			throw Failures.empty(Subject.SET, setName);
+		if (CollectionTraits.cannotContainNull(set))
+			return new HashSet<>(set);
+		HashSet<T> copy = new HashSet<>(hashCapacity(set.size()));
+		int index = 0;
 		for (T t : set)
 		{
 			if (t == null)
-				throw new NullPointerException("No element in set \"" + setName + "\" may be null");
+				throw Failures.nullElement(Subject.SET, setName, index);
 			copy.add(t);
+			index++;
 		}
 		return copy;
 	}
@@ -841,17 +1211,21 @@ public final class Assertions
 		if (listName == null)
 			throw new NullPointerException("listName cannot be null. This is about the name of the list, not the list itself!");
 		if (list == null)
-			throw new NullPointerException("List \"" + listName + "\" cannot be null");
+			throw Failures.isNull(Subject.LIST, listName);
 		if (list.isEmpty())
-			throw new IllegalStateException("List \"" + listName + "\" cannot be empty");
+			throw Failures.empty(Subject.LIST, listName);
+		if (CollectionTraits.cannotContainNullOrEmpty(list))
+			return new ArrayList<>(list);
 		ArrayList<String> copy = new ArrayList<>(list.size());
+		int index = 0;
 		for (String s : list)
 		{
 			if (s == null)
-				throw new NullPointerException("No element in list \"" + listName + "\" may be null");
+				throw Failures.nullElement(Subject.LIST, listName, index);
 			if (s.isEmpty())
-				throw new IllegalStateException("No string in list \"" + listName + "\" may be empty");
+				throw Failures.emptyElement(Subject.LIST, listName, index);
 			copy.add(s);
+			index++;
 		}
 		return copy;
 	}
@@ -874,18 +1248,787 @@ public final class Assertions
 		if (setName == null)
 			throw new NullPointerException("setName cannot be null. This is about the name of the set, not the set itself!");
 		if (set == null)
-			throw new NullPointerException("Set \"" + setName + "\" cannot be null");
+			throw Failures.isNull(Subject.SET, setName);
 		if (set.isEmpty())
-			throw new IllegalStateException("Set \"" + setName + "\" cannot be empty");
-		HashSet<String> copy = new HashSet<>(set.size());
+			throw Failures.empty(Subject.SET, setName);
+		if (CollectionTraits.cannotContainNullOrEmpty(set))
+			return new HashSet<>(set);
+		HashSet<String> copy = new HashSet<>(hashCapacity(set.size()));
+		int index = 0;
 		for (String s : set)
 		{
 			if (s == null)
-				throw new NullPointerException("No element in set \"" + setName + "\" may be null");
+				throw Failures.nullElement(Subject.SET, setName, index);
 			if (s.isEmpty())
-				throw new IllegalStateException("No string in set \"" + setName + "\" may be empty");
+				throw Failures.emptyElement(Subject.SET, setName, index);
 			copy.add(s);
+			index++;
 		}
 		return copy;
 	}
+
+	/**
+	 * Asserts that the given {@code List} is not null and that none of its elements are null.
+	 * Returns the elements of the given list, unboxed into a new {@code long[]} of the same size, if the assertion succeeds.
+	 * <p>
+	 * If an array is required, it is better to use this method than {@link #copyIfAllNotNull(List, String)} followed by unboxing,
+	 * so that looping over the list happens only once and no intermediate list is created.
+	 * <p>
+	 * {@code listName} should be the name of the list being tested. It will be included in the exception message for debugging purposes.
+	 * 
+	 * @see #copyIfAllNotNull(List, String)
+	 */
+	public static long[] copyIfAllNotNullToLongArray(List<Long> list, String listName)
+	{
+		if (listName == null)
+			throw new NullPointerException("listName cannot be null. This is about the name of the list, not the list itself!");
+		if (list == null)
+			throw Failures.isNull(Subject.LIST, listName);
+		int size = list.size();
+		long[] copy = new long[size];
+		// A CopyOnWriteArrayList can shrink between size() and get(i), so it is copied from the snapshot its iterator works on
+		if (list instanceof RandomAccess && !(list instanceof CopyOnWriteArrayList))
+		{
+			for (int i = 0; i < size; i++)
+			{
+				Long val = list.get(i);
+				if (val == null)
+					throw Failures.nullElement(Subject.LIST, listName, i);
+				copy[i] = val;
+			}
+			return copy;
+		}
+		int index = 0;
+		for (Long val : list)
+		{
+			if (val == null)
+				throw Failures.nullElement(Subject.LIST, listName, index);
+			// The list may be concurrent, so its size can differ from the one reported before iterating
+			if (index == copy.length)
+				copy = Arrays.copyOf(copy, index + (index >> 1) + 1);
+			copy[index++] = val;
+		}
+		return index == copy.length ? copy : Arrays.copyOf(copy, index);
+	}
+
+	/**
+	 * Asserts that the given {@code List} is not null and that none of its elements are null.
+	 * Returns the elements of the given list, unboxed into a new {@code int[]} of the same size, if the assertion succeeds.
+	 * <p>
+	 * If an array is required, it is better to use this method than {@link #copyIfAllNotNull(List, String)} followed by unboxing,
+	 * so that looping over the list happens only once and no intermediate list is created.
+	 * <p>
+	 * {@code listName} should be the name of the list being tested. It will be included in the exception message for debugging purposes.
+	 * 
+	 * @see #copyIfAllNotNull(List, String)
+	 */
+	public static int[] copyIfAllNotNullToIntArray(List<Integer> list, String listName)
+	{
+		if (listName == null)
+			throw new NullPointerException("listName cannot be null. This is about the name of the list, not the list itself!");
+		if (list == null)
+			throw Failures.isNull(Subject.LIST, listName);
+		int size = list.size();
+		int[] copy = new int[size];
+		// A CopyOnWriteArrayList can shrink between size() and get(i), so it is copied from the snapshot its iterator works on
+		if (list instanceof RandomAccess && !(list instanceof CopyOnWriteArrayList))
+		{
+			for (int i = 0; i < size; i++)
+			{
+				Integer val = list.get(i);
+				if (val == null)
+					throw Failures.nullElement(Subject.LIST, listName, i);
+				copy[i] = val;
+			}
+			return copy;
+		}
+		int index = 0;
+		for (Integer val : list)
+		{
+			if (val == null)
+				throw Failures.nullElement(Subject.LIST, listName, index);
+			// The list may be concurrent, so its size can differ from the one reported before iterating
+			if (index == copy.length)
+				copy = Arrays.copyOf(copy, index + (index >> 1) + 1);
+			copy[index++] = val;
+		}
+		return index == copy.length ? copy : Arrays.copyOf(copy, index);
+	}
+
+	/**
+	 * Asserts that the given {@code List} is not null and that none of its elements are null.
+	 * Returns the elements of the given list, unboxed into a new {@code double[]} of the same size, if the assertion succeeds.
+	 * <p>
+	 * If an array is required, it is better to use this method than {@link #copyIfAllNotNull(List, String)} followed by unboxing,
+	 * so that looping over the list happens only once and no intermediate list is created.
+	 * <p>
+	 * {@code listName} should be the name of the list being tested. It will be included in the exception message for debugging purposes.
+	 * 
+	 * @see #copyIfAllNotNull(List, String)
+	 */
+	public static double[] copyIfAllNotNullToDoubleArray(List<Double> list, String listName)
+	{
+		if (listName == null)
+			throw new NullPointerException("listName cannot be null. This is about the name of the list, not the list itself!");
+		if (list == null)
+			throw Failures.isNull(Subject.LIST, listName);
+		int size = list.size();
+		double[] copy = new double[size];
+		// A CopyOnWriteArrayList can shrink between size() and get(i), so it is copied from the snapshot its iterator works on
+		if (list instanceof RandomAccess && !(list instanceof CopyOnWriteArrayList))
+		{
+			for (int i = 0; i < size; i++)
+			{
+				Double val = list.get(i);
+				if (val == null)
+					throw Failures.nullElement(Subject.LIST, listName, i);
+				copy[i] = val;
+			}
+			return copy;
+		}
+		int index = 0;
+		for (Double val : list)
+		{
+			if (val == null)
+				throw Failures.nullElement(Subject.LIST, listName, index);
+			// The list may be concurrent, so its size can differ from the one reported before iterating
+			if (index == copy.length)
+				copy = Arrays.copyOf(copy, index + (index >> 1) + 1);
+			copy[index++] = val;
+		}
+		return index == copy.length ? copy : Arrays.copyOf(copy, index);
+	}
+
+	/**
+	 * Asserts that the given {@code List} is not null, and that none of its elements are null.
+	 * Returns an immutable <b>copy</b> of the given list if the assertion succeeds.
+	 * <p>
+	 * This is like {@link #copyIfAllNotNull(List, String)}, for when a read-only copy is enough.
+	 * The copy is backed by an exactly sized array, so it takes less memory than an {@code ArrayList}.
+	 * <p>
+	 * If the given list is of a type known to be immutable, such as one returned by {@code List.of}, Guava's {@code ImmutableList}, or a
+	 * previous call to one of these methods, it is checked and then returned as is, without copying. If the type is also known to never
+	 * contain null, the check for null elements is skipped.
+	 * <p>
+	 * {@code listName} should be the name of the list being tested. It will be included in the exception message for debugging purposes.
+	 * 
+	 * @see #copyIfAllNotNull(List, String)
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> List<T> immutableCopyIfAllNotNull(List<? extends T> list, String listName)
+	{
+		if (listName == null)
+			throw new NullPointerException("listName cannot be null. This is about the name of the list, not the list itself!");
+		if (list == null)
+			throw Failures.isNull(Subject.LIST, listName);
+		if (CollectionTraits.has(list, CollectionTraits.IMMUTABLE))
+		{
+			if (!CollectionTraits.cannotContainNull(list))
+				checkElementsNotNull(list, Subject.LIST, listName);
+			return (List<T>) list;
+		}
+		Object[] elements = CompactCollections.toArray(list);
+		for (int i = 0; i < elements.length; i++)
+			if (elements[i] == null)
+				throw Failures.nullElement(Subject.LIST, listName, i);
+		return CompactCollections.list(elements);
+	}
+
+	/**
+	 * Asserts that the given {@code Set} is not null, and that none of its elements are null.
+	 * Returns an immutable <b>copy</b> of the given set if the assertion succeeds.
+	 * <p>
+	 * This is like {@link #copyIfAllNotNull(Set, String)}, for when a read-only copy is enough.
+	 * The copy is a flat hash table with no per-element node objects, so it takes less memory than a {@code HashSet}.
+	 * <p>
+	 * If the given set is of a type known to be immutable, such as one returned by {@code Set.of}, Guava's {@code ImmutableSet}, or a
+	 * previous call to one of these methods, it is checked and then returned as is, without copying. If the type is also known to never
+	 * contain null, the check for null elements is skipped.
+	 * <p>
+	 * {@code setName} should be the name of the set being tested. It will be included in the exception message for debugging purposes.
+	 * 
+	 * @see #copyIfAllNotNull(Set, String)
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Set<T> immutableCopyIfAllNotNull(Set<? extends T> set, String setName)
+	{
+		if (setName == null)
+			throw new NullPointerException("setName cannot be null. This is about the name of the set, not the set itself!");
+		if (set == null)
+			throw Failures.isNull(Subject.SET, setName);
+		if (CollectionTraits.has(set, CollectionTraits.IMMUTABLE))
+		{
+			if (!CollectionTraits.cannotContainNull(set))
+				checkElementsNotNull(set, Subject.SET, setName);
+			return (Set<T>) set;
+		}
+		Object[] elements = CompactCollections.toArray(set);
+		for (int i = 0; i < elements.length; i++)
+			if (elements[i] == null)
+				throw Failures.nullElement(Subject.SET, setName, i);
+		return CompactCollections.set(elements);
+	}
+
+	/**
+	 * Asserts that the given {@code List} is not null, not empty, and that none of its elements are null.
+	 * Returns an immutable <b>copy</b> of the given list if the assertion succeeds.
+	 * <p>
+	 * This is like {@link #copyIfNotEmptyAllNotNull(List, String)}, for when a read-only copy is enough.
+	 * The copy is backed by an exactly sized array, so it takes less memory than an {@code ArrayList}.
+	 * <p>
+	 * If the given list is of a type known to be immutable, such as one returned by {@code List.of}, Guava's {@code ImmutableList}, or a
+	 * previous call to one of these methods, it is checked and then returned as is, without copying. If the type is also known to never
+	 * contain null, the check for null elements is skipped.
+	 * <p>
+	 * {@code listName} should be the name of the list being tested. It will be included in the exception message for debugging purposes.
+	 * 
+	 * @see #copyIfNotEmptyAllNotNull(List, String)
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> List<T> immutableCopyIfNotEmptyAllNotNull(List<? extends T> list, String listName)
+	{
+		if (listName == null)
+			throw new NullPointerException("listName cannot be null. This is about the name of the list, not the list itself!");
+		if (list == null)
+			throw Failures.isNull(Subject.LIST, listName);
+		if (CollectionTraits.has(list, CollectionTraits.IMMUTABLE))
+		{
+			if (list.isEmpty())
+				throw Failures.empty(Subject.LIST, listName);
+			if (!CollectionTraits.cannotContainNull(list))
+				checkElementsNotNull(list, Subject.LIST, listName);
+			return (List<T>) list;
+		}
+		Object[] elements = CompactCollections.toArray(list);
+		if (elements.length == 0)
+			throw Failures.empty(Subject.LIST, listName);
+		for (int i = 0; i < elements.length; i++)
+			if (elements[i] == null)
+				throw Failures.nullElement(Subject.LIST, listName, i);
+		return CompactCollections.list(elements);
+	}
+
+	/**
+	 * Asserts that the given {@code Set} is not null, not empty, and that none of its elements are null.
+	 * Returns an immutable <b>copy</b> of the given set if the assertion succeeds.
+	 * <p>
+	 * This is like {@link #copyIfNotEmptyAllNotNull(Set, String)}, for when a read-only copy is enough.
+	 * The copy is a flat hash table with no per-element node objects, so it takes less memory than a {@code HashSet}.
+	 * <p>
+	 * If the given set is of a type known to be immutable, such as one returned by {@code Set.of}, Guava's {@code ImmutableSet}, or a
+	 * previous call to one of these methods, it is checked and then returned as is, without copying. If the type is also known to never
+	 * contain null, the check for null elements is skipped.
+	 * <p>
+	 * {@code setName} should be the name of the set being tested. It will be included in the exception message for debugging purposes.
+	 * 
+	 * @see #copyIfNotEmptyAllNotNull(Set, String)
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Set<T> immutableCopyIfNotEmptyAllNotNull(Set<? extends T> set, String setName)
+	{
+		if (setName == null)
+			throw new NullPointerException("setName cannot be null. This is about the name of the set, not the set itself!");
+		if (set == null)
+			throw Failures.isNull(Subject.SET, setName);
+		if (CollectionTraits.has(set, CollectionTraits.IMMUTABLE))
+		{
+			if (set.isEmpty())
+				throw Failures.empty(Subject.SET, setName);
+			if (!CollectionTraits.cannotContainNull(set))
+				checkElementsNotNull(set, Subject.SET, setName);
+			return (Set<T>) set;
+		}
+		Object[] elements = CompactCollections.toArray(set);
+		if (elements.length == 0)
+			throw Failures.empty(Subject.SET, setName);
+		for (int i = 0; i < elements.length; i++)
+			if (elements[i] == null)
+				throw Failures.nullElement(Subject.SET, setName, i);
+		return CompactCollections.set(elements);
+	}
+
+	/**
+	 * Asserts that the given {@code List} of Strings is not null, not empty, and that none of its elements are null or empty.
+	 * Returns an immutable <b>copy</b> of the given list if the assertion succeeds.
+	 * <p>
+	 * This is like {@link #copyIfNotEmptyAllNotEmpty(List, String)}, for when a read-only copy is enough.
+	 * The copy is backed by an exactly sized array, so it takes less memory than an {@code ArrayList}.
+	 * <p>
+	 * If the given list is of a type known to be immutable, such as one returned by {@code List.of}, Guava's {@code ImmutableList}, or a
+	 * previous call to one of these methods, it is checked and then returned as is, without copying.
+	 * <p>
+	 * {@code listName} should be the name of the list being tested. It will be included in the exception message for debugging purposes.
+	 * 
+	 * @see #copyIfNotEmptyAllNotEmpty(List, String)
+	 */
+	public static List<String> immutableCopyIfNotEmptyAllNotEmpty(List<String> list, String listName)
+	{
+		if (listName == null)
+			throw new NullPointerException("listName cannot be null. This is about the name of the list, not the list itself!");
+		if (list == null)
+			throw Failures.isNull(Subject.LIST, listName);
+		if (CollectionTraits.has(list, CollectionTraits.IMMUTABLE))
+		{
+			if (list.isEmpty())
+				throw Failures.empty(Subject.LIST, listName);
+			checkElementsNotNullOrEmpty(list, Subject.LIST, listName);
+			return list;
+		}
+		Object[] elements = CompactCollections.toArray(list);
+		if (elements.length == 0)
+			throw Failures.empty(Subject.LIST, listName);
+		for (int i = 0; i < elements.length; i++)
+		{
+			if (elements[i] == null)
+				throw Failures.nullElement(Subject.LIST, listName, i);
+			if (((String) elements[i]).isEmpty())
+				throw Failures.emptyElement(Subject.LIST, listName, i);
+		}
+		return CompactCollections.list(elements);
+	}
+
+	/**
+	 * Asserts that the given {@code Set} of Strings is not null, not empty, and that none of its elements are null or empty.
+	 * Returns an immutable <b>copy</b> of the given set if the assertion succeeds.
+	 * <p>
+	 * This is like {@link #copyIfNotEmptyAllNotEmpty(Set, String)}, for when a read-only copy is enough.
+	 * The copy is a flat hash table with no per-element node objects, so it takes less memory than a {@code HashSet}.
+	 * <p>
+	 * If the given set is of a type known to be immutable, such as one returned by {@code Set.of}, Guava's {@code ImmutableSet}, or a
+	 * previous call to one of these methods, it is checked and then returned as is, without copying.
+	 * <p>
+	 * {@code setName} should be the name of the set being tested. It will be included in the exception message for debugging purposes.
+	 * 
+	 * @see #copyIfNotEmptyAllNotEmpty(Set, String)
+	 */
+	public static Set<String> immutableCopyIfNotEmptyAllNotEmpty(Set<String> set, String setName)
+	{
+		if (setName == null)
+			throw new NullPointerException("setName cannot be null. This is about the name of the set, not the set itself!");
+		if (set == null)
+			throw Failures.isNull(Subject.SET, setName);
+		if (CollectionTraits.has(set, CollectionTraits.IMMUTABLE))
+		{
+			if (set.isEmpty())
+				throw Failures.empty(Subject.SET, setName);
+			checkElementsNotNullOrEmpty(set, Subject.SET, setName);
+			return set;
+		}
+		Object[] elements = CompactCollections.toArray(set);
+		if (elements.length == 0)
+			throw Failures.empty(Subject.SET, setName);
+		for (int i = 0; i < elements.length; i++)
+		{
+			if (elements[i] == null)
+				throw Failures.nullElement(Subject.SET, setName, i);
+			if (((String) elements[i]).isEmpty())
+				throw Failures.emptyElement(Subject.SET, setName, i);
+		}
+		return CompactCollections.set(elements);
+	}
+
+	/**
+	 * Returns a new, empty, mutable list that never contains null: adding or setting a null element fails the same way as
+	 * {@link #allNotNull(Collection, String)} would, immediately and without scanning the list.
+	 * <p>
+	 * This is for building up a list that must pass {@link #allNotNull(Collection, String)} or
+	 * {@link #notEmptyAllNotNull(Collection, String)}, without checking the whole list again after each change. Those methods, and the
+	 * copy methods of this class, recognize the returned list and do not scan its elements. The list is backed by an {@code ArrayList}
+	 * and supports all optional operations.
+	 * <p>
+	 * {@code listName} should be the name of the list. It will be included in exception messages for debugging purposes.
+	 */
+	public static <T> List<T> nonNullList(String listName)
+	{
+		if (listName == null)
+			throw new NullPointerException("listName cannot be null. This is about the name of the list, not the list itself!");
+		return new ValidatedList<>(listName, false);
+	}
+
+	/**
+	 * Returns a new, empty, mutable set that never contains null. See {@link #nonNullList(String)}.
+	 * The set is backed by a {@code LinkedHashSet} and supports all optional operations.
+	 * <p>
+	 * {@code setName} should be the name of the set. It will be included in exception messages for debugging purposes.
+	 */
+	public static <T> Set<T> nonNullSet(String setName)
+	{
+		if (setName == null)
+			throw new NullPointerException("setName cannot be null. This is about the name of the set, not the set itself!");
+		return new ValidatedSet<>(setName, false);
+	}
+
+	/**
+	 * Returns a new, empty, mutable list that never contains a null or empty string. See {@link #nonNullList(String)}.
+	 * {@link #notEmptyAllNotEmpty(Collection, String)} and the copy methods of this class recognize the returned list and only check
+	 * that it is not empty.
+	 * <p>
+	 * {@code listName} should be the name of the list. It will be included in exception messages for debugging purposes.
+	 */
+	public static List<String> nonEmptyStringList(String listName)
+	{
+		if (listName == null)
+			throw new NullPointerException("listName cannot be null. This is about the name of the list, not the list itself!");
+		return new ValidatedList<>(listName, true);
+	}
+
+	/**
+	 * Returns a new, empty, mutable set that never contains a null or empty string. See {@link #nonEmptyStringList(String)}.
+	 * <p>
+	 * {@code setName} should be the name of the set. It will be included in exception messages for debugging purposes.
+	 */
+	public static Set<String> nonEmptyStringSet(String setName)
+	{
+		if (setName == null)
+			throw new NullPointerException("setName cannot be null. This is about the name of the set, not the set itself!");
+		return new ValidatedSet<>(setName, true);
+	}
+
+	/**
+	 * Asserts that the given {@code Collection} is not null and that no two of its elements are equal.
+	 * Returns the given collection if the assertion succeeds.
+	 * <p>
+	 * Sets known to compare their elements with {@code equals}, such as a {@code HashSet}, an {@code EnumSet} or one from
+	 * {@code Set.of}, pass without their elements being examined. Other sets are checked like any collection, since a {@code TreeSet}
+	 * with a comparator, or a set backed by an {@code IdentityHashMap}, can hold elements that are equal.
+	 * <p>
+	 * {@code collectionName} should be the name of the collection being tested.
+	 * It will be included in the exception message for debugging purposes.
+	 */
+	public static <T extends Collection<?>> T allDistinct(T collection, String collectionName)
+	{
+		if (collectionName == null)
+			throw new NullPointerException(
+				"collectionName cannot be null. This is about the name of the collection, not the collection itself!");
+		if (collection == null)
+			throw Failures.isNull(Subject.COLLECTION, collectionName);
+		if (collection.size() < 2 || CollectionTraits.has(collection, CollectionTraits.DISTINCT))
+			return collection;
+		HashSet<Object> seen = new HashSet<>(hashCapacity(collection.size()));
+		int index = 0;
+		for (Object o : collection)
+		{
+			if (!seen.add(o))
+				throw Failures.duplicate(Subject.COLLECTION, collectionName, index, o);
+			index++;
+		}
+		return collection;
+	}
+
+	/**
+	 * Asserts that the given array is not null and that no two of its elements are equal. Returns the given array if the assertion succeeds.
+	 * <p>
+	 * The check uses a primitive open-addressing hash set, so values are not boxed.
+	 * <p>
+	 * {@code arrayName} should be the name of the array being tested.
+	 * It will be included in the exception message for debugging purposes.
+	 */
+	public static long[] allDistinct(long[] array, String arrayName)
+	{
+		if (arrayName == null)
+			throw new NullPointerException("arrayName cannot be null. This is about the name of the array, not the array itself!");
+		if (array == null)
+			throw Failures.isNull(Subject.ARRAY, arrayName);
+		if (array.length < 2)
+			return array;
+		LongHashSet seen = new LongHashSet(array.length);
+		int index = 0;
+		for (long val : array)
+		{
+			if (!seen.add(val))
+				throw Failures.duplicate(Subject.ARRAY, arrayName, index, val);
+			index++;
+		}
+		return array;
+	}
+
+	/**
+	 * Asserts that the given array is not null and that no two of its elements are equal. Returns the given array if the assertion succeeds.
+	 * <p>
+	 * The check uses a primitive open-addressing hash set, so values are not boxed.
+	 * <p>
+	 * {@code arrayName} should be the name of the array being tested.
+	 * It will be included in the exception message for debugging purposes.
+	 */
+	public static int[] allDistinct(int[] array, String arrayName)
+	{
+		if (arrayName == null)
+			throw new NullPointerException("arrayName cannot be null. This is about the name of the array, not the array itself!");
+		if (array == null)
+			throw Failures.isNull(Subject.ARRAY, arrayName);
+		if (array.length < 2)
+			return array;
+		LongHashSet seen = new LongHashSet(array.length);
+		int index = 0;
+		for (int val : array)
+		{
+			if (!seen.add(val))
+				throw Failures.duplicate(Subject.ARRAY, arrayName, index, val);
+			index++;
+		}
+		return array;
+	}
+
+	/**
+	 * Asserts that the given array is not null and is sorted in non-decreasing order, i.e., no element is less than the one before it.
+	 * Returns the given array if the assertion succeeds.
+	 * <p>
+	 * {@code arrayName} should be the name of the array being tested.
+	 * It will be included in the exception message for debugging purposes.
+	 */
+	public static long[] sorted(long[] array, String arrayName)
+	{
+		if (arrayName == null)
+			throw new NullPointerException("arrayName cannot be null. This is about the name of the array, not the array itself!");
+		if (array == null)
+			throw Failures.isNull(Subject.ARRAY, arrayName);
+		for (int i = 1; i < array.length; i++)
+			if (array[i] < array[i - 1])
+				throw Failures.outOfOrder(CheckKind.NOT_SORTED, Subject.ARRAY, arrayName, i, array[i], array[i - 1]);
+		return array;
+	}
+
+	/**
+	 * Asserts that the given array is not null and is sorted in non-decreasing order, i.e., no element is less than the one before it.
+	 * Returns the given array if the assertion succeeds.
+	 * <p>
+	 * NaN is not ordered relative to any value, so an array containing NaN does not pass, unless it is the only element.
+	 * <p>
+	 * {@code arrayName} should be the name of the array being tested.
+	 * It will be included in the exception message for debugging purposes.
+	 */
+	public static double[] sorted(double[] array, String arrayName)
+	{
+		if (arrayName == null)
+			throw new NullPointerException("arrayName cannot be null. This is about the name of the array, not the array itself!");
+		if (array == null)
+			throw Failures.isNull(Subject.ARRAY, arrayName);
+		for (int i = 1; i < array.length; i++)
+			if (!(array[i] >= array[i - 1]))
+				throw Failures.outOfOrder(CheckKind.NOT_SORTED, Subject.ARRAY, arrayName, i, array[i], array[i - 1]);
+		return array;
+	}
+
+	/**
+	 * Asserts that the given {@code List} is not null, that none of its elements are null, and that it is sorted in non-decreasing order
+	 * according to the elements' natural ordering. Returns the given list if the assertion succeeds.
+	 * <p>
+	 * {@code listName} should be the name of the list being tested. It will be included in the exception message for debugging purposes.
+	 */
+	public static <T extends Comparable<? super T>, L extends List<T>> L sorted(L list, String listName)
+	{
+		if (listName == null)
+			throw new NullPointerException("listName cannot be null. This is about the name of the list, not the list itself!");
+		if (list == null)
+			throw Failures.isNull(Subject.LIST, listName);
+		T previous = null;
+		int i = 0;
+		for (T t : list)
+		{
+			if (t == null)
+				throw Failures.nullElement(Subject.LIST, listName, i);
+			if (previous != null && t.compareTo(previous) < 0)
+				throw Failures.outOfOrder(CheckKind.NOT_SORTED, Subject.LIST, listName, i, t, previous);
+			previous = t;
+			i++;
+		}
+		return list;
+	}
+
+	/**
+	 * Asserts that the given array is not null and is strictly increasing, i.e., every element is greater than the one before it.
+	 * Returns the given array if the assertion succeeds.
+	 * <p>
+	 * {@code arrayName} should be the name of the array being tested.
+	 * It will be included in the exception message for debugging purposes.
+	 */
+	public static long[] strictlyIncreasing(long[] array, String arrayName)
+	{
+		if (arrayName == null)
+			throw new NullPointerException("arrayName cannot be null. This is about the name of the array, not the array itself!");
+		if (array == null)
+			throw Failures.isNull(Subject.ARRAY, arrayName);
+		for (int i = 1; i < array.length; i++)
+			if (array[i] <= array[i - 1])
+				throw Failures.outOfOrder(CheckKind.NOT_STRICTLY_INCREASING, Subject.ARRAY, arrayName, i, array[i], array[i - 1]);
+		return array;
+	}
+
+	/**
+	 * Asserts that the given array is not null and is strictly increasing, i.e., every element is greater than the one before it.
+	 * Returns the given array if the assertion succeeds.
+	 * <p>
+	 * NaN is not ordered relative to any value, so an array containing NaN does not pass, unless it is the only element.
+	 * <p>
+	 * {@code arrayName} should be the name of the array being tested.
+	 * It will be included in the exception message for debugging purposes.
+	 */
+	public static double[] strictlyIncreasing(double[] array, String arrayName)
+	{
+		if (arrayName == null)
+			throw new NullPointerException("arrayName cannot be null. This is about the name of the array, not the array itself!");
+		if (array == null)
+			throw Failures.isNull(Subject.ARRAY, arrayName);
+		for (int i = 1; i < array.length; i++)
+			if (!(array[i] > array[i - 1]))
+				throw Failures.outOfOrder(CheckKind.NOT_STRICTLY_INCREASING, Subject.ARRAY, arrayName, i, array[i], array[i - 1]);
+		return array;
+	}
+
+	/**
+	 * Asserts that the given {@code List} is not null, that none of its elements are null, and that it is strictly increasing according to
+	 * the elements' natural ordering, i.e., every element is greater than the one before it. Returns the given list if the assertion
+	 * succeeds.
+	 * <p>
+	 * {@code listName} should be the name of the list being tested. It will be included in the exception message for debugging purposes.
+	 */
+	public static <T extends Comparable<? super T>, L extends List<T>> L strictlyIncreasing(L list, String listName)
+	{
+		if (listName == null)
+			throw new NullPointerException("listName cannot be null. This is about the name of the list, not the list itself!");
+		if (list == null)
+			throw Failures.isNull(Subject.LIST, listName);
+		T previous = null;
+		int i = 0;
+		for (T t : list)
+		{
+			if (t == null)
+				throw Failures.nullElement(Subject.LIST, listName, i);
+			if (previous != null && t.compareTo(previous) <= 0)
+				throw Failures.outOfOrder(CheckKind.NOT_STRICTLY_INCREASING, Subject.LIST, listName, i, t, previous);
+			previous = t;
+			i++;
+		}
+		return list;
+	}
+
+	/**
+	 * Asserts that the given object is not null and, if it is a collection, map or object array, that nothing nested within it is null,
+	 * however deeply: no element, key or value, and nothing within those. Returns the given object if the assertion succeeds.
+	 * <p>
+	 * The object is walked in a single pass, without recursion, and each collection, map or array is walked only once, so cycles are
+	 * allowed. Nesting more than {@value #DEFAULT_MAX_DEPTH} levels deep, counting the given object as the first, fails the assertion. The
+	 * exception message includes the path to the failing value, such as {@code payload[3].tags[7]}.
+	 * <p>
+	 * {@code variableName} should be the name of the variable being tested. It will be included in the exception message for debugging
+	 * purposes.
+	 * 
+	 * @see #deepAllNotNull(Object, int, String)
+	 * @see #deepNotEmptyAllNotEmpty(Object, String)
+	 */
+	public static <T> T deepAllNotNull(T object, String variableName)
+	{
+		return deepAllNotNull(object, DEFAULT_MAX_DEPTH, variableName);
+	}
+
+	/**
+	 * Same as {@link #deepAllNotNull(Object, String)}, but fails if collections, maps or arrays are nested more than {@code maxDepth}
+	 * levels deep, counting the given object as the first. {@code maxDepth} must be positive.
+	 */
+	public static <T> T deepAllNotNull(T object, int maxDepth, String variableName)
+	{
+		if (variableName == null)
+			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
+		if (maxDepth < 1)
+			throw new IllegalArgumentException("maxDepth must be positive. Was " + maxDepth);
+		DeepValidation.check(object, variableName, false, maxDepth);
+		return object;
+	}
+
+	/**
+	 * Same as {@link #deepAllNotNull(Object, String)}, but also asserts that neither the given object nor anything nested within it is an
+	 * empty string, collection, map or array.
+	 * 
+	 * @see #deepNotEmptyAllNotEmpty(Object, int, String)
+	 */
+	public static <T> T deepNotEmptyAllNotEmpty(T object, String variableName)
+	{
+		return deepNotEmptyAllNotEmpty(object, DEFAULT_MAX_DEPTH, variableName);
+	}
+
+	/**
+	 * Same as {@link #deepNotEmptyAllNotEmpty(Object, String)}, but fails if collections, maps or arrays are nested more than
+	 * {@code maxDepth} levels deep, counting the given object as the first. {@code maxDepth} must be positive.
+	 */
+	public static <T> T deepNotEmptyAllNotEmpty(T object, int maxDepth, String variableName)
+	{
+		if (variableName == null)
+			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
+		if (maxDepth < 1)
+			throw new IllegalArgumentException("maxDepth must be positive. Was " + maxDepth);
+		DeepValidation.check(object, variableName, true, maxDepth);
+		return object;
+	}
+
+	/**
+	 * Asserts that the given object is not null and that its fields pass the given {@link Rules}.
+	 * Returns the given object if the assertion succeeds.
+	 * <p>
+	 * This is meant for objects whose classes cannot be annotated for compile-time checks. Fields are read through {@code MethodHandle}
+	 * getters that are resolved once per class and cached, and each field is then checked with the corresponding method of this class,
+	 * using the field name as the variable name in the exception message.
+	 *
+	 * @see Rules
+	 */
+	public static <T> T validateFields(T object, Rules rules)
+	{
+		if (rules == null)
+			throw new NullPointerException("rules cannot be null");
+		if (object == null)
+			throw new NullPointerException("Object whose fields are to be validated cannot be null");
+		rules.check(object);
+		return object;
+	}
+
+	// compareTo already compares compact values of equal scale as longs, and reading the unscaled value ourselves would allocate a
+	// BigInteger, so the only case left to shortcut is comparing an instance with itself, as with shared constants like ZERO. Null
+	// still fails in compareTo.
+	private static int compare(BigDecimal val, BigDecimal referenceVal)
+	{
+		return val == referenceVal && val != null ? 0 : val.compareTo(referenceVal);
+	}
+
+	// Compares in seconds and nanoseconds, as Instant does, without creating an Instant for the current time
+	private static void checkNotExpired(Instant deadline, long currentTimeMillis, String variableName)
+	{
+		long overdueSeconds = Math.floorDiv(currentTimeMillis, 1000L) - deadline.getEpochSecond();
+		long overdueNanos = Math.floorMod(currentTimeMillis, 1000L) * 1_000_000 - deadline.getNano();
+		if (overdueSeconds > 0 || overdueSeconds == 0 && overdueNanos > 0)
+		{
+			// Saturates for deadlines more than about 292 years ago
+			long totalNanos = overdueSeconds >= Long.MAX_VALUE / 1_000_000_000L - 1 ? Long.MAX_VALUE
+				: overdueSeconds * 1_000_000_000L + overdueNanos;
+			throw Failures.expired(variableName, totalNanos);
+		}
+	}
+
+	private static void checkElementsNotNull(Collection<?> collection, Subject subject, String name)
+	{
+		int index = 0;
+		for (Object o : collection)
+		{
+			if (o == null)
+				throw Failures.nullElement(subject, name, index);
+			index++;
+		}
+	}
+
+	private static void checkElementsNotNullOrEmpty(Collection<String> collection, Subject subject, String name)
+	{
+		int index = 0;
+		for (String s : collection)
+		{
+			if (s == null)
+				throw Failures.nullElement(subject, name, index);
+			if (s.isEmpty())
+				throw Failures.emptyElement(subject, name, index);
+			index++;
+		}
+	}
+
+	// Initial capacity for a HashSet or HashMap to hold the given number of elements without rehashing at the default load factor
+	private static int hashCapacity(int size)
+	{
+		return size < (1 << 29) ? size + size / 3 + 1 : Integer.MAX_VALUE;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.zieglersoftware.assertions;
+
+/**
+ * Finds the caller of a failing check, for {@link FailurePolicy#callerOnly()}: the first frame of the current thread's stack outside
+ * this library's package.
+ * <p>
+ * This is the Java 8 version, which has to capture the full stack trace to find it. Java 9 and later use the version in
+ * {@code src/main/java9}, from the {@code META-INF/versions/9} layer of the jar, which walks only as far as the caller.
+ */
+final class CallerCapture
+{
+	private static final String PACKAGE_PREFIX = CallerCapture.class.getPackage().getName() + ".";
+
+	// Do not instantiate
+	private CallerCapture()
+	{
+	}
+
+	/**
+	 * Returns the caller, or null if the whole stack is within this library.
+	 */
+	static StackTraceElement caller()
+	{
+		for (StackTraceElement element : new Throwable().getStackTrace())
+			if (!isLibrary(element.getClassName()))
+				return element;
+		return null;
+	}
+
+	// Subpackages, such as those of the annotations and the annotation processor, never call the checks, so they are not skipped
+	static boolean isLibrary(String className)
+	{
+		return className.startsWith(PACKAGE_PREFIX) && className.indexOf('.', PACKAGE_PREFIX.length()) < 0;
+	}
+}
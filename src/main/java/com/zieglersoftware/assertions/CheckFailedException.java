@@ -0,0 +1,89 @@
+package com.zieglersoftware.assertions;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
+/**
+ * Thrown by the methods of {@link Assertions} when a check fails because of a value that is present but wrong, e.g., out of range,
+ * empty or not equal to the expected value.
+ * <p>
+ * The message is rendered from the raw values of the check the first time it is requested. See {@link CheckFailure}.
+ */
+public class CheckFailedException extends IllegalStateException implements CheckFailure
+{
+	private static final long serialVersionUID = 1L;
+
+	private transient Failure failure;
+	private volatile String message;
+
+	CheckFailedException(Failure failure)
+	{
+		this.failure = failure;
+	}
+
+	@Override
+	public String getMessage()
+	{
+		String message = this.message;
+		if (message == null)
+			this.message = message = failure.render();
+		return message;
+	}
+
+	@Override
+	public CheckKind getCheckKind()
+	{
+		return failure == null ? null : failure.kind;
+	}
+
+	@Override
+	public String getVariableName()
+	{
+		return failure == null ? null : failure.name;
+	}
+
+	@Override
+	public Object getActualValue()
+	{
+		return failure == null ? null : failure.actual();
+	}
+
+	@Override
+	public Object[] getReferenceValues()
+	{
+		return failure == null ? null : failure.copyOfReferences();
+	}
+
+	@Override
+	public int getIndex()
+	{
+		return failure == null ? -1 : failure.index;
+	}
+
+	// The raw values need not be serializable, so only the rendered message is written
+	private void writeObject(ObjectOutputStream out) throws IOException
+	{
+		getMessage();
+		out.defaultWriteObject();
+	}
+
+	/**
+	 * Thrown instead during a storm of failures, as decided by {@link FailurePolicy}. It has no stack trace, which is most of the cost
+	 * of creating an exception.
+	 */
+	static final class Stackless extends CheckFailedException
+	{
+		private static final long serialVersionUID = 1L;
+
+		Stackless(Failure failure)
+		{
+			super(failure);
+		}
+
+		@Override
+		public synchronized Throwable fillInStackTrace()
+		{
+			return this;
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package com.zieglersoftware.assertions;
+
+/**
+ * The details of a failed check, implemented by the exceptions that the methods of {@link Assertions} throw when a check fails:
+ * {@link CheckFailedException} and {@link NullCheckFailedException}.
+ * <p>
+ * These exceptions keep the raw values of the check and only render their message the first time {@link Throwable#getMessage()} is
+ * called, so catching and discarding them does not pay for string building or for calling {@code toString} on the values. Code that
+ * handles failures programmatically can use the accessors here instead of parsing the message.
+ * <p>
+ * The values are not copied, so they reflect any changes made to mutable values after the check failed. If an exception is serialized,
+ * only its rendered message is kept, and the accessors of the deserialized exception return null or -1.
+ */
+public interface CheckFailure
+{
+	/**
+	 * Returns the kind of check that failed.
+	 */
+	CheckKind getCheckKind();
+
+	/**
+	 * Returns the name of the variable, string, collection or array that was tested, as given to the check.
+	 */
+	String getVariableName();
+
+	/**
+	 * Returns the value that failed the check, or null if there is none, e.g., for a null or empty check.
+	 * Primitive values are boxed.
+	 */
+	Object getActualValue();
+
+	/**
+	 * Returns a copy of the reference values the actual value was checked against, e.g., the bounds of a {@code between} check.
+	 * The array is empty if there are none.
+	 */
+	Object[] getReferenceValues();
+
+	/**
+	 * Returns the position of the element that failed the check, in iteration order, for checks of the elements of collections and arrays,
+	 * or -1 for other checks.
+	 */
+	int getIndex();
+}
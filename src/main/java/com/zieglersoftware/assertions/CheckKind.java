@@ -0,0 +1,50 @@
+package com.zieglersoftware.assertions;
+
+/**
+ * The kind of check that failed, as reported by {@link CheckFailure#getCheckKind()}.
+ */
+public enum CheckKind
+{
+	/** The tested value was null. */
+	NULL,
+	/** The tested string or collection was empty. */
+	EMPTY,
+	/** The tested {@code Optional} was not present. */
+	NOT_PRESENT,
+	/** The tested value was not equal to the reference value. */
+	EQUAL,
+	/** The tested value was equal to the reference value. */
+	NOT_EQUAL,
+	/** The tested value was not greater than the reference value. */
+	GREATER,
+	/** The tested value was greater than the reference value. */
+	NOT_GREATER,
+	/** The tested value was not less than the reference value. */
+	LESS,
+	/** The tested value was less than the reference value. */
+	NOT_LESS,
+	/** The tested value was outside the range given by the two reference values. */
+	BETWEEN,
+	/** The tested value was not a member of the reference set. */
+	ONE_OF,
+	/** The tested value was a member of the reference set. */
+	NONE_OF,
+	/** An element of the tested collection was null. */
+	NULL_ELEMENT,
+	/** A string in the tested collection was empty. */
+	EMPTY_ELEMENT,
+	/** The tested collection or array contained the actual value more than once. */
+	DUPLICATE,
+	/** The element of the tested list or array at the reported index was less than the element before it. */
+	NOT_SORTED,
+	/** The element of the tested list or array at the reported index was not greater than the element before it. */
+	NOT_STRICTLY_INCREASING,
+	/** A value nested within the tested value was null. The actual value is the path to it. */
+	NESTED_NULL,
+	/** The tested value, or a string, collection, map or array nested within it, was empty. The actual value is the path to it. */
+	NESTED_EMPTY,
+	/** The tested value was nested more deeply than the reference value allows. The actual value is the path to the excess. */
+	TOO_DEEP,
+	/** The tested deadline had passed. The actual value is how long ago, in nanoseconds. */
+	EXPIRED
+}
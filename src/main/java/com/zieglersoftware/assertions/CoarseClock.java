@@ -0,0 +1,76 @@
+package com.zieglersoftware.assertions;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A clock that is read from {@code volatile} fields instead of the system clocks, for deadline checks on hot paths where calling
+ * {@link System#nanoTime()} each time costs more than it is worth.
+ * <p>
+ * A single daemon thread, started the first time {@link #get()} is called, copies {@link System#nanoTime()} and
+ * {@link System#currentTimeMillis()} into the fields about once every {@link #RESOLUTION_NANOS} nanoseconds. Reading the clock is then
+ * as cheap as reading a field, but its values lag the system clocks by up to the resolution, plus however long the operating system
+ * delays the thread. Deadline checks made with it can therefore pass slightly after the deadline, never before.
+ */
+public final class CoarseClock
+{
+	/**
+	 * How often, in nanoseconds, the clock is advanced.
+	 */
+	public static final long RESOLUTION_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+	private volatile long nanoTime = System.nanoTime();
+	private volatile long currentTimeMillis = System.currentTimeMillis();
+
+	private CoarseClock()
+	{
+	}
+
+	/**
+	 * Returns the clock, starting it if this is the first call.
+	 */
+	public static CoarseClock get()
+	{
+		return Holder.INSTANCE;
+	}
+
+	/**
+	 * Returns the value of {@link System#nanoTime()} as of the latest tick.
+	 */
+	public long nanoTime()
+	{
+		return nanoTime;
+	}
+
+	/**
+	 * Returns the value of {@link System#currentTimeMillis()} as of the latest tick.
+	 */
+	public long currentTimeMillis()
+	{
+		return currentTimeMillis;
+	}
+
+	private void tick()
+	{
+		while (true)
+		{
+			nanoTime = System.nanoTime();
+			currentTimeMillis = System.currentTimeMillis();
+			LockSupport.parkNanos(RESOLUTION_NANOS);
+		}
+	}
+
+	private static final class Holder
+	{
+		static final CoarseClock INSTANCE = start();
+
+		private static CoarseClock start()
+		{
+			CoarseClock clock = new CoarseClock();
+			Thread ticker = new Thread(clock::tick, "assertions-coarse-clock");
+			ticker.setDaemon(true);
+			ticker.start();
+			return clock;
+		}
+	}
+}
@@ -0,0 +1,192 @@
+package com.zieglersoftware.assertions;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * Recognizes collection types whose instances are known to be immutable, known to never contain null or known to hold distinct
+ * elements, so that checks and copies can skip work that cannot find anything. Types are recognized by class name, so no dependency on Guava or on a particular JDK version is
+ * needed, and the result is cached per class.
+ * <p>
+ * {@link #cannotContainNull(Collection)} also accepts collections whose {@link Spliterator} reports {@link Spliterator#NONNULL}, such as
+ * the concurrent collections, {@code ArrayDeque} and {@code PriorityQueue}. Creating a spliterator usually allocates, so each class is
+ * asked only while it keeps reporting {@code NONNULL}: classes that inherit a default {@code spliterator} method are never asked, and a
+ * class is no longer asked once one of its instances does not report it.
+ * <p>
+ * Only types whose instances can never change are immutable here. Unmodifiable views, such as those from
+ * {@link java.util.Collections#unmodifiableList(java.util.List)}, are not, since the collection they wrap can still change. Types that are
+ * not recognized have no traits, and are checked and copied as usual.
+ */
+final class CollectionTraits
+{
+	/**
+	 * The instances cannot change after they are created.
+	 */
+	static final int IMMUTABLE = 1;
+
+	/**
+	 * The instances never contain null.
+	 */
+	static final int NULL_HOSTILE = 2;
+
+	/**
+	 * The instances are sets that compare elements with {@code equals}, so no two of their elements are equal. Sets that compare with
+	 * a {@code Comparator} or by identity, such as a {@code TreeSet} or a set view of an {@code IdentityHashMap}, do not have this trait.
+	 */
+	static final int DISTINCT = 4;
+
+	private static final ClassValue<Integer> TRAITS = new ClassValue<Integer>()
+	{
+		@Override
+		protected Integer computeValue(Class<?> type)
+		{
+			return compute(type);
+		}
+	};
+
+	private static final ClassValue<SpliteratorProbe> PROBES = new ClassValue<SpliteratorProbe>()
+	{
+		@Override
+		protected SpliteratorProbe computeValue(Class<?> type)
+		{
+			return new SpliteratorProbe(mayReportNonNull(type));
+		}
+	};
+
+	// Do not instantiate
+	private CollectionTraits()
+	{
+	}
+
+	/**
+	 * Returns whether the given collection has all of the given traits.
+	 */
+	static boolean has(Collection<?> collection, int traits)
+	{
+		return (TRAITS.get(collection.getClass()) & traits) == traits;
+	}
+
+	/**
+	 * Returns whether the given collection is known to never contain null, either because of its type or because its spliterator reports
+	 * {@link Spliterator#NONNULL}.
+	 */
+	static boolean cannotContainNull(Collection<?> collection)
+	{
+		if (has(collection, NULL_HOSTILE))
+			return true;
+		SpliteratorProbe probe = PROBES.get(collection.getClass());
+		if (!probe.ask)
+			return false;
+		if ((collection.spliterator().characteristics() & Spliterator.NONNULL) != 0)
+			return true;
+		// Racy, but any thread that sees the old value just asks once more
+		probe.ask = false;
+		return false;
+	}
+
+	/**
+	 * Returns whether the given collection of strings is known to never contain null or an empty string.
+	 */
+	static boolean cannotContainNullOrEmpty(Collection<? extends String> collection)
+	{
+		return collection instanceof ValidatedCollection && ((ValidatedCollection) collection).rejectsEmptyStrings();
+	}
+
+	private static int compute(Class<?> type)
+	{
+		return computeContents(type) | (isEqualsBasedSet(type) ? DISTINCT : 0);
+	}
+
+	private static int computeContents(Class<?> type)
+	{
+		if (type.getEnclosingClass() == CompactCollections.class)
+			return IMMUTABLE | NULL_HOSTILE;
+		switch (type.getName())
+		{
+		// List.of, Set.of and their copyOf forms. ListN also backs Stream.toList, which permits null.
+		case "java.util.ImmutableCollections$List12":
+		case "java.util.ImmutableCollections$Set12":
+		case "java.util.ImmutableCollections$SetN":
+			return IMMUTABLE | NULL_HOSTILE;
+		case "java.util.ImmutableCollections$ListN":
+		case "java.util.ImmutableCollections$SubList":
+			return IMMUTABLE;
+		case "java.util.Collections$EmptyList":
+		case "java.util.Collections$EmptySet":
+			return IMMUTABLE | NULL_HOSTILE;
+		case "java.util.Collections$SingletonList":
+		case "java.util.Collections$SingletonSet":
+			return IMMUTABLE;
+		default:
+			break;
+		}
+		if (EnumSet.class.isAssignableFrom(type) || ValidatedCollection.class.isAssignableFrom(type))
+			return NULL_HOSTILE;
+		for (Class<?> c = type; c != null; c = c.getSuperclass())
+			if (c.getName().equals("com.google.common.collect.ImmutableCollection"))
+				return IMMUTABLE | NULL_HOSTILE;
+		return 0;
+	}
+
+	private static boolean isEqualsBasedSet(Class<?> type)
+	{
+		if (!Set.class.isAssignableFrom(type))
+			return false;
+		if (type.getEnclosingClass() == CompactCollections.class || HashSet.class.isAssignableFrom(type)
+			|| EnumSet.class.isAssignableFrom(type) || ValidatedSet.class.isAssignableFrom(type)
+			|| CopyOnWriteArraySet.class.isAssignableFrom(type) || ConcurrentHashMap.KeySetView.class.isAssignableFrom(type))
+			return true;
+		switch (type.getName())
+		{
+		case "java.util.ImmutableCollections$Set12":
+		case "java.util.ImmutableCollections$SetN":
+		case "java.util.Collections$EmptySet":
+		case "java.util.Collections$SingletonSet":
+			return true;
+		default:
+			break;
+		}
+		// ImmutableSortedSet also extends ImmutableSet, but compares with its comparator
+		for (Class<?> c = type; c != null; c = c.getSuperclass())
+			if (c.getName().equals("com.google.common.collect.ImmutableSortedSet"))
+				return false;
+		for (Class<?> c = type; c != null; c = c.getSuperclass())
+			if (c.getName().equals("com.google.common.collect.ImmutableSet"))
+				return true;
+		return false;
+	}
+
+	// The default spliterator methods of the collection interfaces never report NONNULL
+	private static boolean mayReportNonNull(Class<?> type)
+	{
+		Class<?> declaringClass;
+		try
+		{
+			declaringClass = type.getMethod("spliterator").getDeclaringClass();
+		}
+		catch (NoSuchMethodException e)
+		{
+			// Native images only answer for the types registered in META-INF/native-image. Asking is always correct, just slower.
+			return true;
+		}
+		return declaringClass != Iterable.class && declaringClass != Collection.class && declaringClass != List.class
+			&& declaringClass != Set.class && declaringClass != SortedSet.class;
+	}
+
+	private static final class SpliteratorProbe
+	{
+		boolean ask;
+
+		SpliteratorProbe(boolean ask)
+		{
+			this.ask = ask;
+		}
+	}
+}
@@ -0,0 +1,264 @@
+package com.zieglersoftware.assertions;
+
+/**
+ * Batch forms of the checks in {@link Assertions} for data stored in columns, i.e., one array per field with one element per row.
+ * <p>
+ * Instead of throwing at the first failing row, each method checks every row and returns a bitmap of the rows that failed. A bitmap is a
+ * {@code long[]} of {@code (rows + 63) / 64} words in which row {@code i} is bit {@code i % 64} of word {@code i / 64}. This is the same
+ * layout as {@link java.util.BitSet#valueOf(long[])}, so a bitmap can be wrapped in a {@code BitSet} if convenient. Bitmaps from several
+ * columns of the same batch can be combined with {@link #or(long[], long[])} and {@link #and(long[], long[])}, and the results inspected
+ * with {@link #cardinality(long[])}, {@link #isSet(long[], int)} and {@link #nextSetBit(long[], int)}.
+ * <p>
+ * The numeric checks compute each row's bit with arithmetic rather than a conditional branch, and assemble a full word before storing it,
+ * so their cost does not depend on how many rows fail or how those rows are distributed.
+ * <p>
+ * {@code columnName} should be the name of the column being tested. It will be included in the exception message if the column is null.
+ */
+public final class Columns
+{
+	// Do not instantiate
+	private Columns()
+	{
+	}
+
+	/**
+	 * Returns a bitmap of the rows whose value is not between the two given reference values, inclusive.
+	 * {@code lowReferenceVal} must not be greater than {@code highReferenceVal}.
+	 *
+	 * @see Assertions#between(long, long, long, String)
+	 */
+	public static long[] between(long[] column, long lowReferenceVal, long highReferenceVal, String columnName)
+	{
+		checkColumn(column, columnName);
+		if (lowReferenceVal > highReferenceVal)
+			throw new IllegalArgumentException("lowReferenceVal cannot be greater than highReferenceVal");
+		// val is in range exactly when (val - low) <= (high - low) as unsigned values; failing rows are those where the unsigned subtraction
+		// (high - low) - (val - low) borrows
+		long range = highReferenceVal - lowReferenceVal;
+		long[] failing = new long[words(column.length)];
+		for (int w = 0, base = 0; base < column.length; w++, base += 64)
+		{
+			int end = Math.min(64, column.length - base);
+			long bits = 0;
+			for (int b = 0; b < end; b++)
+			{
+				long offset = column[base + b] - lowReferenceVal;
+				long borrow = ((~range & offset) | (~(range ^ offset) & (range - offset))) >>> 63;
+				bits |= borrow << b;
+			}
+			failing[w] = bits;
+		}
+		return failing;
+	}
+
+	/**
+	 * Returns a bitmap of the rows whose value is not between the two given reference values, inclusive.
+	 * {@code lowReferenceVal} must not be greater than {@code highReferenceVal}, and neither may be NaN.
+	 * As with {@link Assertions#between(double, double, double, String)}, a NaN row does not fail.
+	 */
+	public static long[] between(double[] column, double lowReferenceVal, double highReferenceVal, String columnName)
+	{
+		checkColumn(column, columnName);
+		if (!(lowReferenceVal <= highReferenceVal))
+			throw new IllegalArgumentException("lowReferenceVal cannot be greater than highReferenceVal, and neither can be NaN");
+		long[] failing = new long[words(column.length)];
+		for (int w = 0, base = 0; base < column.length; w++, base += 64)
+		{
+			int end = Math.min(64, column.length - base);
+			long bits = 0;
+			for (int b = 0; b < end; b++)
+			{
+				double val = column[base + b];
+				bits |= ((val < lowReferenceVal) | (val > highReferenceVal) ? 1L : 0L) << b;
+			}
+			failing[w] = bits;
+		}
+		return failing;
+	}
+
+	/**
+	 * Returns a bitmap of the rows whose value is not greater than the given reference value.
+	 *
+	 * @see Assertions#greater(long, long, String)
+	 */
+	public static long[] greater(long[] column, long referenceVal, String columnName)
+	{
+		checkColumn(column, columnName);
+		long[] failing = new long[words(column.length)];
+		for (int w = 0, base = 0; base < column.length; w++, base += 64)
+		{
+			int end = Math.min(64, column.length - base);
+			long bits = 0;
+			for (int b = 0; b < end; b++)
+			{
+				// Overflow-safe signed referenceVal < val, from Hacker's Delight 2-12; the row fails when it is 0
+				long val = column[base + b];
+				long difference = referenceVal - val;
+				long less = (difference ^ ((referenceVal ^ val) & (difference ^ referenceVal))) >>> 63;
+				bits |= (less ^ 1) << b;
+			}
+			failing[w] = bits;
+		}
+		return failing;
+	}
+
+	/**
+	 * Returns a bitmap of the rows whose value is not greater than the given reference value. NaN is not greater than anything, so it fails.
+	 *
+	 * @see Assertions#greater(double, double, String)
+	 */
+	public static long[] greater(double[] column, double referenceVal, String columnName)
+	{
+		checkColumn(column, columnName);
+		long[] failing = new long[words(column.length)];
+		for (int w = 0, base = 0; base < column.length; w++, base += 64)
+		{
+			int end = Math.min(64, column.length - base);
+			long bits = 0;
+			for (int b = 0; b < end; b++)
+				bits |= (column[base + b] > referenceVal ? 0L : 1L) << b;
+			failing[w] = bits;
+		}
+		return failing;
+	}
+
+	/**
+	 * Returns a bitmap of the rows whose value is null.
+	 *
+	 * @see Assertions#notNull(Object, String)
+	 */
+	public static long[] notNull(Object[] column, String columnName)
+	{
+		checkColumn(column, columnName);
+		long[] failing = new long[words(column.length)];
+		for (int w = 0, base = 0; base < column.length; w++, base += 64)
+		{
+			int end = Math.min(64, column.length - base);
+			long bits = 0;
+			for (int b = 0; b < end; b++)
+				bits |= (column[base + b] == null ? 1L : 0L) << b;
+			failing[w] = bits;
+		}
+		return failing;
+	}
+
+	/**
+	 * Returns a bitmap of the rows whose string is null or empty.
+	 *
+	 * @see Assertions#notEmpty(String, String)
+	 */
+	public static long[] notEmpty(String[] column, String columnName)
+	{
+		checkColumn(column, columnName);
+		long[] failing = new long[words(column.length)];
+		for (int w = 0, base = 0; base < column.length; w++, base += 64)
+		{
+			int end = Math.min(64, column.length - base);
+			long bits = 0;
+			for (int b = 0; b < end; b++)
+			{
+				String s = column[base + b];
+				bits |= (s == null || s.isEmpty() ? 1L : 0L) << b;
+			}
+			failing[w] = bits;
+		}
+		return failing;
+	}
+
+	/**
+	 * Returns a new bitmap of the rows set in either of the given bitmaps, e.g., the rows that failed any of two checks.
+	 * The bitmaps must be for the same number of rows.
+	 */
+	public static long[] or(long[] bitmap1, long[] bitmap2)
+	{
+		checkSameLength(bitmap1, bitmap2);
+		long[] result = new long[bitmap1.length];
+		for (int i = 0; i < result.length; i++)
+			result[i] = bitmap1[i] | bitmap2[i];
+		return result;
+	}
+
+	/**
+	 * Returns a new bitmap of the rows set in both of the given bitmaps, e.g., the rows that failed both of two checks.
+	 * The bitmaps must be for the same number of rows.
+	 */
+	public static long[] and(long[] bitmap1, long[] bitmap2)
+	{
+		checkSameLength(bitmap1, bitmap2);
+		long[] result = new long[bitmap1.length];
+		for (int i = 0; i < result.length; i++)
+			result[i] = bitmap1[i] & bitmap2[i];
+		return result;
+	}
+
+	/**
+	 * Returns the number of rows set in the given bitmap.
+	 */
+	public static int cardinality(long[] bitmap)
+	{
+		if (bitmap == null)
+			throw new NullPointerException("bitmap cannot be null");
+		int count = 0;
+		for (long word : bitmap)
+			count += Long.bitCount(word);
+		return count;
+	}
+
+	/**
+	 * Returns whether the given row is set in the given bitmap.
+	 */
+	public static boolean isSet(long[] bitmap, int row)
+	{
+		if (bitmap == null)
+			throw new NullPointerException("bitmap cannot be null");
+		if (row < 0)
+			throw new IndexOutOfBoundsException("row cannot be negative: " + row);
+		return (bitmap[row >>> 6] & (1L << row)) != 0;
+	}
+
+	/**
+	 * Returns the first row at or after {@code fromRow} that is set in the given bitmap, or -1 if there is none.
+	 * Failing rows can be visited with {@code for (int row = nextSetBit(bitmap, 0); row >= 0; row = nextSetBit(bitmap, row + 1))}.
+	 */
+	public static int nextSetBit(long[] bitmap, int fromRow)
+	{
+		if (bitmap == null)
+			throw new NullPointerException("bitmap cannot be null");
+		if (fromRow < 0)
+			throw new IndexOutOfBoundsException("fromRow cannot be negative: " + fromRow);
+		int w = fromRow >>> 6;
+		if (w >= bitmap.length)
+			return -1;
+		long word = bitmap[w] & (-1L << fromRow);
+		while (word == 0)
+		{
+			if (++w == bitmap.length)
+				return -1;
+			word = bitmap[w];
+		}
+		return (w << 6) + Long.numberOfTrailingZeros(word);
+	}
+
+	private static void checkColumn(Object column, String columnName)
+	{
+		if (columnName == null)
+			throw new NullPointerException("columnName cannot be null. This is about the name of the column, not the column itself!");
+		if (column == null)
+			throw new NullPointerException("Column \"" + columnName + "\" cannot be null");
+	}
+
+	private static void checkSameLength(long[] bitmap1, long[] bitmap2)
+	{
+		if (bitmap1 == null)
+			throw new NullPointerException("bitmap1 cannot be null");
+		if (bitmap2 == null)
+			throw new NullPointerException("bitmap2 cannot be null");
+		if (bitmap1.length != bitmap2.length)
+			throw new IllegalArgumentException("Bitmaps must have the same length. Were " + bitmap1.length + " and " + bitmap2.length);
+	}
+
+	private static int words(int rows)
+	{
+		return (rows + 63) >>> 6;
+	}
+}
@@ -0,0 +1,254 @@
+package com.zieglersoftware.assertions;
+
+import java.util.AbstractList;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Immutable lists and sets with little overhead beyond the references to their elements, for the copies returned by
+ * {@link Assertions#immutableCopyIfAllNotNull(List, String)} and similar methods. None of them permit null elements.
+ * <p>
+ * Lists of two or more elements are backed by an exactly sized array. Sets of two elements keep them in two fields, and larger sets in a
+ * flat open-addressing table with linear probing, at most half full, with no per-element node objects. Empty and single-element copies
+ * are the ones from {@link Collections}.
+ */
+final class CompactCollections
+{
+	// Do not instantiate
+	private CompactCollections()
+	{
+	}
+
+	/**
+	 * Returns the elements of the given collection in a new {@code Object[]}. {@code toArray} is used so that the collection is traversed
+	 * once, and in a consistent state if it is a concurrent collection.
+	 */
+	static Object[] toArray(Collection<?> collection)
+	{
+		Object[] elements = collection.toArray();
+		// Some toArray implementations return an array of a narrower type
+		return elements.getClass() == Object[].class ? elements : Arrays.copyOf(elements, elements.length, Object[].class);
+	}
+
+	/**
+	 * Returns an immutable list of the given elements, which must not be null. The array is used directly, so it must not be modified
+	 * afterward.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> List<T> list(Object[] elements)
+	{
+		switch (elements.length)
+		{
+		case 0:
+			return Collections.emptyList();
+		case 1:
+			return Collections.singletonList((T) elements[0]);
+		default:
+			return new ArrayBackedList<>(elements);
+		}
+	}
+
+	/**
+	 * Returns an immutable set of the given elements, which must not be null. Elements equal to an earlier element are skipped.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> Set<T> set(Object[] elements)
+	{
+		switch (elements.length)
+		{
+		case 0:
+			return Collections.emptySet();
+		case 1:
+			return Collections.singleton((T) elements[0]);
+		case 2:
+			if (elements[0].equals(elements[1]))
+				return Collections.singleton((T) elements[0]);
+			return new Set2<>(elements[0], elements[1]);
+		default:
+			return new OpenAddressingSet<>(elements);
+		}
+	}
+
+	private static final class ArrayBackedList<T> extends AbstractList<T> implements RandomAccess
+	{
+		private final Object[] elements;
+
+		ArrayBackedList(Object[] elements)
+		{
+			this.elements = elements;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T get(int index)
+		{
+			return (T) elements[index];
+		}
+
+		@Override
+		public int size()
+		{
+			return elements.length;
+		}
+
+		@Override
+		public Object[] toArray()
+		{
+			return elements.clone();
+		}
+	}
+
+	private static final class Set2<T> extends AbstractSet<T>
+	{
+		private final Object first;
+		private final Object second;
+
+		Set2(Object first, Object second)
+		{
+			this.first = first;
+			this.second = second;
+		}
+
+		@Override
+		public boolean contains(Object o)
+		{
+			return o != null && (o.equals(first) || o.equals(second));
+		}
+
+		@Override
+		public int size()
+		{
+			return 2;
+		}
+
+		@Override
+		public Iterator<T> iterator()
+		{
+			return new Iterator<T>()
+			{
+				private int next;
+
+				@Override
+				public boolean hasNext()
+				{
+					return next < 2;
+				}
+
+				@Override
+				@SuppressWarnings("unchecked")
+				public T next()
+				{
+					switch (next++)
+					{
+					case 0:
+						return (T) first;
+					case 1:
+						return (T) second;
+					default:
+						next = 2;
+						throw new NoSuchElementException();
+					}
+				}
+			};
+		}
+	}
+
+	private static final class OpenAddressingSet<T> extends AbstractSet<T>
+	{
+		private final Object[] table;
+		private final int size;
+
+		OpenAddressingSet(Object[] elements)
+		{
+			int capacity = 4;
+			while (capacity < elements.length * 2)
+				capacity <<= 1;
+			Object[] table = new Object[capacity];
+			int mask = capacity - 1;
+			int size = 0;
+			for (Object element : elements)
+			{
+				int i = spread(element.hashCode()) & mask;
+				Object candidate;
+				while ((candidate = table[i]) != null && !candidate.equals(element))
+					i = (i + 1) & mask;
+				if (candidate == null)
+				{
+					table[i] = element;
+					size++;
+				}
+			}
+			this.table = table;
+			this.size = size;
+		}
+
+		@Override
+		public boolean contains(Object o)
+		{
+			if (o == null)
+				return false;
+			Object[] table = this.table;
+			int mask = table.length - 1;
+			int i = spread(o.hashCode()) & mask;
+			Object candidate;
+			while ((candidate = table[i]) != null)
+			{
+				if (candidate == o || candidate.equals(o))
+					return true;
+				i = (i + 1) & mask;
+			}
+			return false;
+		}
+
+		@Override
+		public int size()
+		{
+			return size;
+		}
+
+		@Override
+		public Iterator<T> iterator()
+		{
+			return new Iterator<T>()
+			{
+				private int next = advance(0);
+
+				@Override
+				public boolean hasNext()
+				{
+					return next < table.length;
+				}
+
+				@Override
+				@SuppressWarnings("unchecked")
+				public T next()
+				{
+					if (next >= table.length)
+						throw new NoSuchElementException();
+					Object element = table[next];
+					next = advance(next + 1);
+					return (T) element;
+				}
+
+				private int advance(int i)
+				{
+					while (i < table.length && table[i] == null)
+						i++;
+					return i;
+				}
+			};
+		}
+	}
+
+	private static int spread(int hashCode)
+	{
+		return hashCode ^ (hashCode >>> 16);
+	}
+}
@@ -0,0 +1,94 @@
+package com.zieglersoftware.assertions;
+
+import java.math.BigDecimal;
+
+/**
+ * An immutable range of {@code BigDecimal} values, inclusive at both ends and compared ignoring scale, for checking many values against
+ * the same bounds.
+ * <p>
+ * {@link #check(BigDecimal, String)} passes and fails exactly like
+ * {@link Assertions#between(BigDecimal, BigDecimal, BigDecimal, String)} with the same bounds. The bounds are brought to a common scale
+ * once, the larger of their two scales, so that comparing a value of that scale, as is typical when the bounds and values come from
+ * the same source, takes the {@code compareTo} path for equal scales, which compares the unscaled values directly without rescaling.
+ */
+public final class DecimalRange
+{
+	private final BigDecimal low;
+	private final BigDecimal high;
+	private final BigDecimal scaledLow;
+	private final BigDecimal scaledHigh;
+
+	private DecimalRange(BigDecimal low, BigDecimal high)
+	{
+		int scale = Math.max(low.scale(), high.scale());
+		this.low = low;
+		this.high = high;
+		this.scaledLow = low.setScale(scale);
+		this.scaledHigh = high.setScale(scale);
+	}
+
+	/**
+	 * Returns the range from {@code low} to {@code high}, inclusive. Neither may be null, and {@code low} must not be greater than
+	 * {@code high}.
+	 */
+	public static DecimalRange of(BigDecimal low, BigDecimal high)
+	{
+		if (low == null)
+			throw new NullPointerException("low cannot be null");
+		if (high == null)
+			throw new NullPointerException("high cannot be null");
+		if (low.compareTo(high) > 0)
+			throw new IllegalArgumentException("low must not be greater than high. Was " + low + " and " + high);
+		return new DecimalRange(low, high);
+	}
+
+	/**
+	 * Returns whether the given value, which must not be null, is within this range.
+	 */
+	public boolean contains(BigDecimal val)
+	{
+		return val.compareTo(scaledLow) >= 0 && val.compareTo(scaledHigh) <= 0;
+	}
+
+	/**
+	 * Asserts that the given value is not null and is within this range. Returns the given value if the assertion succeeds.
+	 * <p>
+	 * {@code variableName} should be the name of the variable being tested.
+	 * It will be included in the exception message for debugging purposes.
+	 */
+	public BigDecimal check(BigDecimal val, String variableName)
+	{
+		if (variableName == null)
+			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
+		if (val == null)
+			throw Failures.isNull(Subject.VARIABLE, variableName);
+		if (val.compareTo(scaledLow) < 0 || val.compareTo(scaledHigh) > 0)
+			throw Failures.notBetween(variableName, val, low, high);
+		return val;
+	}
+
+	/**
+	 * Returns the low bound as given to {@link #of(BigDecimal, BigDecimal)}.
+	 */
+	public BigDecimal getLow()
+	{
+		return low;
+	}
+
+	/**
+	 * Returns the high bound as given to {@link #of(BigDecimal, BigDecimal)}.
+	 */
+	public BigDecimal getHigh()
+	{
+		return high;
+	}
+
+	/**
+	 * Returns the bounds formatted as {@code [low, high]}.
+	 */
+	@Override
+	public String toString()
+	{
+		return "[" + low + ", " + high + "]";
+	}
+}
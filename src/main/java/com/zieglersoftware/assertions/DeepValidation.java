@@ -0,0 +1,185 @@
+package com.zieglersoftware.assertions;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The traversal behind {@link Assertions#deepAllNotNull(Object, String)} and {@link Assertions#deepNotEmptyAllNotEmpty(Object, String)}.
+ * <p>
+ * Collections, maps (both keys and values) and object arrays are walked depth first in a single pass, using an explicit stack rather than
+ * recursion, so the Java stack does not limit how deeply values can be nested. Each container is walked only once, even if it is reachable
+ * by several paths, which also stops cycles. Other values, including primitive arrays, are not walked into.
+ * <p>
+ * The path to a failing value is built only when a check fails, from the positions kept on the stack. It starts with the variable name
+ * and adds {@code [i]} for the element at iteration index {@code i} of a collection or array, {@code .key} for the value of a map key
+ * that is a Java identifier, and {@code ["key"]} or {@code [key]} for the values of other keys.
+ */
+final class DeepValidation
+{
+	// Do not instantiate
+	private DeepValidation()
+	{
+	}
+
+	static void check(Object root, String name, boolean notEmpty, int maxDepth)
+	{
+		if (root == null)
+			throw Failures.isNull(Subject.VARIABLE, name);
+		if (notEmpty && isEmpty(root))
+			throw Failures.nestedEmpty(name, name);
+		if (!isContainer(root))
+			return;
+		Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		visited.add(root);
+		ArrayList<Frame> stack = new ArrayList<>();
+		stack.add(new Frame(root));
+		while (!stack.isEmpty())
+		{
+			Frame frame = stack.get(stack.size() - 1);
+			if (!frame.advance())
+			{
+				stack.remove(stack.size() - 1);
+				continue;
+			}
+			Object child = frame.current;
+			if (child == null)
+				throw Failures.nestedNull(name, path(name, stack));
+			if (notEmpty && isEmpty(child))
+				throw Failures.nestedEmpty(name, path(name, stack));
+			if (isContainer(child) && visited.add(child))
+			{
+				if (stack.size() >= maxDepth)
+					throw Failures.tooDeep(name, path(name, stack), maxDepth);
+				stack.add(new Frame(child));
+			}
+		}
+	}
+
+	private static boolean isContainer(Object o)
+	{
+		return o instanceof Collection || o instanceof Map || o instanceof Object[];
+	}
+
+	private static boolean isEmpty(Object o)
+	{
+		if (o instanceof String)
+			return ((String) o).isEmpty();
+		if (o instanceof Collection)
+			return ((Collection<?>) o).isEmpty();
+		if (o instanceof Map)
+			return ((Map<?, ?>) o).isEmpty();
+		if (o.getClass().isArray())
+			return Array.getLength(o) == 0;
+		return false;
+	}
+
+	private static String path(String name, ArrayList<Frame> stack)
+	{
+		StringBuilder sb = new StringBuilder(name);
+		for (Frame frame : stack)
+			frame.appendSegment(sb);
+		return sb.toString();
+	}
+
+	/**
+	 * A container being walked, with the position of its current child. A map entry is visited twice, first for its key and then for its
+	 * value, and both have the key's segment in the path.
+	 */
+	private static final class Frame
+	{
+		private final Object[] array;
+		private final Iterator<?> iterator;
+		private final boolean map;
+		private int index = -1;
+		private Map.Entry<?, ?> entry;
+		private boolean atKey;
+		Object current;
+
+		Frame(Object container)
+		{
+			if (container instanceof Object[])
+			{
+				this.array = (Object[]) container;
+				this.iterator = null;
+				this.map = false;
+			}
+			else if (container instanceof Map)
+			{
+				this.array = null;
+				this.iterator = ((Map<?, ?>) container).entrySet().iterator();
+				this.map = true;
+			}
+			else
+			{
+				this.array = null;
+				this.iterator = ((Collection<?>) container).iterator();
+				this.map = false;
+			}
+		}
+
+		boolean advance()
+		{
+			if (array != null)
+			{
+				if (++index >= array.length)
+					return false;
+				current = array[index];
+				return true;
+			}
+			if (map && atKey)
+			{
+				atKey = false;
+				current = entry.getValue();
+				return true;
+			}
+			if (!iterator.hasNext())
+				return false;
+			index++;
+			if (map)
+			{
+				entry = (Map.Entry<?, ?>) iterator.next();
+				atKey = true;
+				current = entry.getKey();
+			}
+			else
+			{
+				current = iterator.next();
+			}
+			return true;
+		}
+
+		void appendSegment(StringBuilder sb)
+		{
+			if (!map)
+			{
+				sb.append('[').append(index).append(']');
+				return;
+			}
+			Object key = entry.getKey();
+			if (key == null)
+				sb.append("[null key]");
+			else if (key instanceof String && isIdentifier((String) key))
+				sb.append('.').append((String) key);
+			else if (key instanceof String)
+				sb.append("[\"").append((String) key).append("\"]");
+			else
+				sb.append('[').append(key).append(']');
+		}
+
+		private static boolean isIdentifier(String s)
+		{
+			if (s.isEmpty() || !Character.isJavaIdentifierStart(s.charAt(0)))
+				return false;
+			for (int i = 1; i < s.length(); i++)
+				if (!Character.isJavaIdentifierPart(s.charAt(i)))
+					return false;
+			return true;
+		}
+	}
+}
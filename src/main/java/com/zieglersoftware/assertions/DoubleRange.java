@@ -0,0 +1,99 @@
+package com.zieglersoftware.assertions;
+
+/**
+ * An immutable range of {@code double} values, inclusive at both ends, for checking many values against the same bounds.
+ * <p>
+ * {@link #check(double, String)} passes and fails exactly like {@link Assertions#between(double, double, double, String)} with the same
+ * bounds.
+ */
+public final class DoubleRange
+{
+	private final double low;
+	private final double high;
+
+	private DoubleRange(double low, double high)
+	{
+		this.low = low;
+		this.high = high;
+	}
+
+	/**
+	 * Returns the range from {@code low} to {@code high}, inclusive. Neither may be NaN, and {@code low} must not be greater than
+	 * {@code high}.
+	 */
+	public static DoubleRange of(double low, double high)
+	{
+		if (Double.isNaN(low) || Double.isNaN(high) || low > high)
+			throw new IllegalArgumentException("low must not be greater than high, and neither may be NaN. Was " + low + " and " + high);
+		return new DoubleRange(low, high);
+	}
+
+	/**
+	 * Returns whether the given value would pass {@link #check(double, String)}.
+	 */
+	public boolean contains(double val)
+	{
+		return !(val < low || val > high);
+	}
+
+	/**
+	 * Asserts that the given value is within this range. Returns the given value if the assertion succeeds.
+	 * <p>
+	 * {@code variableName} should be the name of the variable being tested.
+	 * It will be included in the exception message for debugging purposes.
+	 */
+	public double check(double val, String variableName)
+	{
+		if (variableName == null)
+			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
+		if (val < low || val > high)
+			throw Failures.notBetween(variableName, val, low, high);
+		return val;
+	}
+
+	/**
+	 * Asserts that the given array is not null and that all of its values are within this range. Returns the given array if the
+	 * assertion succeeds. If it fails, the exception reports the first value outside the range and its index.
+	 * <p>
+	 * {@code arrayName} should be the name of the array being tested.
+	 * It will be included in the exception message for debugging purposes.
+	 */
+	public double[] check(double[] values, String arrayName)
+	{
+		if (arrayName == null)
+			throw new NullPointerException("arrayName cannot be null. This is about the name of the array, not the array itself!");
+		if (values == null)
+			throw Failures.isNull(Subject.ARRAY, arrayName);
+		double low = this.low;
+		double high = this.high;
+		for (int i = 0; i < values.length; i++)
+			if (values[i] < low || values[i] > high)
+				throw Failures.elementNotBetween(Subject.ARRAY, arrayName, i, values[i], low, high);
+		return values;
+	}
+
+	/**
+	 * Returns the low bound, which is within the range.
+	 */
+	public double getLow()
+	{
+		return low;
+	}
+
+	/**
+	 * Returns the high bound, which is within the range.
+	 */
+	public double getHigh()
+	{
+		return high;
+	}
+
+	/**
+	 * Returns the bounds formatted as {@code [low, high]}.
+	 */
+	@Override
+	public String toString()
+	{
+		return "[" + low + ", " + high + "]";
+	}
+}
@@ -0,0 +1,104 @@
+package com.zieglersoftware.assertions;
+
+import java.util.Collection;
+import java.util.EnumSet;
+
+/**
+ * An immutable set of constants of one enum type, precompiled for use with {@link Assertions#oneOf(Enum, EnumMembership, String)} and
+ * {@link Assertions#noneOf(Enum, EnumMembership, String)}.
+ * <p>
+ * Membership is a single bit test on the constant's ordinal, so checking it neither allocates nor calls {@code hashCode}.
+ */
+public final class EnumMembership<E extends Enum<E>>
+{
+	private static final int RENDERED_MEMBERS = 10;
+
+	private final Class<E> type;
+	private final long[] words;
+
+	private EnumMembership(Class<E> type, Collection<E> members)
+	{
+		this.type = type;
+		this.words = new long[(type.getEnumConstants().length + 63) >>> 6];
+		for (E member : members)
+		{
+			if (member == null)
+				throw new NullPointerException("No member of an EnumMembership may be null");
+			int ordinal = member.ordinal();
+			words[ordinal >>> 6] |= 1L << ordinal;
+		}
+	}
+
+	/**
+	 * Returns an {@code EnumMembership} containing the given constants.
+	 */
+	@SafeVarargs
+	public static <E extends Enum<E>> EnumMembership<E> of(E first, E... rest)
+	{
+		if (first == null)
+			throw new NullPointerException("first cannot be null");
+		if (rest == null)
+			throw new NullPointerException("rest cannot be null");
+		EnumSet<E> members = EnumSet.of(first);
+		for (E e : rest)
+		{
+			if (e == null)
+				throw new NullPointerException("No member of an EnumMembership may be null");
+			members.add(e);
+		}
+		return new EnumMembership<>(first.getDeclaringClass(), members);
+	}
+
+	/**
+	 * Returns an {@code EnumMembership} containing the constants in the given {@code EnumSet}.
+	 */
+	public static <E extends Enum<E>> EnumMembership<E> copyOf(EnumSet<E> members)
+	{
+		if (members == null)
+			throw new NullPointerException("members cannot be null");
+		// An empty EnumSet does not expose its element type, but its complement does
+		EnumSet<E> nonEmpty = members.isEmpty() ? EnumSet.complementOf(members) : members;
+		if (nonEmpty.isEmpty())
+			throw new IllegalArgumentException("Cannot create an EnumMembership for an enum type without constants");
+		return new EnumMembership<>(nonEmpty.iterator().next().getDeclaringClass(), members);
+	}
+
+	/**
+	 * Returns whether the given constant is a member. Null is never a member.
+	 */
+	public boolean contains(E e)
+	{
+		if (e == null || e.getDeclaringClass() != type)
+			return false;
+		int ordinal = e.ordinal();
+		return (words[ordinal >>> 6] & (1L << ordinal)) != 0;
+	}
+
+	/**
+	 * Returns the members in ordinal order, formatted like {@link java.util.AbstractCollection#toString()}. Only the first ten members
+	 * are listed, followed by the number of members left out.
+	 */
+	@Override
+	public String toString()
+	{
+		StringBuilder sb = new StringBuilder("[");
+		int rendered = 0;
+		int omitted = 0;
+		for (E e : type.getEnumConstants())
+		{
+			if (!contains(e))
+				continue;
+			if (rendered == RENDERED_MEMBERS)
+			{
+				omitted++;
+				continue;
+			}
+			if (rendered++ > 0)
+				sb.append(", ");
+			sb.append(e);
+		}
+		if (omitted > 0)
+			sb.append(", ... (").append(omitted).append(" more)");
+		return sb.append(']').toString();
+	}
+}
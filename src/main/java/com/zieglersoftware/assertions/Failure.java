@@ -0,0 +1,230 @@
+package com.zieglersoftware.assertions;
+
+import java.time.Duration;
+
+/**
+ * The raw values of a failed check, from which the exception message is rendered on demand.
+ * <p>
+ * Checks of {@code long} and {@code double} values keep them unboxed, in a {@code long} and a primitive array, and box them only if the
+ * values are requested through {@link CheckFailure}. Rendering appends them to the builder directly.
+ */
+final class Failure
+{
+	private static final Object[] NO_REFERENCES = new Object[0];
+
+	private static final byte OBJECTS = 0;
+	private static final byte LONGS = 1;
+	private static final byte DOUBLES = 2;
+
+	final CheckKind kind;
+	final Subject subject;
+	final String name;
+	final int index;
+
+	private final byte type;
+	private final Object actual;
+	private final Object[] references;
+	private final long actualBits;
+	// A long[] or double[], according to type
+	private final Object primitiveReferences;
+
+	Failure(CheckKind kind, Subject subject, String name, Object actual, Object[] references, int index)
+	{
+		this.kind = kind;
+		this.subject = subject;
+		this.name = name;
+		this.index = index;
+		this.type = OBJECTS;
+		this.actual = actual;
+		this.references = references == null ? NO_REFERENCES : references;
+		this.actualBits = 0;
+		this.primitiveReferences = null;
+	}
+
+	Failure(CheckKind kind, Subject subject, String name, long actual, long[] references, int index)
+	{
+		this(kind, subject, name, LONGS, actual, references, index);
+	}
+
+	Failure(CheckKind kind, Subject subject, String name, double actual, double[] references, int index)
+	{
+		this(kind, subject, name, DOUBLES, Double.doubleToRawLongBits(actual), references, index);
+	}
+
+	private Failure(CheckKind kind, Subject subject, String name, byte type, long actualBits, Object primitiveReferences, int index)
+	{
+		this.kind = kind;
+		this.subject = subject;
+		this.name = name;
+		this.index = index;
+		this.type = type;
+		this.actual = null;
+		this.references = null;
+		this.actualBits = actualBits;
+		this.primitiveReferences = primitiveReferences;
+	}
+
+	Object actual()
+	{
+		if (type == OBJECTS)
+			return actual;
+		if (type == LONGS)
+			return actualBits;
+		return Double.longBitsToDouble(actualBits);
+	}
+
+	Object[] copyOfReferences()
+	{
+		if (type == OBJECTS)
+			return references.length == 0 ? references : references.clone();
+		if (type == LONGS)
+		{
+			long[] longs = (long[]) primitiveReferences;
+			Object[] boxed = new Object[longs.length];
+			for (int i = 0; i < boxed.length; i++)
+				boxed[i] = longs[i];
+			return boxed;
+		}
+		double[] doubles = (double[]) primitiveReferences;
+		Object[] boxed = new Object[doubles.length];
+		for (int i = 0; i < boxed.length; i++)
+			boxed[i] = doubles[i];
+		return boxed;
+	}
+
+	String render()
+	{
+		StringBuilder sb = MessageBuilders.acquire();
+		appendMessage(sb);
+		return MessageBuilders.release(sb);
+	}
+
+	private void appendMessage(StringBuilder sb)
+	{
+		switch (kind)
+		{
+		case NULL_ELEMENT:
+			sb.append("No ").append(subject.elementLabel).append(" in ").append(subject.lowerCaseLabel).append(" \"").append(name)
+				.append("\" may be null");
+			return;
+		case EMPTY_ELEMENT:
+			sb.append("No string in ").append(subject.lowerCaseLabel).append(" \"").append(name).append("\" may be empty");
+			return;
+		default:
+			sb.append(subject.label).append(" \"").append(name).append('"');
+		}
+		switch (kind)
+		{
+		case NULL:
+			sb.append(" cannot be null");
+			return;
+		case EMPTY:
+			sb.append(" cannot be empty");
+			return;
+		case NOT_PRESENT:
+			sb.append(" must be present");
+			return;
+		case EQUAL:
+			appendComparison(sb, " must be equal to ");
+			return;
+		case NOT_EQUAL:
+			if (type == OBJECTS && actual == null && references[0] == null)
+			{
+				sb.append(" must not be equal to the given reference value. Both are null");
+				return;
+			}
+			sb.append(" must not be equal to ");
+			appendReference(sb, 0);
+			return;
+		case GREATER:
+			appendComparison(sb, " must be greater than ");
+			return;
+		case NOT_GREATER:
+			appendComparison(sb, " must not be greater than ");
+			return;
+		case LESS:
+			appendComparison(sb, " must be less than ");
+			return;
+		case NOT_LESS:
+			appendComparison(sb, " must not be less than ");
+			return;
+		case BETWEEN:
+			sb.append(index < 0 ? " must be between " : " must only contain values between ");
+			appendReference(sb, 0);
+			sb.append(" and ");
+			appendReference(sb, 1);
+			if (index < 0)
+				sb.append(", inclusive. Was ");
+			else
+				sb.append(", inclusive. Element at index ").append(index).append(" was ");
+			appendActual(sb);
+			return;
+		case ONE_OF:
+			appendComparison(sb, " must be one of ");
+			return;
+		case NONE_OF:
+			appendComparison(sb, " must not be one of ");
+			return;
+		case DUPLICATE:
+			sb.append(" must not contain duplicates. Found duplicate ");
+			appendActual(sb);
+			return;
+		case NOT_SORTED:
+			appendOrder(sb, " must be sorted. Element at index ");
+			return;
+		case NOT_STRICTLY_INCREASING:
+			appendOrder(sb, " must be strictly increasing. Element at index ");
+			return;
+		case NESTED_NULL:
+			sb.append(" cannot contain null. Found null at ").append(actual);
+			return;
+		case NESTED_EMPTY:
+			sb.append(" cannot be or contain an empty string, collection, map or array. Found one at ").append(actual);
+			return;
+		case TOO_DEEP:
+			sb.append(" cannot be nested more than ").append(references[0]).append(" levels deep. Exceeded at ").append(actual);
+			return;
+		case EXPIRED:
+			sb.append(" must not have expired. Expired ").append(Duration.ofNanos(actualBits)).append(" ago");
+			return;
+		default:
+			throw new AssertionError(kind);
+		}
+	}
+
+	private void appendComparison(StringBuilder sb, String relation)
+	{
+		sb.append(relation);
+		appendReference(sb, 0);
+		sb.append(". Was ");
+		appendActual(sb);
+	}
+
+	private void appendOrder(StringBuilder sb, String requirement)
+	{
+		sb.append(requirement).append(index).append(" was ");
+		appendActual(sb);
+		sb.append(", after ");
+		appendReference(sb, 0);
+	}
+
+	private void appendActual(StringBuilder sb)
+	{
+		if (type == OBJECTS)
+			sb.append(actual);
+		else if (type == LONGS)
+			sb.append(actualBits);
+		else
+			sb.append(Double.longBitsToDouble(actualBits));
+	}
+
+	private void appendReference(StringBuilder sb, int i)
+	{
+		if (type == OBJECTS)
+			sb.append(references[i]);
+		else if (type == LONGS)
+			sb.append(((long[]) primitiveReferences)[i]);
+		else
+			sb.append(((double[]) primitiveReferences)[i]);
+	}
+}
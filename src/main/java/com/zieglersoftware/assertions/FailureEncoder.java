@@ -0,0 +1,313 @@
+package com.zieglersoftware.assertions;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Writes the details of a {@link CheckFailure} as compact JSON or as a length-prefixed binary record, so that failures can be logged and
+ * processed without parsing exception messages. Neither form includes the message itself.
+ * <p>
+ * Both encoders write directly to their destination. Integral values and strings are written character by character rather than through
+ * intermediate strings; other values are written using their {@code toString}.
+ * <p>
+ * The JSON form is a single object such as
+ * {@code {"check":"BETWEEN","name":"x","actual":2,"references":[0,1],"index":-1}}. {@code Byte}, {@code Short}, {@code Integer},
+ * {@code Long}, {@code BigInteger}, {@code BigDecimal} and finite {@code Float} and {@code Double} values are written as JSON numbers,
+ * {@code Boolean} values as JSON booleans, null as {@code null} and all other values, including NaN and the infinities, as JSON strings.
+ * <p>
+ * The binary form is written in the byte order of the buffer and consists of:
+ * <ul>
+ * <li>an int: the number of bytes that follow in this record</li>
+ * <li>a byte: the format version, currently {@value #BINARY_VERSION}</li>
+ * <li>a byte: the ordinal of the {@link CheckKind}, or -1 if not available</li>
+ * <li>a string: the variable name</li>
+ * <li>a value: the actual value</li>
+ * <li>an int: the number of reference values, followed by that many values</li>
+ * <li>an int: the index</li>
+ * </ul>
+ * A string is an int byte count, or -1 for null, followed by that many bytes of UTF-8. A value is a tag byte followed by its data:
+ * {@value #NULL_TAG} for null with no data, {@value #LONG_TAG} for a {@code Byte}, {@code Short}, {@code Integer} or {@code Long} as an 8
+ * byte long, {@value #DOUBLE_TAG} for a {@code Float} or {@code Double} as an 8 byte double, and {@value #STRING_TAG} for any other value
+ * as the string returned by its {@code toString}.
+ * <p>
+ * An exception that was deserialized has no details, so its record has a null kind, name and actual value, no reference values and an
+ * index of -1.
+ */
+public final class FailureEncoder
+{
+	/**
+	 * The format version written by {@link #writeBinary(CheckFailure, ByteBuffer)}.
+	 */
+	public static final byte BINARY_VERSION = 1;
+
+	/**
+	 * The tag of a null value in the binary form.
+	 */
+	public static final byte NULL_TAG = 0;
+
+	/**
+	 * The tag of an integral value in the binary form.
+	 */
+	public static final byte LONG_TAG = 1;
+
+	/**
+	 * The tag of a floating point value in the binary form.
+	 */
+	public static final byte DOUBLE_TAG = 2;
+
+	/**
+	 * The tag of any other value in the binary form.
+	 */
+	public static final byte STRING_TAG = 3;
+
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	// Do not instantiate
+	private FailureEncoder()
+	{
+	}
+
+	/**
+	 * Appends the given failure to the given {@code Appendable} as a JSON object.
+	 * Returns the {@code Appendable}.
+	 */
+	public static <A extends Appendable> A writeJson(CheckFailure failure, A out) throws IOException
+	{
+		if (failure == null)
+			throw new NullPointerException("failure cannot be null");
+		if (out == null)
+			throw new NullPointerException("out cannot be null");
+		CheckKind kind = failure.getCheckKind();
+		out.append("{\"check\":");
+		if (kind == null)
+			out.append("null");
+		else
+			out.append('"').append(kind.name()).append('"');
+		out.append(",\"name\":");
+		writeJsonString(failure.getVariableName(), out);
+		out.append(",\"actual\":");
+		writeJsonValue(failure.getActualValue(), out);
+		out.append(",\"references\":[");
+		Object[] references = failure.getReferenceValues();
+		if (references != null)
+		{
+			for (int i = 0; i < references.length; i++)
+			{
+				if (i > 0)
+					out.append(',');
+				writeJsonValue(references[i], out);
+			}
+		}
+		out.append("],\"index\":");
+		writeJsonLong(failure.getIndex(), out);
+		out.append('}');
+		return out;
+	}
+
+	/**
+	 * Writes the given failure to the given buffer as a length-prefixed binary record, starting at the buffer's position and advancing it
+	 * past the record. Returns the buffer.
+	 * <p>
+	 * If the record does not fit in the remaining space, the buffer's position is restored and a {@link BufferOverflowException} is
+	 * thrown, so the caller can flush the buffer and try again.
+	 */
+	public static ByteBuffer writeBinary(CheckFailure failure, ByteBuffer out)
+	{
+		if (failure == null)
+			throw new NullPointerException("failure cannot be null");
+		if (out == null)
+			throw new NullPointerException("out cannot be null");
+		int start = out.position();
+		try
+		{
+			out.putInt(0);
+			out.put(BINARY_VERSION);
+			CheckKind kind = failure.getCheckKind();
+			out.put(kind == null ? -1 : (byte) kind.ordinal());
+			writeBinaryString(failure.getVariableName(), out);
+			writeBinaryValue(failure.getActualValue(), out);
+			Object[] references = failure.getReferenceValues();
+			if (references == null)
+			{
+				out.putInt(0);
+			}
+			else
+			{
+				out.putInt(references.length);
+				for (Object reference : references)
+					writeBinaryValue(reference, out);
+			}
+			out.putInt(failure.getIndex());
+		}
+		catch (BufferOverflowException e)
+		{
+			out.position(start);
+			throw e;
+		}
+		out.putInt(start, out.position() - start - 4);
+		return out;
+	}
+
+	private static void writeJsonValue(Object value, Appendable out) throws IOException
+	{
+		if (value == null)
+		{
+			out.append("null");
+		}
+		else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte)
+		{
+			writeJsonLong(((Number) value).longValue(), out);
+		}
+		else if (value instanceof Double || value instanceof Float)
+		{
+			double d = ((Number) value).doubleValue();
+			if (Double.isNaN(d) || Double.isInfinite(d))
+				out.append('"').append(value.toString()).append('"');
+			else
+				out.append(value.toString());
+		}
+		else if (value instanceof BigInteger || value instanceof BigDecimal || value instanceof Boolean)
+		{
+			out.append(value.toString());
+		}
+		else if (value instanceof CharSequence)
+		{
+			writeJsonString((CharSequence) value, out);
+		}
+		else
+		{
+			writeJsonString(value.toString(), out);
+		}
+	}
+
+	private static void writeJsonLong(long value, Appendable out) throws IOException
+	{
+		if (value == 0)
+		{
+			out.append('0');
+			return;
+		}
+		// Digits are produced from the negative value so that Long.MIN_VALUE needs no special case
+		char[] digits = new char[20];
+		int pos = digits.length;
+		long negative = value < 0 ? value : -value;
+		while (negative != 0)
+		{
+			digits[--pos] = (char) ('0' - (int) (negative % 10));
+			negative /= 10;
+		}
+		if (value < 0)
+			digits[--pos] = '-';
+		for (; pos < digits.length; pos++)
+			out.append(digits[pos]);
+	}
+
+	private static void writeJsonString(CharSequence s, Appendable out) throws IOException
+	{
+		if (s == null)
+		{
+			out.append("null");
+			return;
+		}
+		out.append('"');
+		for (int i = 0, length = s.length(); i < length; i++)
+		{
+			char c = s.charAt(i);
+			switch (c)
+			{
+			case '"':
+				out.append("\\\"");
+				break;
+			case '\\':
+				out.append("\\\\");
+				break;
+			case '\n':
+				out.append("\\n");
+				break;
+			case '\r':
+				out.append("\\r");
+				break;
+			case '\t':
+				out.append("\\t");
+				break;
+			default:
+				if (c < 0x20)
+					out.append("\\u00").append(HEX_DIGITS[c >>> 4]).append(HEX_DIGITS[c & 0xf]);
+				else
+					out.append(c);
+			}
+		}
+		out.append('"');
+	}
+
+	private static void writeBinaryValue(Object value, ByteBuffer out)
+	{
+		if (value == null)
+		{
+			out.put(NULL_TAG);
+		}
+		else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte)
+		{
+			out.put(LONG_TAG);
+			out.putLong(((Number) value).longValue());
+		}
+		else if (value instanceof Double || value instanceof Float)
+		{
+			out.put(DOUBLE_TAG);
+			out.putDouble(((Number) value).doubleValue());
+		}
+		else
+		{
+			out.put(STRING_TAG);
+			writeBinaryString(value instanceof CharSequence ? (CharSequence) value : value.toString(), out);
+		}
+	}
+
+	// Writes the UTF-8 bytes after a placeholder for the count, then fills in the count. Unpaired surrogates are written as '?', as
+	// String.getBytes does.
+	private static void writeBinaryString(CharSequence s, ByteBuffer out)
+	{
+		if (s == null)
+		{
+			out.putInt(-1);
+			return;
+		}
+		int countPosition = out.position();
+		out.putInt(0);
+		for (int i = 0, length = s.length(); i < length; i++)
+		{
+			char c = s.charAt(i);
+			if (c < 0x80)
+			{
+				out.put((byte) c);
+			}
+			else if (c < 0x800)
+			{
+				out.put((byte) (0xc0 | (c >>> 6)));
+				out.put((byte) (0x80 | (c & 0x3f)));
+			}
+			else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1)))
+			{
+				int codePoint = Character.toCodePoint(c, s.charAt(++i));
+				out.put((byte) (0xf0 | (codePoint >>> 18)));
+				out.put((byte) (0x80 | ((codePoint >>> 12) & 0x3f)));
+				out.put((byte) (0x80 | ((codePoint >>> 6) & 0x3f)));
+				out.put((byte) (0x80 | (codePoint & 0x3f)));
+			}
+			else if (Character.isSurrogate(c))
+			{
+				out.put((byte) '?');
+			}
+			else
+			{
+				out.put((byte) (0xe0 | (c >>> 12)));
+				out.put((byte) (0x80 | ((c >>> 6) & 0x3f)));
+				out.put((byte) (0x80 | (c & 0x3f)));
+			}
+		}
+		out.putInt(countPosition, out.position() - countPosition - 4);
+	}
+}
@@ -0,0 +1,197 @@
+package com.zieglersoftware.assertions;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Decides how much detail the exceptions thrown by failed checks carry. By default, every {@link CheckFailedException} and
+ * {@link NullCheckFailedException} has a full stack trace.
+ * <p>
+ * With {@link #callerOnly()}, every exception has a stack trace of just one element, the method that called the failing check, for
+ * applications that want to know where a check failed without paying for a full stack trace. On Java 9 and later, the caller is found
+ * with a {@code StackWalker} that stops at the first frame outside this library's package. On Java 8, a full stack trace has to be
+ * captured to find it, so only the memory held by the exception is saved.
+ * <p>
+ * With {@link #adaptive(int, Duration, int)}, failures are counted per variable name, and a name that fails more than a given number
+ * of times within a time window is considered to be in a storm, such as when an upstream system sends garbage to one call site. During
+ * a storm, the exceptions for that name are created without a stack trace, which is most of the cost of creating one, except for one in
+ * every {@code sampleInterval}, which keeps its stack trace so that the source of the storm can still be found. Messages are rendered
+ * lazily in either case, so a storm whose exceptions are caught and discarded does not build any. Once a window passes with no more
+ * failures than the limit, the name's exceptions have stack traces again. Apart from the stack trace, the exceptions are the same:
+ * same types, messages and {@link CheckFailure} values.
+ * <p>
+ * Failures are counted with lock-free counters in a fixed table of {@value #SITES} sites. Names are assigned to sites by hash code, so
+ * rarely, two names share a site and are counted together. The checks {@code tru} and {@code fals}, which have no variable name, are
+ * not affected.
+ */
+public final class FailurePolicy
+{
+	static final int SITES = 1024;
+
+	// Null for the default, where every exception has a stack trace
+	private static volatile Mode mode;
+
+	// Do not instantiate
+	private FailurePolicy()
+	{
+	}
+
+	/**
+	 * Makes the exceptions of a variable name that fails more than {@code maxFailures} times within {@code window} stackless, except for
+	 * one in every {@code sampleInterval}, until a window passes in which it fails no more than {@code maxFailures} times. Replaces any
+	 * earlier policy, and forgets the failures counted before this call.
+	 */
+	public static void adaptive(int maxFailures, Duration window, int sampleInterval)
+	{
+		if (maxFailures < 1)
+			throw new IllegalArgumentException("maxFailures must be positive. Was " + maxFailures);
+		if (window == null)
+			throw new NullPointerException("window cannot be null");
+		if (window.isNegative() || window.isZero())
+			throw new IllegalArgumentException("window must be positive. Was " + window);
+		if (sampleInterval < 1)
+			throw new IllegalArgumentException("sampleInterval must be positive. Was " + sampleInterval);
+		mode = new Adaptive(maxFailures, window.toNanos(), sampleInterval);
+	}
+
+	/**
+	 * Gives every exception a stack trace of just the method that called the failing check, instead of a full stack trace. Replaces any
+	 * earlier policy.
+	 */
+	public static void callerOnly()
+	{
+		mode = CallerOnly.INSTANCE;
+	}
+
+	/**
+	 * Restores the default, in which every exception has a full stack trace.
+	 */
+	public static void standard()
+	{
+		mode = null;
+	}
+
+	static CheckFailedException checkFailed(Failure failure)
+	{
+		Mode mode = FailurePolicy.mode;
+		if (mode == null)
+			return new CheckFailedException(failure);
+		switch (mode.detail(failure.name))
+		{
+		case STACKLESS:
+			return new CheckFailedException.Stackless(failure);
+		case CALLER:
+			return withCaller(new CheckFailedException.Stackless(failure));
+		default:
+			return new CheckFailedException(failure);
+		}
+	}
+
+	static NullCheckFailedException nullCheckFailed(Failure failure)
+	{
+		Mode mode = FailurePolicy.mode;
+		if (mode == null)
+			return new NullCheckFailedException(failure);
+		switch (mode.detail(failure.name))
+		{
+		case STACKLESS:
+			return new NullCheckFailedException.Stackless(failure);
+		case CALLER:
+			return withCaller(new NullCheckFailedException.Stackless(failure));
+		default:
+			return new NullCheckFailedException(failure);
+		}
+	}
+
+	private static <T extends Throwable> T withCaller(T stackless)
+	{
+		StackTraceElement caller = CallerCapture.caller();
+		if (caller != null)
+			stackless.setStackTrace(new StackTraceElement[] { caller });
+		return stackless;
+	}
+
+	private enum Detail
+	{
+		FULL, STACKLESS, CALLER
+	}
+
+	private abstract static class Mode
+	{
+		abstract Detail detail(String name);
+	}
+
+	private static final class CallerOnly extends Mode
+	{
+		static final CallerOnly INSTANCE = new CallerOnly();
+
+		@Override
+		Detail detail(String name)
+		{
+			return Detail.CALLER;
+		}
+	}
+
+	private static final class Adaptive extends Mode
+	{
+		final int maxFailures;
+		final long windowNanos;
+		final int sampleInterval;
+		final AtomicReferenceArray<Site> sites = new AtomicReferenceArray<>(SITES);
+
+		Adaptive(int maxFailures, long windowNanos, int sampleInterval)
+		{
+			this.maxFailures = maxFailures;
+			this.windowNanos = windowNanos;
+			this.sampleInterval = sampleInterval;
+		}
+
+		// Counts a failure of the given name
+		@Override
+		Detail detail(String name)
+		{
+			int h = name == null ? 0 : name.hashCode();
+			int slot = (h ^ (h >>> 16)) & (SITES - 1);
+			Site site = sites.get(slot);
+			if (site == null)
+			{
+				sites.compareAndSet(slot, null, new Site(System.nanoTime()));
+				site = sites.get(slot);
+			}
+			int failures = site.count(System.nanoTime(), this);
+			return !site.storming || failures % sampleInterval == 0 ? Detail.FULL : Detail.STACKLESS;
+		}
+	}
+
+	private static final class Site
+	{
+		final AtomicLong windowStart;
+		final AtomicInteger failures = new AtomicInteger();
+		volatile boolean storming;
+
+		Site(long now)
+		{
+			this.windowStart = new AtomicLong(now);
+		}
+
+		// Returns the number of failures in the current window, including this one
+		int count(long now, Adaptive adaptive)
+		{
+			long start = windowStart.get();
+			if (now - start >= adaptive.windowNanos && windowStart.compareAndSet(start, now))
+			{
+				int previous = failures.getAndSet(0);
+				// A storm continues only if the window that just ended was over the limit and directly precedes this one
+				boolean stillStorming = previous > adaptive.maxFailures && now - start < 2 * adaptive.windowNanos;
+				if (storming != stillStorming)
+					storming = stillStorming;
+			}
+			int count = failures.incrementAndGet();
+			if (count > adaptive.maxFailures && !storming)
+				storming = true;
+			return count;
+		}
+	}
+}
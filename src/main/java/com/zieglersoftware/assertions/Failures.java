@@ -0,0 +1,156 @@
+package com.zieglersoftware.assertions;
+
+import java.util.IllegalFormatException;
+
+/**
+ * Factory methods for the exceptions thrown when a check fails. Only the raw values are captured here; the message is rendered later,
+ * if at all. The overloads for {@code long} and {@code double} values keep them unboxed.
+ */
+final class Failures
+{
+	private static final long[] NO_LONGS = new long[0];
+
+	// Do not instantiate
+	private Failures()
+	{
+	}
+
+	/**
+	 * For {@code tru} and {@code fals}, which are kept small enough to inline by formatting the message here, and only on failure.
+	 */
+	static IllegalStateException state(String messageWithPlaceholders, Object... placeholderValues)
+	{
+		try
+		{
+			return new IllegalStateException(String.format(messageWithPlaceholders, placeholderValues));
+		}
+		catch (IllegalFormatException e)
+		{
+			throw new IllegalArgumentException("exceptionMessageWithPlaceholders and placeholderValues are illegally formatted", e);
+		}
+	}
+
+	static NullCheckFailedException isNull(Subject subject, String name)
+	{
+		return FailurePolicy.nullCheckFailed(new Failure(CheckKind.NULL, subject, name, null, null, -1));
+	}
+
+	static CheckFailedException empty(Subject subject, String name)
+	{
+		return FailurePolicy.checkFailed(new Failure(CheckKind.EMPTY, subject, name, null, null, -1));
+	}
+
+	static CheckFailedException notPresent(String name)
+	{
+		return FailurePolicy.checkFailed(new Failure(CheckKind.NOT_PRESENT, Subject.VARIABLE, name, null, null, -1));
+	}
+
+	/**
+	 * For checks of a value against a single reference value, i.e., {@code EQUAL}, {@code NOT_EQUAL}, {@code GREATER},
+	 * {@code NOT_GREATER}, {@code LESS}, {@code NOT_LESS}, {@code ONE_OF} and {@code NONE_OF}.
+	 */
+	static CheckFailedException compared(CheckKind kind, String name, Object actual, Object reference)
+	{
+		return FailurePolicy.checkFailed(new Failure(kind, Subject.VARIABLE, name, actual, new Object[] { reference }, -1));
+	}
+
+	static CheckFailedException compared(CheckKind kind, String name, long actual, long reference)
+	{
+		return FailurePolicy.checkFailed(new Failure(kind, Subject.VARIABLE, name, actual, new long[] { reference }, -1));
+	}
+
+	static CheckFailedException compared(CheckKind kind, String name, double actual, double reference)
+	{
+		return FailurePolicy.checkFailed(new Failure(kind, Subject.VARIABLE, name, actual, new double[] { reference }, -1));
+	}
+
+	static CheckFailedException expired(String name, long overdueNanos)
+	{
+		return FailurePolicy.checkFailed(new Failure(CheckKind.EXPIRED, Subject.VARIABLE, name, overdueNanos, NO_LONGS, -1));
+	}
+
+	static CheckFailedException notBetween(String name, Object actual, Object low, Object high)
+	{
+		return FailurePolicy.checkFailed(new Failure(CheckKind.BETWEEN, Subject.VARIABLE, name, actual, new Object[] { low, high }, -1));
+	}
+
+	static CheckFailedException notBetween(String name, long actual, long low, long high)
+	{
+		return FailurePolicy.checkFailed(new Failure(CheckKind.BETWEEN, Subject.VARIABLE, name, actual, new long[] { low, high }, -1));
+	}
+
+	static CheckFailedException notBetween(String name, double actual, double low, double high)
+	{
+		return FailurePolicy.checkFailed(new Failure(CheckKind.BETWEEN, Subject.VARIABLE, name, actual, new double[] { low, high }, -1));
+	}
+
+	/**
+	 * For an element, at {@code index}, of an array checked against a range.
+	 */
+	static CheckFailedException elementNotBetween(Subject subject, String name, int index, long actual, long low, long high)
+	{
+		return FailurePolicy.checkFailed(new Failure(CheckKind.BETWEEN, subject, name, actual, new long[] { low, high }, index));
+	}
+
+	static CheckFailedException elementNotBetween(Subject subject, String name, int index, double actual, double low, double high)
+	{
+		return FailurePolicy.checkFailed(new Failure(CheckKind.BETWEEN, subject, name, actual, new double[] { low, high }, index));
+	}
+
+	static NullCheckFailedException nullElement(Subject subject, String name, int index)
+	{
+		return FailurePolicy.nullCheckFailed(new Failure(CheckKind.NULL_ELEMENT, subject, name, null, null, index));
+	}
+
+	static CheckFailedException emptyElement(Subject subject, String name, int index)
+	{
+		return FailurePolicy.checkFailed(new Failure(CheckKind.EMPTY_ELEMENT, subject, name, null, null, index));
+	}
+
+	static CheckFailedException duplicate(Subject subject, String name, int index, Object actual)
+	{
+		return FailurePolicy.checkFailed(new Failure(CheckKind.DUPLICATE, subject, name, actual, null, index));
+	}
+
+	static CheckFailedException duplicate(Subject subject, String name, int index, long actual)
+	{
+		return FailurePolicy.checkFailed(new Failure(CheckKind.DUPLICATE, subject, name, actual, NO_LONGS, index));
+	}
+
+	/**
+	 * For {@code NOT_SORTED} and {@code NOT_STRICTLY_INCREASING}, where {@code previous} is the element before {@code index}.
+	 */
+	static CheckFailedException outOfOrder(CheckKind kind, Subject subject, String name, int index, Object actual, Object previous)
+	{
+		return FailurePolicy.checkFailed(new Failure(kind, subject, name, actual, new Object[] { previous }, index));
+	}
+
+	static CheckFailedException outOfOrder(CheckKind kind, Subject subject, String name, int index, long actual, long previous)
+	{
+		return FailurePolicy.checkFailed(new Failure(kind, subject, name, actual, new long[] { previous }, index));
+	}
+
+	static CheckFailedException outOfOrder(CheckKind kind, Subject subject, String name, int index, double actual, double previous)
+	{
+		return FailurePolicy.checkFailed(new Failure(kind, subject, name, actual, new double[] { previous }, index));
+	}
+
+	/**
+	 * For {@code NESTED_NULL}, {@code NESTED_EMPTY} and {@code TOO_DEEP}, where {@code path} locates the failing value within the tested
+	 * value.
+	 */
+	static NullCheckFailedException nestedNull(String name, String path)
+	{
+		return FailurePolicy.nullCheckFailed(new Failure(CheckKind.NESTED_NULL, Subject.VARIABLE, name, path, null, -1));
+	}
+
+	static CheckFailedException nestedEmpty(String name, String path)
+	{
+		return FailurePolicy.checkFailed(new Failure(CheckKind.NESTED_EMPTY, Subject.VARIABLE, name, path, null, -1));
+	}
+
+	static CheckFailedException tooDeep(String name, String path, int maxDepth)
+	{
+		return FailurePolicy.checkFailed(new Failure(CheckKind.TOO_DEEP, Subject.VARIABLE, name, path, new Object[] { maxDepth }, -1));
+	}
+}
@@ -0,0 +1,247 @@
+package com.zieglersoftware.assertions;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * The most frequently used checks of {@link Assertions}, without the checks of their own arguments, for hot code whose variable names
+ * and messages are string literals.
+ * <p>
+ * Each method here checks the value exactly like the {@code Assertions} method of the same signature, and throws the same exception
+ * with the same message when the check fails. Only the checks for API misuse are left out: a null variable name, message or
+ * placeholder array is not reported, and shows up as "null" in the exception message, if at all. What remains is a single comparison
+ * and a call to a shared failure factory, which keeps each method well within the JIT's inlining limits.
+ * <p>
+ * Use {@code Assertions} wherever the names are computed at run time, or for the checks not offered here.
+ */
+public final class FastAssertions
+{
+	// Do not instantiate
+	private FastAssertions()
+	{
+	}
+
+	/**
+	 * Same as {@link Assertions#notNull(Object, String)}, without checking {@code variableName}.
+	 */
+	public static <T> T notNull(T object, String variableName)
+	{
+		if (object == null)
+			throw Failures.isNull(Subject.VARIABLE, variableName);
+		return object;
+	}
+
+	/**
+	 * Same as {@link Assertions#tru(boolean, String, Object...)}, without checking {@code exceptionMessageWithPlaceholders} and
+	 * {@code placeholderValues}.
+	 */
+	public static void tru(boolean test, String exceptionMessageWithPlaceholders, Object... placeholderValues)
+	{
+		if (!test)
+			throw Failures.state(exceptionMessageWithPlaceholders, placeholderValues);
+	}
+
+	/**
+	 * Same as {@link Assertions#tru(boolean, String)}, without checking {@code exceptionMessageWithPlaceholders}.
+	 */
+	public static void tru(boolean test, String exceptionMessageWithPlaceholders)
+	{
+		if (!test)
+			throw Failures.state(exceptionMessageWithPlaceholders);
+	}
+
+	/**
+	 * Same as {@link Assertions#fals(boolean, String, Object...)}, without checking {@code exceptionMessageWithPlaceholders} and
+	 * {@code placeholderValues}.
+	 */
+	public static void fals(boolean test, String exceptionMessageWithPlaceholders, Object... placeholderValues)
+	{
+		if (test)
+			throw Failures.state(exceptionMessageWithPlaceholders, placeholderValues);
+	}
+
+	/**
+	 * Same as {@link Assertions#fals(boolean, String)}, without checking {@code exceptionMessageWithPlaceholders}.
+	 */
+	public static void fals(boolean test, String exceptionMessageWithPlaceholders)
+	{
+		if (test)
+			throw Failures.state(exceptionMessageWithPlaceholders);
+	}
+
+	/**
+	 * Same as {@link Assertions#notEmpty(String, String)}, without checking {@code stringName}.
+	 */
+	public static String notEmpty(String string, String stringName)
+	{
+		if (string == null)
+			throw Failures.isNull(Subject.STRING, stringName);
+		if (string.isEmpty())
+			throw Failures.empty(Subject.STRING, stringName);
+		return string;
+	}
+
+	/**
+	 * Same as {@link Assertions#notEmpty(Collection, String)}, without checking {@code collectionName}.
+	 */
+	public static <T extends Collection<?>> T notEmpty(T collection, String collectionName)
+	{
+		if (collection == null)
+			throw Failures.isNull(Subject.COLLECTION, collectionName);
+		if (collection.isEmpty())
+			throw Failures.empty(Subject.COLLECTION, collectionName);
+		return collection;
+	}
+
+	/**
+	 * Same as {@link Assertions#present(Optional, String)}, without checking {@code variableName}.
+	 */
+	public static <T> T present(Optional<T> optionalObject, String variableName)
+	{
+		if (optionalObject == null)
+			throw Failures.isNull(Subject.VARIABLE, variableName);
+		if (!optionalObject.isPresent())
+			throw Failures.notPresent(variableName);
+		return optionalObject.get();
+	}
+
+	/**
+	 * Same as {@link Assertions#equal(long, long, String)}, without checking {@code variableName}.
+	 */
+	public static long equal(long val, long referenceVal, String variableName)
+	{
+		if (val != referenceVal)
+			throw Failures.compared(CheckKind.EQUAL, variableName, val, referenceVal);
+		return val;
+	}
+
+	/**
+	 * Same as {@link Assertions#equal(double, double, String)}, without checking {@code variableName}.
+	 */
+	public static double equal(double val, double referenceVal, String variableName)
+	{
+		if (val != referenceVal)
+			throw Failures.compared(CheckKind.EQUAL, variableName, val, referenceVal);
+		return val;
+	}
+
+	/**
+	 * Same as {@link Assertions#notEqual(long, long, String)}, without checking {@code variableName}.
+	 */
+	public static long notEqual(long val, long referenceVal, String variableName)
+	{
+		if (val == referenceVal)
+			throw Failures.compared(CheckKind.NOT_EQUAL, variableName, val, referenceVal);
+		return val;
+	}
+
+	/**
+	 * Same as {@link Assertions#notEqual(double, double, String)}, without checking {@code variableName}.
+	 */
+	public static double notEqual(double val, double referenceVal, String variableName)
+	{
+		if (val == referenceVal)
+			throw Failures.compared(CheckKind.NOT_EQUAL, variableName, val, referenceVal);
+		return val;
+	}
+
+	/**
+	 * Same as {@link Assertions#greater(long, long, String)}, without checking {@code variableName}.
+	 */
+	public static long greater(long val, long referenceVal, String variableName)
+	{
+		if (val <= referenceVal)
+			throw Failures.compared(CheckKind.GREATER, variableName, val, referenceVal);
+		return val;
+	}
+
+	/**
+	 * Same as {@link Assertions#greater(double, double, String)}, without checking {@code variableName}.
+	 */
+	public static double greater(double val, double referenceVal, String variableName)
+	{
+		if (val <= referenceVal)
+			throw Failures.compared(CheckKind.GREATER, variableName, val, referenceVal);
+		return val;
+	}
+
+	/**
+	 * Same as {@link Assertions#notGreater(long, long, String)}, without checking {@code variableName}.
+	 */
+	public static long notGreater(long val, long referenceVal, String variableName)
+	{
+		if (val > referenceVal)
+			throw Failures.compared(CheckKind.NOT_GREATER, variableName, val, referenceVal);
+		return val;
+	}
+
+	/**
+	 * Same as {@link Assertions#notGreater(double, double, String)}, without checking {@code variableName}.
+	 */
+	public static double notGreater(double val, double referenceVal, String variableName)
+	{
+		if (val > referenceVal)
+			throw Failures.compared(CheckKind.NOT_GREATER, variableName, val, referenceVal);
+		return val;
+	}
+
+	/**
+	 * Same as {@link Assertions#less(long, long, String)}, without checking {@code variableName}.
+	 */
+	public static long less(long val, long referenceVal, String variableName)
+	{
+		if (val >= referenceVal)
+			throw Failures.compared(CheckKind.LESS, variableName, val, referenceVal);
+		return val;
+	}
+
+	/**
+	 * Same as {@link Assertions#less(double, double, String)}, without checking {@code variableName}.
+	 */
+	public static double less(double val, double referenceVal, String variableName)
+	{
+		if (val >= referenceVal)
+			throw Failures.compared(CheckKind.LESS, variableName, val, referenceVal);
+		return val;
+	}
+
+	/**
+	 * Same as {@link Assertions#notLess(long, long, String)}, without checking {@code variableName}.
+	 */
+	public static long notLess(long val, long referenceVal, String variableName)
+	{
+		if (val < referenceVal)
+			throw Failures.compared(CheckKind.NOT_LESS, variableName, val, referenceVal);
+		return val;
+	}
+
+	/**
+	 * Same as {@link Assertions#notLess(double, double, String)}, without checking {@code variableName}.
+	 */
+	public static double notLess(double val, double referenceVal, String variableName)
+	{
+		if (val < referenceVal)
+			throw Failures.compared(CheckKind.NOT_LESS, variableName, val, referenceVal);
+		return val;
+	}
+
+	/**
+	 * Same as {@link Assertions#between(long, long, long, String)}, without checking {@code variableName}.
+	 */
+	public static long between(long val, long lowReferenceVal, long highReferenceVal, String variableName)
+	{
+		if (val < lowReferenceVal || val > highReferenceVal)
+			throw Failures.notBetween(variableName, val, lowReferenceVal, highReferenceVal);
+		return val;
+	}
+
+	/**
+	 * Same as {@link Assertions#between(double, double, double, String)}, without checking {@code variableName}.
+	 */
+	public static double between(double val, double lowReferenceVal, double highReferenceVal, String variableName)
+	{
+		if (val < lowReferenceVal || val > highReferenceVal)
+			throw Failures.notBetween(variableName, val, lowReferenceVal, highReferenceVal);
+		return val;
+	}
+}
@@ -0,0 +1,72 @@
+package com.zieglersoftware.assertions;
+
+/**
+ * A minimal insert-only hash set of {@code long} values, using open addressing with linear probing over a single {@code long[]}.
+ * Compared to a {@code HashSet<Long>}, there is no boxing and no per-element node, so memory is between 10.7 and 21.3 bytes per element
+ * instead of roughly 50.
+ * <p>
+ * Zero marks an empty slot, so membership of zero itself is tracked separately.
+ */
+final class LongHashSet
+{
+	private static final int MAX_CAPACITY = 1 << 30;
+
+	private final long[] table;
+	private final int mask;
+	private int size;
+	private boolean containsZero;
+
+	/**
+	 * Creates a set that can hold {@code expectedSize} elements without exceeding a load factor of 0.75. The table is capped at
+	 * 2<sup>30</sup> slots, the largest power of two an array can have, so beyond about 805 million elements the load factor grows
+	 * instead. At most 2<sup>30</sup> - 1 distinct non-zero values fit.
+	 */
+	LongHashSet(int expectedSize)
+	{
+		long minCapacity = Math.max(2, (long) expectedSize * 4 / 3 + 1);
+		int capacity = minCapacity > MAX_CAPACITY ? MAX_CAPACITY : Integer.highestOneBit((int) minCapacity - 1) << 1;
+		this.table = new long[capacity];
+		this.mask = capacity - 1;
+	}
+
+	/**
+	 * Adds the given value, returning {@code false} if it was already present. Adding more than {@code expectedSize} distinct values
+	 * is not supported. Throws an {@code IllegalStateException} if the value is new and the capped table is full.
+	 */
+	boolean add(long val)
+	{
+		if (val == 0)
+		{
+			if (containsZero)
+				return false;
+			containsZero = true;
+			return true;
+		}
+		long[] table = this.table;
+		int i = (int) mix(val) & mask;
+		long existing;
+		while ((existing = table[i]) != 0)
+		{
+			if (existing == val)
+				return false;
+			i = (i + 1) & mask;
+		}
+		// One slot always stays empty, so that the probe loop above terminates
+		if (size == mask)
+			throw new IllegalStateException("LongHashSet cannot hold more than " + mask + " distinct non-zero values");
+		table[i] = val;
+		size++;
+		return true;
+	}
+
+	// Finalizer of MurmurHash3, so that sequential and patterned values still spread over the table
+	private static long mix(long val)
+	{
+		val ^= val >>> 33;
+		val *= 0xff51afd7ed558ccdL;
+		val ^= val >>> 33;
+		val *= 0xc4ceb9fe1a85ec53L;
+		val ^= val >>> 33;
+		return val;
+	}
+}
@@ -0,0 +1,67 @@
+package com.zieglersoftware.assertions;
+
+import java.util.Arrays;
+
+/**
+ * An immutable set of {@code long} values, precompiled for use with {@link Assertions#oneOf(long, LongMembership, String)} and
+ * {@link Assertions#noneOf(long, LongMembership, String)}.
+ * <p>
+ * The members are kept in a sorted array without duplicates and looked up with a binary search, so checking membership neither boxes
+ * nor allocates, and the memory used is eight bytes per member.
+ */
+public final class LongMembership
+{
+	private static final int RENDERED_MEMBERS = 10;
+
+	private final long[] members;
+
+	private LongMembership(long[] sortedDistinctMembers)
+	{
+		this.members = sortedDistinctMembers;
+	}
+
+	/**
+	 * Returns a {@code LongMembership} containing the given values. Duplicates are ignored.
+	 * The given array is copied, so it may be modified afterwards.
+	 */
+	public static LongMembership of(long... members)
+	{
+		if (members == null)
+			throw new NullPointerException("members cannot be null");
+		long[] sorted = members.clone();
+		Arrays.sort(sorted);
+		int distinct = 0;
+		for (int i = 0; i < sorted.length; i++)
+			if (i == 0 || sorted[i] != sorted[distinct - 1])
+				sorted[distinct++] = sorted[i];
+		return new LongMembership(distinct == sorted.length ? sorted : Arrays.copyOf(sorted, distinct));
+	}
+
+	/**
+	 * Returns whether the given value is a member.
+	 */
+	public boolean contains(long val)
+	{
+		return Arrays.binarySearch(members, val) >= 0;
+	}
+
+	/**
+	 * Returns the members in ascending order, formatted like {@link Arrays#toString(long[])}. Only the first ten members are listed,
+	 * followed by the number of members left out.
+	 */
+	@Override
+	public String toString()
+	{
+		StringBuilder sb = new StringBuilder("[");
+		int rendered = Math.min(members.length, RENDERED_MEMBERS);
+		for (int i = 0; i < rendered; i++)
+		{
+			if (i > 0)
+				sb.append(", ");
+			sb.append(members[i]);
+		}
+		if (rendered < members.length)
+			sb.append(", ... (").append(members.length - rendered).append(" more)");
+		return sb.append(']').toString();
+	}
+}
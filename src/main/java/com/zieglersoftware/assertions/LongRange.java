@@ -0,0 +1,101 @@
+package com.zieglersoftware.assertions;
+
+/**
+ * An immutable range of {@code long} values, inclusive at both ends, for checking many values against the same bounds.
+ * <p>
+ * {@link #check(long, String)} passes and fails exactly like {@link Assertions#between(long, long, long, String)} with the same bounds.
+ * The width of the range is computed once, so that each check is a single unsigned comparison of the value's offset from the low bound.
+ */
+public final class LongRange
+{
+	private final long low;
+	private final long high;
+	// high - low, compared as unsigned so that the full range of long fits
+	private final long width;
+
+	private LongRange(long low, long high)
+	{
+		this.low = low;
+		this.high = high;
+		this.width = high - low;
+	}
+
+	/**
+	 * Returns the range from {@code low} to {@code high}, inclusive. {@code low} must not be greater than {@code high}.
+	 */
+	public static LongRange of(long low, long high)
+	{
+		if (low > high)
+			throw new IllegalArgumentException("low must not be greater than high. Was " + low + " and " + high);
+		return new LongRange(low, high);
+	}
+
+	/**
+	 * Returns whether the given value is within this range.
+	 */
+	public boolean contains(long val)
+	{
+		return Long.compareUnsigned(val - low, width) <= 0;
+	}
+
+	/**
+	 * Asserts that the given value is within this range. Returns the given value if the assertion succeeds.
+	 * <p>
+	 * {@code variableName} should be the name of the variable being tested.
+	 * It will be included in the exception message for debugging purposes.
+	 */
+	public long check(long val, String variableName)
+	{
+		if (variableName == null)
+			throw new NullPointerException("variableName cannot be null. This is about the variable name, not the variable itself!");
+		if (Long.compareUnsigned(val - low, width) > 0)
+			throw Failures.notBetween(variableName, val, low, high);
+		return val;
+	}
+
+	/**
+	 * Asserts that the given array is not null and that all of its values are within this range. Returns the given array if the
+	 * assertion succeeds. If it fails, the exception reports the first value outside the range and its index.
+	 * <p>
+	 * {@code arrayName} should be the name of the array being tested.
+	 * It will be included in the exception message for debugging purposes.
+	 */
+	public long[] check(long[] values, String arrayName)
+	{
+		if (arrayName == null)
+			throw new NullPointerException("arrayName cannot be null. This is about the name of the array, not the array itself!");
+		if (values == null)
+			throw Failures.isNull(Subject.ARRAY, arrayName);
+		long low = this.low;
+		long width = this.width;
+		for (int i = 0; i < values.length; i++)
+			if (Long.compareUnsigned(values[i] - low, width) > 0)
+				throw Failures.elementNotBetween(Subject.ARRAY, arrayName, i, values[i], low, high);
+		return values;
+	}
+
+	/**
+	 * Returns the low bound, which is within the range.
+	 */
+	public long getLow()
+	{
+		return low;
+	}
+
+	/**
+	 * Returns the high bound, which is within the range.
+	 */
+	public long getHigh()
+	{
+		return high;
+	}
+
+	/**
+	 * Returns the bounds formatted as {@code [low, high]}.
+	 */
+	@Override
+	public String toString()
+	{
+		return "[" + low + ", " + high + "]";
+	}
+}
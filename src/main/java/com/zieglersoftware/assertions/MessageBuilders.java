@@ -0,0 +1,52 @@
+package com.zieglersoftware.assertions;
+
+/**
+ * Per-thread {@code StringBuilder}s for rendering failure messages, so that rendering a message creates only the final {@code String}.
+ * <p>
+ * A builder is taken out of its thread's slot while in use, so a message rendered from within another rendering, e.g., by the
+ * {@code toString} of a value, gets a fresh builder instead of corrupting the outer one. A builder that grew beyond
+ * {@link #MAX_RETAINED_CAPACITY} for a long message is not kept, so each thread retains at most that many chars, and nothing once the
+ * thread ends. Threads that render only one message, such as short-lived virtual threads, pay no more than they would without reuse.
+ */
+final class MessageBuilders
+{
+	static final int INITIAL_CAPACITY = 128;
+	static final int MAX_RETAINED_CAPACITY = 1024;
+
+	private static final ThreadLocal<StringBuilder> BUILDERS = new ThreadLocal<>();
+
+	// Do not instantiate
+	private MessageBuilders()
+	{
+	}
+
+	static StringBuilder acquire()
+	{
+		StringBuilder sb = BUILDERS.get();
+		if (sb == null)
+			return new StringBuilder(INITIAL_CAPACITY);
+		BUILDERS.set(null);
+		return sb;
+	}
+
+	/**
+	 * Returns the contents of the given builder, which must have come from {@link #acquire()} on this thread, and makes it available for
+	 * reuse.
+	 */
+	static String release(StringBuilder sb)
+	{
+		String s = sb.toString();
+		if (sb.capacity() <= MAX_RETAINED_CAPACITY)
+		{
+			sb.setLength(0);
+			BUILDERS.set(sb);
+		}
+		return s;
+	}
+
+	// For tests
+	static StringBuilder retained()
+	{
+		return BUILDERS.get();
+	}
+}
@@ -0,0 +1,107 @@
+package com.zieglersoftware.assertions;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+
+/**
+ * An immutable set of objects, precompiled for use with {@link Assertions#oneOf(Object, ObjectMembership, String)} and
+ * {@link Assertions#noneOf(Object, ObjectMembership, String)}.
+ * <p>
+ * The members are stored in a flat open-addressing table with linear probing, sized to at most half full. This is meant for the small
+ * sets typical of allowed values, such as status codes or tenant names, where a membership check is one {@code hashCode} call and
+ * usually a single {@code equals} call, with no allocation. Members are compared using {@code equals}, so their {@code hashCode} and
+ * {@code equals} must be consistent and must not change while they are members.
+ */
+public final class ObjectMembership<T>
+{
+	private static final int RENDERED_MEMBERS = 10;
+
+	private final Object[] members;
+	private final Object[] table;
+	private final int mask;
+
+	private ObjectMembership(Object[] members)
+	{
+		this.members = new LinkedHashSet<>(Arrays.asList(members)).toArray();
+		int capacity = 2;
+		while (capacity < this.members.length * 2)
+			capacity <<= 1;
+		this.table = new Object[capacity];
+		this.mask = capacity - 1;
+		for (Object member : this.members)
+		{
+			if (member == null)
+				throw new NullPointerException("No member of an ObjectMembership may be null");
+			int i = spread(member.hashCode()) & mask;
+			while (table[i] != null)
+				i = (i + 1) & mask;
+			table[i] = member;
+		}
+	}
+
+	/**
+	 * Returns an {@code ObjectMembership} containing the given objects. Duplicates are ignored.
+	 */
+	@SafeVarargs
+	public static <T> ObjectMembership<T> of(T... members)
+	{
+		if (members == null)
+			throw new NullPointerException("members cannot be null");
+		return new ObjectMembership<>(Arrays.copyOf(members, members.length, Object[].class));
+	}
+
+	/**
+	 * Returns an {@code ObjectMembership} containing the objects in the given collection. Duplicates are ignored.
+	 */
+	public static <T> ObjectMembership<T> copyOf(Collection<? extends T> members)
+	{
+		if (members == null)
+			throw new NullPointerException("members cannot be null");
+		return new ObjectMembership<>(members.toArray());
+	}
+
+	/**
+	 * Returns whether the given object is equal to a member. Null is never a member.
+	 */
+	public boolean contains(Object o)
+	{
+		if (o == null)
+			return false;
+		Object[] table = this.table;
+		int i = spread(o.hashCode()) & mask;
+		Object candidate;
+		while ((candidate = table[i]) != null)
+		{
+			if (candidate == o || candidate.equals(o))
+				return true;
+			i = (i + 1) & mask;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the members in the order they were given, formatted like {@link java.util.AbstractCollection#toString()}. Only the first
+	 * ten members are listed, followed by the number of members left out, so that failure messages stay short for large sets.
+	 */
+	@Override
+	public String toString()
+	{
+		StringBuilder sb = new StringBuilder("[");
+		int rendered = Math.min(members.length, RENDERED_MEMBERS);
+		for (int i = 0; i < rendered; i++)
+		{
+			if (i > 0)
+				sb.append(", ");
+			sb.append(members[i]);
+		}
+		if (rendered < members.length)
+			sb.append(", ... (").append(members.length - rendered).append(" more)");
+		return sb.append(']').toString();
+	}
+
+	private static int spread(int hashCode)
+	{
+		return hashCode ^ (hashCode >>> 16);
+	}
+}
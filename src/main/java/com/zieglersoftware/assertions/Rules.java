@@ -0,0 +1,460 @@
+package com.zieglersoftware.assertions;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable list of field checks for use with {@link Assertions#validateFields(Object, Rules)}.
+ * <p>
+ * Start with {@link #rules()} and add checks with the fluent methods, each of which returns a new {@code Rules}. A {@code Rules} is
+ * meant to be built once, e.g., in a {@code static final} field, and reused for every object validated against it:
+ *
+ * <pre>
+ * private static final Rules PERSON_RULES = Rules.rules()
+ * 	.notEmpty("name")
+ * 	.between("age", 0, 150)
+ * 	.notNull("address");
+ * </pre>
+ *
+ * The first time a {@code Rules} validates an object of a given class, the named fields are resolved into {@link MethodHandle} getters.
+ * These are cached per class in a {@link ClassValue}, so later validations perform no reflective lookups. The getters are not constants
+ * to the JIT compiler, though, so each field read remains an indirect call that is not inlined: much cheaper than reflection, but not as
+ * cheap as a hand-written getter call. {@code LambdaMetafactory} cannot close that gap, since it does not accept field getters, and
+ * generating accessor classes per validated class is not worth the complexity for a validation helper. The cache is stored with the
+ * validated class itself and refers to nothing but that class, so it does not keep class loaders alive after their classes are unloaded.
+ * <p>
+ * Fields are looked up by name in the class and then its superclasses. Static fields are ignored. If a field cannot be found, or its type
+ * does not fit the check, an {@code IllegalArgumentException} is thrown when the first object of that class is validated.
+ */
+public final class Rules
+{
+	private static final Rules EMPTY = new Rules(Collections.<Rule>emptyList());
+
+	private final List<Rule> rules;
+	private final ClassValue<FieldCheck[]> checksByClass = new ClassValue<FieldCheck[]>()
+	{
+		@Override
+		protected FieldCheck[] computeValue(Class<?> type)
+		{
+			return bind(type);
+		}
+	};
+
+	private Rules(List<Rule> rules)
+	{
+		this.rules = rules;
+	}
+
+	/**
+	 * Returns a {@code Rules} containing no checks.
+	 */
+	public static Rules rules()
+	{
+		return EMPTY;
+	}
+
+	/**
+	 * Returns a copy of these rules with an added check that the named field is not null.
+	 *
+	 * @see Assertions#notNull(Object, String)
+	 */
+	public Rules notNull(String fieldName)
+	{
+		return with(new Rule(RuleKind.NOT_NULL, fieldName, 0, 0, 0, 0));
+	}
+
+	/**
+	 * Returns a copy of these rules with an added check that the named {@code String} or {@code Collection} field is not null and not empty.
+	 *
+	 * @see Assertions#notEmpty(String, String)
+	 * @see Assertions#notEmpty(Collection, String)
+	 */
+	public Rules notEmpty(String fieldName)
+	{
+		return with(new Rule(RuleKind.NOT_EMPTY, fieldName, 0, 0, 0, 0));
+	}
+
+	/**
+	 * Returns a copy of these rules with an added check that the named integral field is between the two given reference values, inclusive.
+	 * Fields of type {@code char} and {@code Character} are checked by their numeric value. Boxed fields are also checked to be not null.
+	 * {@code lowReferenceVal} must not be greater than {@code highReferenceVal}.
+	 *
+	 * @see Assertions#between(long, long, long, String)
+	 */
+	public Rules between(String fieldName, long lowReferenceVal, long highReferenceVal)
+	{
+		if (lowReferenceVal > highReferenceVal)
+			throw new IllegalArgumentException(
+				"lowReferenceVal must not be greater than highReferenceVal. Was " + lowReferenceVal + " and " + highReferenceVal);
+		return with(new Rule(RuleKind.LONG_BETWEEN, fieldName, lowReferenceVal, highReferenceVal, 0, 0));
+	}
+
+	/**
+	 * Returns a copy of these rules with an added check that the named numeric field is between the two given reference values, inclusive.
+	 * Fields of type {@code char} and {@code Character} are checked by their numeric value. Boxed fields are also checked to be not null.
+	 * {@code BigInteger} and {@code BigDecimal} values are compared exactly with the reference values, as given by
+	 * {@link BigDecimal#valueOf(double)}, rather than being converted to {@code double}, also when the field is declared as a supertype
+	 * such as {@code Number}. Neither reference value may be NaN, and
+	 * {@code lowReferenceVal} must not be greater than {@code highReferenceVal}.
+	 *
+	 * @see Assertions#between(double, double, double, String)
+	 */
+	public Rules between(String fieldName, double lowReferenceVal, double highReferenceVal)
+	{
+		if (Double.isNaN(lowReferenceVal) || Double.isNaN(highReferenceVal) || lowReferenceVal > highReferenceVal)
+			throw new IllegalArgumentException("lowReferenceVal must not be greater than highReferenceVal, and neither may be NaN. Was " +
+				lowReferenceVal + " and " + highReferenceVal);
+		return with(new Rule(RuleKind.DOUBLE_BETWEEN, fieldName, 0, 0, lowReferenceVal, highReferenceVal));
+	}
+
+	void check(Object object)
+	{
+		for (FieldCheck check : checksByClass.get(object.getClass()))
+			check.check(object);
+	}
+
+	private Rules with(Rule rule)
+	{
+		List<Rule> newRules = new ArrayList<>(rules.size() + 1);
+		newRules.addAll(rules);
+		newRules.add(rule);
+		return new Rules(Collections.unmodifiableList(newRules));
+	}
+
+	private FieldCheck[] bind(Class<?> type)
+	{
+		FieldCheck[] checks = new FieldCheck[rules.size()];
+		for (int i = 0; i < checks.length; i++)
+			checks[i] = rules.get(i).bind(type);
+		return checks;
+	}
+
+	private enum RuleKind
+	{
+		NOT_NULL, NOT_EMPTY, LONG_BETWEEN, DOUBLE_BETWEEN
+	}
+
+	private static final class Rule
+	{
+		private final RuleKind kind;
+		private final String fieldName;
+		private final long lowLong;
+		private final long highLong;
+		private final double lowDouble;
+		private final double highDouble;
+
+		Rule(RuleKind kind, String fieldName, long lowLong, long highLong, double lowDouble, double highDouble)
+		{
+			if (fieldName == null)
+				throw new NullPointerException("fieldName cannot be null");
+			this.kind = kind;
+			this.fieldName = fieldName;
+			this.lowLong = lowLong;
+			this.highLong = highLong;
+			this.lowDouble = lowDouble;
+			this.highDouble = highDouble;
+		}
+
+		FieldCheck bind(Class<?> type)
+		{
+			Field field = findField(type, fieldName);
+			Class<?> fieldType = field.getType();
+			MethodHandle getter = getter(field);
+			switch (kind)
+			{
+			case NOT_NULL:
+				if (fieldType.isPrimitive())
+					throw misfit(type, "notNull", "a reference type");
+				return new NotNullCheck(fieldName, asObjectGetter(getter));
+			case NOT_EMPTY:
+				if (String.class.isAssignableFrom(fieldType))
+					return new NotEmptyStringCheck(fieldName, getter.asType(MethodType.methodType(String.class, Object.class)));
+				if (Collection.class.isAssignableFrom(fieldType))
+					return new NotEmptyCollectionCheck(fieldName, getter.asType(MethodType.methodType(Collection.class, Object.class)));
+				throw misfit(type, "notEmpty", "a String or Collection");
+			case LONG_BETWEEN:
+				if (fieldType == long.class || fieldType == int.class || fieldType == short.class || fieldType == byte.class ||
+					fieldType == char.class)
+					return new LongBetweenCheck(fieldName, getter.asType(MethodType.methodType(long.class, Object.class)), lowLong, highLong);
+				if (fieldType == Long.class || fieldType == Integer.class || fieldType == Short.class || fieldType == Byte.class ||
+					fieldType == Character.class)
+					return new BoxedLongBetweenCheck(fieldName, asObjectGetter(getter), lowLong, highLong);
+				throw misfit(type, "between(long, long)", "integral");
+			case DOUBLE_BETWEEN:
+				if (fieldType.isPrimitive() && fieldType != boolean.class)
+					return new DoubleBetweenCheck(fieldName, getter.asType(MethodType.methodType(double.class, Object.class)), lowDouble,
+						highDouble);
+				if (Number.class.isAssignableFrom(fieldType) || fieldType == Character.class)
+					return new BoxedDoubleBetweenCheck(fieldName, asObjectGetter(getter), lowDouble, highDouble);
+				throw misfit(type, "between(double, double)", "numeric");
+			default:
+				throw new AssertionError(kind);
+			}
+		}
+
+		private IllegalArgumentException misfit(Class<?> type, String check, String requiredType)
+		{
+			return new IllegalArgumentException(
+				"Field \"" + fieldName + "\" of " + type.getName() + " must be " + requiredType + " to be checked with " + check);
+		}
+	}
+
+	private static Field findField(Class<?> type, String fieldName)
+	{
+		for (Class<?> c = type; c != null; c = c.getSuperclass())
+			for (Field field : c.getDeclaredFields())
+				if (field.getName().equals(fieldName) && !Modifier.isStatic(field.getModifiers()))
+					return field;
+		throw new IllegalArgumentException("No instance field \"" + fieldName + "\" in " + type.getName() + " or its superclasses");
+	}
+
+	private static MethodHandle getter(Field field)
+	{
+		try
+		{
+			field.setAccessible(true);
+			MethodHandle getter = MethodHandles.lookup().unreflectGetter(field);
+			return getter.asType(getter.type().changeParameterType(0, Object.class));
+		}
+		catch (IllegalAccessException | RuntimeException e)
+		{
+			throw new IllegalArgumentException("Field \"" + field.getName() + "\" of " + field.getDeclaringClass().getName() +
+				" cannot be read", e);
+		}
+	}
+
+	private static MethodHandle asObjectGetter(MethodHandle getter)
+	{
+		return getter.asType(MethodType.methodType(Object.class, Object.class));
+	}
+
+	private static RuntimeException rethrow(Throwable t)
+	{
+		if (t instanceof RuntimeException)
+			throw (RuntimeException) t;
+		if (t instanceof Error)
+			throw (Error) t;
+		throw new IllegalStateException(t);
+	}
+
+	private static abstract class FieldCheck
+	{
+		final String fieldName;
+		final MethodHandle getter;
+
+		FieldCheck(String fieldName, MethodHandle getter)
+		{
+			this.fieldName = fieldName;
+			this.getter = getter;
+		}
+
+		abstract void check(Object object);
+	}
+
+	private static final class NotNullCheck extends FieldCheck
+	{
+		NotNullCheck(String fieldName, MethodHandle getter)
+		{
+			super(fieldName, getter);
+		}
+
+		@Override
+		void check(Object object)
+		{
+			Object value;
+			try
+			{
+				value = (Object) getter.invokeExact(object);
+			}
+			catch (Throwable t)
+			{
+				throw rethrow(t);
+			}
+			Assertions.notNull(value, fieldName);
+		}
+	}
+
+	private static final class NotEmptyStringCheck extends FieldCheck
+	{
+		NotEmptyStringCheck(String fieldName, MethodHandle getter)
+		{
+			super(fieldName, getter);
+		}
+
+		@Override
+		void check(Object object)
+		{
+			String value;
+			try
+			{
+				value = (String) getter.invokeExact(object);
+			}
+			catch (Throwable t)
+			{
+				throw rethrow(t);
+			}
+			Assertions.notEmpty(value, fieldName);
+		}
+	}
+
+	private static final class NotEmptyCollectionCheck extends FieldCheck
+	{
+		NotEmptyCollectionCheck(String fieldName, MethodHandle getter)
+		{
+			super(fieldName, getter);
+		}
+
+		@Override
+		void check(Object object)
+		{
+			Collection<?> value;
+			try
+			{
+				value = (Collection<?>) getter.invokeExact(object);
+			}
+			catch (Throwable t)
+			{
+				throw rethrow(t);
+			}
+			Assertions.notEmpty(value, fieldName);
+		}
+	}
+
+	private static final class LongBetweenCheck extends FieldCheck
+	{
+		private final long lowReferenceVal;
+		private final long highReferenceVal;
+
+		LongBetweenCheck(String fieldName, MethodHandle getter, long lowReferenceVal, long highReferenceVal)
+		{
+			super(fieldName, getter);
+			this.lowReferenceVal = lowReferenceVal;
+			this.highReferenceVal = highReferenceVal;
+		}
+
+		@Override
+		void check(Object object)
+		{
+			long value;
+			try
+			{
+				value = (long) getter.invokeExact(object);
+			}
+			catch (Throwable t)
+			{
+				throw rethrow(t);
+			}
+			Assertions.between(value, lowReferenceVal, highReferenceVal, fieldName);
+		}
+	}
+
+	private static final class BoxedLongBetweenCheck extends FieldCheck
+	{
+		private final long lowReferenceVal;
+		private final long highReferenceVal;
+
+		BoxedLongBetweenCheck(String fieldName, MethodHandle getter, long lowReferenceVal, long highReferenceVal)
+		{
+			super(fieldName, getter);
+			this.lowReferenceVal = lowReferenceVal;
+			this.highReferenceVal = highReferenceVal;
+		}
+
+		@Override
+		void check(Object object)
+		{
+			Object value;
+			try
+			{
+				value = (Object) getter.invokeExact(object);
+			}
+			catch (Throwable t)
+			{
+				throw rethrow(t);
+			}
+			Assertions.notNull(value, fieldName);
+			long longValue = value instanceof Character ? (Character) value : ((Number) value).longValue();
+			Assertions.between(longValue, lowReferenceVal, highReferenceVal, fieldName);
+		}
+	}
+
+	private static final class DoubleBetweenCheck extends FieldCheck
+	{
+		private final double lowReferenceVal;
+		private final double highReferenceVal;
+
+		DoubleBetweenCheck(String fieldName, MethodHandle getter, double lowReferenceVal, double highReferenceVal)
+		{
+			super(fieldName, getter);
+			this.lowReferenceVal = lowReferenceVal;
+			this.highReferenceVal = highReferenceVal;
+		}
+
+		@Override
+		void check(Object object)
+		{
+			double value;
+			try
+			{
+				value = (double) getter.invokeExact(object);
+			}
+			catch (Throwable t)
+			{
+				throw rethrow(t);
+			}
+			Assertions.between(value, lowReferenceVal, highReferenceVal, fieldName);
+		}
+	}
+
+	// Also used for BigInteger and BigDecimal fields, and compares values of those types exactly, whatever the declared type of the field
+	private static final class BoxedDoubleBetweenCheck extends FieldCheck
+	{
+		private final double lowReferenceVal;
+		private final double highReferenceVal;
+		// Null for an infinite reference value, which every value passes
+		private final BigDecimal lowDecimal;
+		private final BigDecimal highDecimal;
+
+		BoxedDoubleBetweenCheck(String fieldName, MethodHandle getter, double lowReferenceVal, double highReferenceVal)
+		{
+			super(fieldName, getter);
+			this.lowReferenceVal = lowReferenceVal;
+			this.highReferenceVal = highReferenceVal;
+			this.lowDecimal = Double.isInfinite(lowReferenceVal) ? null : BigDecimal.valueOf(lowReferenceVal);
+			this.highDecimal = Double.isInfinite(highReferenceVal) ? null : BigDecimal.valueOf(highReferenceVal);
+		}
+
+		@Override
+		void check(Object object)
+		{
+			Object value;
+			try
+			{
+				value = (Object) getter.invokeExact(object);
+			}
+			catch (Throwable t)
+			{
+				throw rethrow(t);
+			}
+			Assertions.notNull(value, fieldName);
+			if (value instanceof BigDecimal || value instanceof BigInteger)
+			{
+				BigDecimal decimal = value instanceof BigInteger ? new BigDecimal((BigInteger) value) : (BigDecimal) value;
+				if (lowDecimal != null && decimal.compareTo(lowDecimal) < 0 || highDecimal != null && decimal.compareTo(highDecimal) > 0)
+					throw Failures.notBetween(fieldName, value, lowReferenceVal, highReferenceVal);
+				return;
+			}
+			double doubleValue = value instanceof Character ? (Character) value : ((Number) value).doubleValue();
+			Assertions.between(doubleValue, lowReferenceVal, highReferenceVal, fieldName);
+		}
+	}
+}
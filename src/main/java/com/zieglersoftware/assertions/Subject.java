@@ -0,0 +1,26 @@
+package com.zieglersoftware.assertions;
+
+/**
+ * What a check was applied to, which determines the wording of the failure message.
+ */
+enum Subject
+{
+	VARIABLE("Variable", "variable", "element"),
+	STRING("String", "string", "element"),
+	COLLECTION("Collection", "collection", "element"),
+	STRING_COLLECTION("Collection", "collection", "string"),
+	LIST("List", "list", "element"),
+	SET("Set", "set", "element"),
+	ARRAY("Array", "array", "element");
+
+	final String label;
+	final String lowerCaseLabel;
+	final String elementLabel;
+
+	private Subject(String label, String lowerCaseLabel, String elementLabel)
+	{
+		this.label = label;
+		this.lowerCaseLabel = lowerCaseLabel;
+		this.elementLabel = elementLabel;
+	}
+}
@@ -0,0 +1,14 @@
+package com.zieglersoftware.assertions;
+
+/**
+ * Implemented by the collections returned by {@link Assertions#nonNullList(String)} and similar methods, which check every element as it
+ * is added. The methods of {@link Assertions} recognize them and skip scanning their elements, since the elements already passed.
+ */
+interface ValidatedCollection
+{
+	/**
+	 * Returns whether the collection also rejects empty strings, so that its elements pass
+	 * {@link Assertions#notEmptyAllNotEmpty(java.util.Collection, String)}.
+	 */
+	boolean rejectsEmptyStrings();
+}
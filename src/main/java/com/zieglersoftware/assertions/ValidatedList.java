@@ -0,0 +1,81 @@
+package com.zieglersoftware.assertions;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.RandomAccess;
+
+/**
+ * An {@code ArrayList}-backed list that rejects null elements, and optionally empty strings, when they are added or set.
+ * <p>
+ * Every mutation, including those through iterators, sublists and default methods such as {@code replaceAll} and {@code sort}, goes
+ * through {@link #add(int, Object)}, {@link #set(int, Object)}, {@link #remove(int)} or {@link #removeRange(int, int)}, so checking in
+ * the first two is enough to keep the invariant.
+ */
+final class ValidatedList<E> extends AbstractList<E> implements RandomAccess, ValidatedCollection
+{
+	private final ArrayList<E> elements = new ArrayList<>();
+	private final String name;
+	private final boolean rejectsEmptyStrings;
+
+	ValidatedList(String name, boolean rejectsEmptyStrings)
+	{
+		this.name = name;
+		this.rejectsEmptyStrings = rejectsEmptyStrings;
+	}
+
+	@Override
+	public boolean rejectsEmptyStrings()
+	{
+		return rejectsEmptyStrings;
+	}
+
+	@Override
+	public E get(int index)
+	{
+		return elements.get(index);
+	}
+
+	@Override
+	public int size()
+	{
+		return elements.size();
+	}
+
+	@Override
+	public E set(int index, E element)
+	{
+		check(element, index);
+		return elements.set(index, element);
+	}
+
+	@Override
+	public void add(int index, E element)
+	{
+		check(element, index);
+		elements.add(index, element);
+		modCount++;
+	}
+
+	@Override
+	public E remove(int index)
+	{
+		E removed = elements.remove(index);
+		modCount++;
+		return removed;
+	}
+
+	@Override
+	protected void removeRange(int fromIndex, int toIndex)
+	{
+		elements.subList(fromIndex, toIndex).clear();
+		modCount++;
+	}
+
+	private void check(E element, int index)
+	{
+		if (element == null)
+			throw Failures.nullElement(Subject.LIST, name, index);
+		if (rejectsEmptyStrings && ((String) element).isEmpty())
+			throw Failures.emptyElement(Subject.LIST, name, index);
+	}
+}
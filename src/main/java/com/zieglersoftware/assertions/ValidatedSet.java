@@ -0,0 +1,68 @@
+package com.zieglersoftware.assertions;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+
+/**
+ * A {@code LinkedHashSet}-backed set that rejects null elements, and optionally empty strings, when they are added. Elements can only be
+ * added through {@link #add(Object)}, so checking there is enough to keep the invariant.
+ */
+final class ValidatedSet<E> extends AbstractSet<E> implements ValidatedCollection
+{
+	private final LinkedHashSet<E> elements = new LinkedHashSet<>();
+	private final String name;
+	private final boolean rejectsEmptyStrings;
+
+	ValidatedSet(String name, boolean rejectsEmptyStrings)
+	{
+		this.name = name;
+		this.rejectsEmptyStrings = rejectsEmptyStrings;
+	}
+
+	@Override
+	public boolean rejectsEmptyStrings()
+	{
+		return rejectsEmptyStrings;
+	}
+
+	@Override
+	public boolean add(E element)
+	{
+		if (element == null)
+			throw Failures.nullElement(Subject.SET, name, -1);
+		if (rejectsEmptyStrings && ((String) element).isEmpty())
+			throw Failures.emptyElement(Subject.SET, name, -1);
+		return elements.add(element);
+	}
+
+	@Override
+	public boolean contains(Object o)
+	{
+		return elements.contains(o);
+	}
+
+	@Override
+	public boolean remove(Object o)
+	{
+		return elements.remove(o);
+	}
+
+	@Override
+	public void clear()
+	{
+		elements.clear();
+	}
+
+	@Override
+	public Iterator<E> iterator()
+	{
+		return elements.iterator();
+	}
+
+	@Override
+	public int size()
+	{
+		return elements.size();
+	}
+}
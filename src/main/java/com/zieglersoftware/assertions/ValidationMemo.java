@@ -0,0 +1,146 @@
+package com.zieglersoftware.assertions;
+
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An opt-in memo of the collection checks that have already passed, so that an immutable collection passed through several layers, each
+ * checking it again, is scanned only once. The methods here behave exactly like the methods of {@link Assertions} of the same name, but
+ * return immediately if the same collection instance already passed the same check, or a stricter one, through this memo.
+ * <p>
+ * Only collections of a type known to be immutable are remembered, such as those from {@code List.of}, Guava's
+ * {@code ImmutableCollection} subclasses and {@link Assertions#immutableCopyIfAllNotNull(java.util.List, String)}; others are checked every
+ * time. Failures are not remembered.
+ * <p>
+ * Collections are remembered by identity in a fixed-size table of weakly referenced entries, so the memo never keeps a collection from
+ * being garbage collected and never grows. Each collection maps to one slot, chosen from its identity hash code; a collection that maps to
+ * an occupied slot replaces the entry there. Slots are read and written without locks, so the memo can be shared by any number of threads
+ * without becoming a point of contention. {@link #hitCount()} and {@link #missCount()} report how well it works for a given workload.
+ */
+public final class ValidationMemo
+{
+	private static final int ALL_NOT_NULL = 1;
+	private static final int NOT_EMPTY_ALL_NOT_NULL = ALL_NOT_NULL | 2;
+	private static final int NOT_EMPTY_ALL_NOT_EMPTY = NOT_EMPTY_ALL_NOT_NULL | 4;
+
+	private final AtomicReferenceArray<Entry> slots;
+	private final int mask;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	private ValidationMemo(int capacity)
+	{
+		this.slots = new AtomicReferenceArray<>(capacity);
+		this.mask = capacity - 1;
+	}
+
+	/**
+	 * Returns a new memo that remembers up to about {@code capacity} collections, rounded up to a power of two.
+	 * {@code capacity} must be between 1 and 2<sup>30</sup>.
+	 */
+	public static ValidationMemo withCapacity(int capacity)
+	{
+		if (capacity < 1 || capacity > 1 << 30)
+			throw new IllegalArgumentException("capacity must be between 1 and 2^30. Was " + capacity);
+		int powerOfTwo = 1;
+		while (powerOfTwo < capacity)
+			powerOfTwo <<= 1;
+		return new ValidationMemo(powerOfTwo);
+	}
+
+	/**
+	 * Same as {@link Assertions#allNotNull(Collection, String)}, but remembers the result for immutable collections.
+	 */
+	public <T extends Collection<?>> T allNotNull(T collection, String collectionName)
+	{
+		if (passed(collection, ALL_NOT_NULL))
+			return collection;
+		Assertions.allNotNull(collection, collectionName);
+		record(collection, ALL_NOT_NULL);
+		return collection;
+	}
+
+	/**
+	 * Same as {@link Assertions#notEmptyAllNotNull(Collection, String)}, but remembers the result for immutable collections.
+	 */
+	public <T extends Collection<?>> T notEmptyAllNotNull(T collection, String collectionName)
+	{
+		if (passed(collection, NOT_EMPTY_ALL_NOT_NULL))
+			return collection;
+		Assertions.notEmptyAllNotNull(collection, collectionName);
+		record(collection, NOT_EMPTY_ALL_NOT_NULL);
+		return collection;
+	}
+
+	/**
+	 * Same as {@link Assertions#notEmptyAllNotEmpty(Collection, String)}, but remembers the result for immutable collections.
+	 */
+	public <T extends Collection<? extends String>> T notEmptyAllNotEmpty(T collection, String collectionName)
+	{
+		if (passed(collection, NOT_EMPTY_ALL_NOT_EMPTY))
+			return collection;
+		Assertions.notEmptyAllNotEmpty(collection, collectionName);
+		record(collection, NOT_EMPTY_ALL_NOT_EMPTY);
+		return collection;
+	}
+
+	/**
+	 * Returns the number of checks that were answered from the memo.
+	 */
+	public long hitCount()
+	{
+		return hits.sum();
+	}
+
+	/**
+	 * Returns the number of checks that had to look at the collection, including those of collections that cannot be remembered.
+	 */
+	public long missCount()
+	{
+		return misses.sum();
+	}
+
+	private boolean passed(Collection<?> collection, int check)
+	{
+		if (collection != null)
+		{
+			Entry entry = slots.get(slot(collection));
+			if (entry != null && entry.get() == collection && (entry.passed & check) == check)
+			{
+				hits.increment();
+				return true;
+			}
+		}
+		misses.increment();
+		return false;
+	}
+
+	private void record(Collection<?> collection, int check)
+	{
+		if (!CollectionTraits.has(collection, CollectionTraits.IMMUTABLE))
+			return;
+		int slot = slot(collection);
+		Entry entry = slots.get(slot);
+		int passed = entry != null && entry.get() == collection ? entry.passed | check : check;
+		slots.set(slot, new Entry(collection, passed));
+	}
+
+	private int slot(Object o)
+	{
+		int h = System.identityHashCode(o);
+		return (h ^ (h >>> 16)) & mask;
+	}
+
+	private static final class Entry extends WeakReference<Object>
+	{
+		final int passed;
+
+		Entry(Object collection, int passed)
+		{
+			super(collection);
+			this.passed = passed;
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package com.zieglersoftware.assertions.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@code Collection} parameter that must not be null and must not contain null elements. The annotation processor
+ * generates a call to {@link com.zieglersoftware.assertions.Assertions#allNotNull(java.util.Collection, String)} for it.
+ *
+ * @see com.zieglersoftware.assertions.processor.ParameterCheckProcessor
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.PARAMETER)
+public @interface AllNotNull
+{
+}
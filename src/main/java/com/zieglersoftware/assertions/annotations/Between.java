@@ -0,0 +1,28 @@
+package com.zieglersoftware.assertions.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a numeric parameter that must be between {@code low} and {@code high}, inclusive. The annotation processor generates a call to
+ * the matching {@code between} overload in {@link com.zieglersoftware.assertions.Assertions} for it.
+ * <p>
+ * The bounds are given as strings so that the same annotation works for {@code long}, {@code double}, {@code BigInteger} and
+ * {@code BigDecimal} parameters, along with their narrower and boxed counterparts. They are parsed at compile time according to the type of
+ * the parameter, so a bound that does not fit the parameter type is a compile error rather than a runtime failure. Bounds of
+ * {@code float} parameters are parsed as {@code float}, so that {@code "0.2"} admits {@code 0.2f}. Floating-point bounds must be finite.
+ *
+ * @see com.zieglersoftware.assertions.processor.ParameterCheckProcessor
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.PARAMETER)
+public @interface Between
+{
+	String low();
+
+	String high();
+}
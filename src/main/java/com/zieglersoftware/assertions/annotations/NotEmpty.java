@@ -0,0 +1,21 @@
+package com.zieglersoftware.assertions.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@code String} or {@code Collection} parameter that must not be null or empty. The annotation processor generates a call to
+ * {@link com.zieglersoftware.assertions.Assertions#notEmpty(String, String)} or
+ * {@link com.zieglersoftware.assertions.Assertions#notEmpty(java.util.Collection, String)} for it.
+ *
+ * @see com.zieglersoftware.assertions.processor.ParameterCheckProcessor
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.PARAMETER)
+public @interface NotEmpty
+{
+}
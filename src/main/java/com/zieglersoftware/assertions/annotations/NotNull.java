@@ -0,0 +1,20 @@
+package com.zieglersoftware.assertions.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a parameter that must not be null. The annotation processor generates a call to
+ * {@link com.zieglersoftware.assertions.Assertions#notNull(Object, String)} for it.
+ *
+ * @see com.zieglersoftware.assertions.processor.ParameterCheckProcessor
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.PARAMETER)
+public @interface NotNull
+{
+}
@@ -0,0 +1,408 @@
+package com.zieglersoftware.assertions.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+import com.zieglersoftware.assertions.annotations.AllNotNull;
+import com.zieglersoftware.assertions.annotations.Between;
+import com.zieglersoftware.assertions.annotations.NotEmpty;
+import com.zieglersoftware.assertions.annotations.NotNull;
+
+/**
+ * Annotation processor that turns {@link NotNull}, {@link NotEmpty}, {@link AllNotNull} and {@link Between} parameter annotations into
+ * plain calls to {@link com.zieglersoftware.assertions.Assertions}.
+ * <p>
+ * For every type {@code Foo} with at least one annotated constructor or method parameter, a package-private class {@code FooChecks} is
+ * generated in the same package. It has one static method per annotated constructor or method, taking the same parameters:
+ * {@code checkConstructor(...)} for constructors and {@code check<MethodName>(...)} for methods. The constructor or method calls it
+ * with its own arguments, e.g.
+ *
+ * <pre>
+ * public Person(&#64;NotEmpty String name, &#64;Between(low = "0", high = "150") int age)
+ * {
+ * 	PersonChecks.checkConstructor(name, age);
+ * 	...
+ * }
+ * </pre>
+ *
+ * The generated code uses no reflection, and {@code BigInteger} and {@code BigDecimal} bounds are parsed once into static constants.
+ * Annotations that do not fit the parameter type, and bounds that cannot be parsed or are out of order, are reported as compile errors.
+ * <p>
+ * The processor is registered as a service, so it runs automatically whenever this library is on the compiler's class path or
+ * processor path.
+ */
+public final class ParameterCheckProcessor extends AbstractProcessor
+{
+	private static final String ASSERTIONS = "com.zieglersoftware.assertions.Assertions";
+	private static final String GENERATED_SUFFIX = "Checks";
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes()
+	{
+		return new HashSet<>(Arrays.asList(
+			NotNull.class.getCanonicalName(),
+			NotEmpty.class.getCanonicalName(),
+			AllNotNull.class.getCanonicalName(),
+			Between.class.getCanonicalName()));
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion()
+	{
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+	{
+		Set<Element> annotatedParameters = new LinkedHashSet<>();
+		annotatedParameters.addAll(roundEnv.getElementsAnnotatedWith(NotNull.class));
+		annotatedParameters.addAll(roundEnv.getElementsAnnotatedWith(NotEmpty.class));
+		annotatedParameters.addAll(roundEnv.getElementsAnnotatedWith(AllNotNull.class));
+		annotatedParameters.addAll(roundEnv.getElementsAnnotatedWith(Between.class));
+
+		Map<TypeElement, Set<ExecutableElement>> executablesByType = new LinkedHashMap<>();
+		for (Element parameter : annotatedParameters)
+		{
+			Element executable = parameter.getEnclosingElement();
+			if (parameter.getKind() != ElementKind.PARAMETER ||
+				(executable.getKind() != ElementKind.CONSTRUCTOR && executable.getKind() != ElementKind.METHOD))
+			{
+				error(parameter, "Parameter check annotations are only supported on constructor and method parameters");
+				continue;
+			}
+			TypeElement type = (TypeElement) executable.getEnclosingElement();
+			if (type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS)
+			{
+				error(parameter, "Parameter check annotations are not supported in local or anonymous classes");
+				continue;
+			}
+			Set<ExecutableElement> executables = executablesByType.get(type);
+			if (executables == null)
+			{
+				executables = new LinkedHashSet<>();
+				executablesByType.put(type, executables);
+			}
+			executables.add((ExecutableElement) executable);
+		}
+
+		for (Map.Entry<TypeElement, Set<ExecutableElement>> entry : executablesByType.entrySet())
+			generate(entry.getKey(), entry.getValue());
+		return true;
+	}
+
+	private void generate(TypeElement type, Set<ExecutableElement> executables)
+	{
+		Elements elements = processingEnv.getElementUtils();
+		String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+		String className = generatedSimpleName(type);
+
+		List<String> constants = new ArrayList<>();
+		StringBuilder methods = new StringBuilder();
+		boolean valid = true;
+		for (ExecutableElement executable : executables)
+			valid &= appendMethod(methods, constants, executable);
+		if (!valid)
+			return;
+
+		StringBuilder source = new StringBuilder();
+		if (!packageName.isEmpty())
+			source.append("package ").append(packageName).append(";\n\n");
+		source.append("// Generated by ").append(ParameterCheckProcessor.class.getName()).append(" from ")
+			.append(type.getQualifiedName()).append(". Do not edit.\n");
+		source.append("@SuppressWarnings(\"rawtypes\")\n");
+		source.append("final class ").append(className).append("\n{\n");
+		for (String constant : constants)
+			source.append("\t").append(constant).append("\n");
+		if (!constants.isEmpty())
+			source.append("\n");
+		source.append("\t// Do not instantiate\n");
+		source.append("\tprivate ").append(className).append("()\n\t{\n\t}\n");
+		source.append(methods);
+		source.append("}\n");
+
+		String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+		try
+		{
+			JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+			try (Writer writer = file.openWriter())
+			{
+				writer.write(source.toString());
+			}
+		}
+		catch (IOException e)
+		{
+			error(type, "Could not write " + qualifiedName + ": " + e);
+		}
+	}
+
+	private boolean appendMethod(StringBuilder methods, List<String> constants, ExecutableElement executable)
+	{
+		Types types = processingEnv.getTypeUtils();
+		String methodName = executable.getKind() == ElementKind.CONSTRUCTOR
+			? "checkConstructor"
+			: "check" + Character.toUpperCase(executable.getSimpleName().charAt(0)) + executable.getSimpleName().toString().substring(1);
+
+		StringBuilder signature = new StringBuilder();
+		StringBuilder body = new StringBuilder();
+		boolean valid = true;
+		for (VariableElement parameter : executable.getParameters())
+		{
+			if (signature.length() > 0)
+				signature.append(", ");
+			signature.append(types.erasure(parameter.asType())).append(" ").append(parameter.getSimpleName());
+			valid &= appendChecks(body, constants, parameter);
+		}
+
+		methods.append("\n\tstatic void ").append(methodName).append("(").append(signature).append(")\n\t{\n");
+		methods.append(body);
+		methods.append("\t}\n");
+		return valid;
+	}
+
+	private boolean appendChecks(StringBuilder body, List<String> constants, VariableElement parameter)
+	{
+		String name = parameter.getSimpleName().toString();
+		String quotedName = quote(name);
+		TypeMirror type = parameter.asType();
+		boolean valid = true;
+
+		if (parameter.getAnnotation(NotNull.class) != null)
+		{
+			if (type.getKind().isPrimitive())
+				valid = error(parameter, "@NotNull cannot be applied to primitive parameter \"" + name + "\"");
+			else
+				body.append("\t\t").append(ASSERTIONS).append(".notNull(").append(name).append(", ").append(quotedName).append(");\n");
+		}
+
+		if (parameter.getAnnotation(NotEmpty.class) != null)
+		{
+			if (isAssignableTo(type, "java.lang.String") || isAssignableTo(type, "java.util.Collection"))
+				body.append("\t\t").append(ASSERTIONS).append(".notEmpty(").append(name).append(", ").append(quotedName).append(");\n");
+			else
+				valid = error(parameter, "@NotEmpty can only be applied to String or Collection parameters, not \"" + name + "\"");
+		}
+
+		if (parameter.getAnnotation(AllNotNull.class) != null)
+		{
+			if (isAssignableTo(type, "java.util.Collection"))
+				body.append("\t\t").append(ASSERTIONS).append(".allNotNull(").append(name).append(", ").append(quotedName).append(");\n");
+			else
+				valid = error(parameter, "@AllNotNull can only be applied to Collection parameters, not \"" + name + "\"");
+		}
+
+		Between between = parameter.getAnnotation(Between.class);
+		if (between != null)
+			valid &= appendBetween(body, constants, parameter, between);
+
+		return valid;
+	}
+
+	private boolean appendBetween(StringBuilder body, List<String> constants, VariableElement parameter, Between between)
+	{
+		String name = parameter.getSimpleName().toString();
+		NumericKind kind = numericKind(parameter.asType());
+		if (kind == null)
+			return error(parameter, "@Between can only be applied to numeric parameters, not \"" + name + "\"");
+
+		String low;
+		String high;
+		try
+		{
+			switch (kind)
+			{
+			case LONG:
+				long longLow = Long.parseLong(between.low().trim());
+				long longHigh = Long.parseLong(between.high().trim());
+				if (longLow > longHigh)
+					return error(parameter, "@Between low bound must not be greater than high bound on \"" + name + "\"");
+				if (!fits(primitiveKind(parameter.asType()), longLow) || !fits(primitiveKind(parameter.asType()), longHigh))
+					return doesNotFit(parameter, between);
+				low = longLow + "L";
+				high = longHigh + "L";
+				break;
+			case DOUBLE:
+				double doubleLow = Double.parseDouble(between.low().trim());
+				double doubleHigh = Double.parseDouble(between.high().trim());
+				if (Double.isNaN(doubleLow) || Double.isNaN(doubleHigh))
+					return error(parameter, "@Between bounds cannot be NaN on \"" + name + "\"");
+				if (Double.isInfinite(doubleLow) || Double.isInfinite(doubleHigh))
+					return error(parameter, "@Between bounds must be finite on \"" + name + "\"");
+				if (doubleLow > doubleHigh)
+					return error(parameter, "@Between low bound must not be greater than high bound on \"" + name + "\"");
+				if (primitiveKind(parameter.asType()) == TypeKind.FLOAT)
+				{
+					// Parsed as float, so that a bound like 0.2 is the same value as the argument 0.2f once both are widened to double
+					float floatLow = Float.parseFloat(between.low().trim());
+					float floatHigh = Float.parseFloat(between.high().trim());
+					if (Float.isInfinite(floatLow) || Float.isInfinite(floatHigh))
+						return doesNotFit(parameter, between);
+					low = Float.toString(floatLow) + "F";
+					high = Float.toString(floatHigh) + "F";
+				}
+				else
+				{
+					low = Double.toString(doubleLow) + "D";
+					high = Double.toString(doubleHigh) + "D";
+				}
+				break;
+			case BIG_INTEGER:
+				BigInteger bigIntegerLow = new BigInteger(between.low().trim());
+				BigInteger bigIntegerHigh = new BigInteger(between.high().trim());
+				if (bigIntegerLow.compareTo(bigIntegerHigh) > 0)
+					return error(parameter, "@Between low bound must not be greater than high bound on \"" + name + "\"");
+				low = constant(constants, "java.math.BigInteger", bigIntegerLow.toString());
+				high = constant(constants, "java.math.BigInteger", bigIntegerHigh.toString());
+				break;
+			case BIG_DECIMAL:
+				BigDecimal bigDecimalLow = new BigDecimal(between.low().trim());
+				BigDecimal bigDecimalHigh = new BigDecimal(between.high().trim());
+				if (bigDecimalLow.compareTo(bigDecimalHigh) > 0)
+					return error(parameter, "@Between low bound must not be greater than high bound on \"" + name + "\"");
+				low = constant(constants, "java.math.BigDecimal", bigDecimalLow.toString());
+				high = constant(constants, "java.math.BigDecimal", bigDecimalHigh.toString());
+				break;
+			default:
+				throw new AssertionError(kind);
+			}
+		}
+		catch (NumberFormatException e)
+		{
+			return error(parameter, "@Between bounds \"" + between.low() + "\" and \"" + between.high() + "\" are not valid for \"" + name + "\"");
+		}
+
+		String value = parameter.asType().getKind().isPrimitive()
+			? name
+			: ASSERTIONS + ".notNull(" + name + ", " + quote(name) + ")";
+		body.append("\t\t").append(ASSERTIONS).append(".between(").append(value).append(", ")
+			.append(low).append(", ").append(high).append(", ").append(quote(name)).append(");\n");
+		return true;
+	}
+
+	private enum NumericKind
+	{
+		LONG, DOUBLE, BIG_INTEGER, BIG_DECIMAL
+	}
+
+	private NumericKind numericKind(TypeMirror type)
+	{
+		TypeMirror primitive = type;
+		if (!type.getKind().isPrimitive())
+		{
+			try
+			{
+				primitive = processingEnv.getTypeUtils().unboxedType(type);
+			}
+			catch (IllegalArgumentException e)
+			{
+				if (isSameType(type, "java.math.BigInteger"))
+					return NumericKind.BIG_INTEGER;
+				if (isSameType(type, "java.math.BigDecimal"))
+					return NumericKind.BIG_DECIMAL;
+				return null;
+			}
+		}
+		TypeKind kind = primitive.getKind();
+		if (kind == TypeKind.LONG || kind == TypeKind.INT || kind == TypeKind.SHORT || kind == TypeKind.BYTE)
+			return NumericKind.LONG;
+		if (kind == TypeKind.DOUBLE || kind == TypeKind.FLOAT)
+			return NumericKind.DOUBLE;
+		return null;
+	}
+
+	// The primitive type of a primitive or boxed parameter
+	private TypeKind primitiveKind(TypeMirror type)
+	{
+		return type.getKind().isPrimitive() ? type.getKind() : processingEnv.getTypeUtils().unboxedType(type).getKind();
+	}
+
+	private static boolean fits(TypeKind kind, long bound)
+	{
+		switch (kind)
+		{
+		case BYTE:
+			return bound >= Byte.MIN_VALUE && bound <= Byte.MAX_VALUE;
+		case SHORT:
+			return bound >= Short.MIN_VALUE && bound <= Short.MAX_VALUE;
+		case INT:
+			return bound >= Integer.MIN_VALUE && bound <= Integer.MAX_VALUE;
+		default:
+			return true;
+		}
+	}
+
+	private boolean doesNotFit(VariableElement parameter, Between between)
+	{
+		return error(parameter, "@Between bounds \"" + between.low() + "\" and \"" + between.high() + "\" do not fit the " +
+			primitiveKind(parameter.asType()).toString().toLowerCase() + " parameter \"" + parameter.getSimpleName() + "\"");
+	}
+
+	private boolean isAssignableTo(TypeMirror type, String qualifiedName)
+	{
+		TypeElement target = processingEnv.getElementUtils().getTypeElement(qualifiedName);
+		Types types = processingEnv.getTypeUtils();
+		return target != null && types.isAssignable(types.erasure(type), types.erasure(target.asType()));
+	}
+
+	private boolean isSameType(TypeMirror type, String qualifiedName)
+	{
+		TypeElement target = processingEnv.getElementUtils().getTypeElement(qualifiedName);
+		return target != null && processingEnv.getTypeUtils().isSameType(type, target.asType());
+	}
+
+	private static String constant(List<String> constants, String typeName, String value)
+	{
+		String constantName = "BOUND_" + constants.size();
+		constants.add("private static final " + typeName + " " + constantName + " = new " + typeName + "(" + quote(value) + ");");
+		return constantName;
+	}
+
+	private static String generatedSimpleName(TypeElement type)
+	{
+		StringBuilder name = new StringBuilder(type.getSimpleName());
+		Element enclosing = type.getEnclosingElement();
+		while (enclosing instanceof TypeElement)
+		{
+			name.insert(0, ((TypeElement) enclosing).getSimpleName() + "_");
+			enclosing = enclosing.getEnclosingElement();
+		}
+		return name.append(GENERATED_SUFFIX).toString();
+	}
+
+	private static String quote(String s)
+	{
+		return "\"" + s.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+	}
+
+	private boolean error(Element element, String message)
+	{
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+		return false;
+	}
+}
@@ -0,0 +1,41 @@
+package com.zieglersoftware.assertions;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Finds the caller of a failing check, for {@link FailurePolicy#callerOnly()}: the first frame of the current thread's stack outside
+ * this library's package.
+ * <p>
+ * This is the Java 9 version, which walks the stack lazily with a {@link StackWalker}, so only the few frames of this library and the
+ * caller's are materialized, and only the caller's is turned into a {@link StackTraceElement}.
+ */
+final class CallerCapture
+{
+	private static final String PACKAGE_PREFIX = CallerCapture.class.getPackage().getName() + ".";
+
+	private static final StackWalker WALKER = StackWalker.getInstance();
+
+	private static final Function<Stream<StackWalker.StackFrame>, Optional<StackWalker.StackFrame>> FIND_CALLER =
+		frames -> frames.filter(frame -> !isLibrary(frame.getClassName())).findFirst();
+
+	// Do not instantiate
+	private CallerCapture()
+	{
+	}
+
+	/**
+	 * Returns the caller, or null if the whole stack is within this library.
+	 */
+	static StackTraceElement caller()
+	{
+		return WALKER.walk(FIND_CALLER).map(StackWalker.StackFrame::toStackTraceElement).orElse(null);
+	}
+
+	// Subpackages, such as those of the annotations and the annotation processor, never call the checks, so they are not skipped
+	static boolean isLibrary(String className)
+	{
+		return className.startsWith(PACKAGE_PREFIX) && className.indexOf('.', PACKAGE_PREFIX.length()) < 0;
+	}
+}
@@ -0,0 +1,17 @@
+/**
+ * Compiled for Java 9 into {@code META-INF/versions/9} of the multi-release jar, so that the rest of the library still runs on Java 8.
+ * <p>
+ * {@link com.zieglersoftware.assertions.Assertions#validateFields(Object, com.zieglersoftware.assertions.Rules)} reads the fields of the
+ * validated classes reflectively, so a module using it must open the packages of those classes to this module.
+ * <p>
+ * The annotation processor is not provided as a service of this module. javac finds it through {@code META-INF/services} on the
+ * processor path, and a {@code provides} clause would make the module read {@code java.compiler} at run time, so that it would not
+ * resolve in an image without it. {@code java.compiler} is only needed to compile the processor.
+ */
+module com.zieglersoftware.assertions
+{
+	requires static java.compiler;
+
+	exports com.zieglersoftware.assertions;
+	exports com.zieglersoftware.assertions.annotations;
+}
@@ -1,19 +1,39 @@
 package com.zieglersoftware.assertions;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.Test;
 
@@ -96,6 +116,61 @@ public class AssertionsTest
 			fail("Expected exception message \"" + expectedExceptionMessage + "\". Got \"" + caughtException.getMessage() + "\"");
 	}
 
+	@Test
+	public void truFormatsOnlyOnFailure()
+	{
+		Object placeholderValue = new Object()
+		{
+			@Override
+			public String toString()
+			{
+				throw new AssertionError("Formatted a passing assertion");
+			}
+		};
+		Assertions.tru(true, "x %s", placeholderValue);
+		Assertions.fals(false, "x %s", placeholderValue);
+		// An illegal format is only noticed when the message is needed
+		Assertions.tru(true, "x %d", "y");
+		Exception caughtException = null;
+		try
+		{
+			Assertions.tru(false, "x %d", "y");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (!(caughtException instanceof IllegalArgumentException))
+			fail("Unexpected " + caughtException);
+	}
+
+	@Test
+	public void truFalsWithoutPlaceholderValues()
+	{
+		Exception caughtException = null;
+		try
+		{
+			Assertions.tru(false, "x 100%%");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (!(caughtException instanceof IllegalStateException) || !caughtException.getMessage().equals("x 100%"))
+			fail("Unexpected " + caughtException);
+		caughtException = null;
+		try
+		{
+			Assertions.fals(true, "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (!(caughtException instanceof IllegalStateException) || !caughtException.getMessage().equals("x"))
+			fail("Unexpected " + caughtException);
+	}
+
 	@Test
 	public void falsSucceed()
 	{
@@ -370,7 +445,7 @@ public class AssertionsTest
 		Exception caughtException = null;
 		try
 		{
-			Assertions.present(null, "x");
+			Assertions.present((Optional<?>) null, "x");
 		}
 		catch (Exception e)
 		{
@@ -400,6 +475,81 @@ public class AssertionsTest
 			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
 	}
 
+	@Test
+	public void presentPrimitiveSucceed()
+	{
+		assertEquals(1, Assertions.present(OptionalInt.of(1), "x"));
+		assertEquals(2L, Assertions.present(OptionalLong.of(2), "x"));
+		assertEquals(3.5, Assertions.present(OptionalDouble.of(3.5), "x"), 0);
+		assertEquals(1, Assertions.presentAndBetween(OptionalInt.of(1), 1, 9, "x"));
+		assertEquals(9L, Assertions.presentAndBetween(OptionalLong.of(9), 1, 9, "x"));
+		assertEquals(3.5, Assertions.presentAndBetween(OptionalDouble.of(3.5), 1, 9, "x"), 0);
+	}
+
+	@Test
+	public void presentPrimitiveFail()
+	{
+		List<Runnable> nulls = Arrays.asList(
+			() -> Assertions.present((OptionalInt) null, "x"),
+			() -> Assertions.present((OptionalLong) null, "x"),
+			() -> Assertions.present((OptionalDouble) null, "x"),
+			() -> Assertions.presentAndBetween((OptionalLong) null, 1, 9, "x"));
+		for (Runnable check : nulls)
+		{
+			Exception caughtException = null;
+			try
+			{
+				check.run();
+			}
+			catch (Exception e)
+			{
+				caughtException = e;
+			}
+			if (!(caughtException instanceof NullPointerException))
+				fail("Unexpected " + caughtException);
+			if (!caughtException.getMessage().contains("\"x\""))
+				fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+		}
+
+		List<Runnable> absent = Arrays.asList(
+			() -> Assertions.present(OptionalInt.empty(), "x"),
+			() -> Assertions.present(OptionalLong.empty(), "x"),
+			() -> Assertions.present(OptionalDouble.empty(), "x"),
+			() -> Assertions.presentAndBetween(OptionalInt.empty(), 1, 9, "x"),
+			() -> Assertions.presentAndBetween(OptionalDouble.empty(), 1, 9, "x"));
+		for (Runnable check : absent)
+		{
+			Exception caughtException = null;
+			try
+			{
+				check.run();
+			}
+			catch (Exception e)
+			{
+				caughtException = e;
+			}
+			if (!(caughtException instanceof IllegalStateException))
+				fail("Unexpected " + caughtException);
+			if (!caughtException.getMessage().equals("Variable \"x\" must be present"))
+				fail("Unexpected exception message \"" + caughtException.getMessage() + "\"");
+		}
+
+		String expectedExceptionMessage = "Variable \"x\" must be between 1 and 9, inclusive. Was 10";
+		Exception caughtException = null;
+		try
+		{
+			Assertions.presentAndBetween(OptionalLong.of(10), 1, 9, "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (!(caughtException instanceof IllegalStateException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().equals(expectedExceptionMessage))
+			fail("Expected exception message \"" + expectedExceptionMessage + "\". Got \"" + caughtException.getMessage() + "\"");
+	}
+
 	@Test
 	public void numEqualSucceed()
 	{
@@ -1078,164 +1228,261 @@ public class AssertionsTest
 	}
 
 	@Test
-	public void collectionNotEmptySucceed()
+	public void decimalChecksMatchCompareTo()
 	{
+		Random random = new Random(46);
+		for (int i = 0; i < 20_000; i++)
+		{
+			BigDecimal val = randomDecimal(random);
+			BigDecimal referenceVal = random.nextInt(8) == 0 ? val : randomDecimal(random);
+			BigDecimal highReferenceVal = randomDecimal(random);
+			int comparison = val.compareTo(referenceVal);
+			assertEquals(comparison == 0, passes(() -> Assertions.sameValue(val, referenceVal, "x")));
+			assertEquals(comparison != 0, passes(() -> Assertions.notSameValue(val, referenceVal, "x")));
+			assertEquals(comparison > 0, passes(() -> Assertions.greater(val, referenceVal, "x")));
+			assertEquals(comparison <= 0, passes(() -> Assertions.notGreater(val, referenceVal, "x")));
+			assertEquals(comparison < 0, passes(() -> Assertions.less(val, referenceVal, "x")));
+			assertEquals(comparison >= 0, passes(() -> Assertions.notLess(val, referenceVal, "x")));
+			assertEquals(comparison >= 0 && val.compareTo(highReferenceVal) <= 0,
+				passes(() -> Assertions.between(val, referenceVal, highReferenceVal, "x")));
+		}
 		Exception caughtException = null;
 		try
 		{
-			Collection<String> input = Arrays.asList("a");
-			Collection<String> result = Assertions.notEmpty(input, "x");
-			assertSame(input, result);
-			input = Arrays.asList("a");
-			result = Assertions.notEmpty(input, "x");
-			assertSame(input, result);
+			Assertions.sameValue(null, null, "x");
 		}
 		catch (Exception e)
 		{
-			e.printStackTrace();
 			caughtException = e;
 		}
-		if (caughtException != null)
+		if (!(caughtException instanceof NullPointerException))
 			fail("Unexpected " + caughtException);
 	}
 
+	// Mostly compact values of a few common scales, with some beyond the range of long
+	private static BigDecimal randomDecimal(Random random)
+	{
+		BigInteger unscaled = random.nextInt(10) == 0 ? new BigInteger(96, random) : BigInteger.valueOf(random.nextInt(2001) - 1000);
+		if (random.nextBoolean())
+			unscaled = unscaled.negate();
+		return new BigDecimal(unscaled, random.nextInt(4));
+	}
+
+	private static boolean passes(Runnable check)
+	{
+		try
+		{
+			check.run();
+			return true;
+		}
+		catch (IllegalStateException e)
+		{
+			return false;
+		}
+	}
+
 	@Test
-	public void collectionNotEmptyFail()
+	public void durationSucceed()
+	{
+		Duration val = Duration.ofMillis(5);
+		assertSame(val, Assertions.notGreater(val, Duration.ofMillis(5), "x"));
+		assertSame(val, Assertions.between(val, Duration.ofMillis(5), Duration.ofSeconds(1), "x"));
+	}
+
+	@Test
+	public void durationFail()
 	{
+		String expectedExceptionMessage = "Variable \"x\" must not be greater than PT0.005S. Was PT1S";
 		Exception caughtException = null;
 		try
 		{
-			Collection<Object> c = null;
-			Assertions.notEmpty(c, "x");
+			Assertions.notGreater(Duration.ofSeconds(1), Duration.ofMillis(5), "x");
 		}
 		catch (Exception e)
 		{
 			caughtException = e;
 		}
-		if (caughtException == null)
-			fail("Did not throw expected NullPointerException");
-		if (!(caughtException instanceof NullPointerException))
+		if (!(caughtException instanceof IllegalStateException))
 			fail("Unexpected " + caughtException);
-		if (!caughtException.getMessage().contains("\"x\""))
-			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+		if (!caughtException.getMessage().equals(expectedExceptionMessage))
+			fail("Expected exception message \"" + expectedExceptionMessage + "\". Got \"" + caughtException.getMessage() + "\"");
 
+		expectedExceptionMessage = "Variable \"x\" must be between PT0.005S and PT1S, inclusive. Was PT0.001S";
 		caughtException = null;
 		try
 		{
-			Assertions.notEmpty(new ArrayList<>(), "x");
+			Assertions.between(Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofSeconds(1), "x");
 		}
 		catch (Exception e)
 		{
 			caughtException = e;
 		}
-		if (caughtException == null)
-			fail("Did not throw expected IllegalStateException");
 		if (!(caughtException instanceof IllegalStateException))
 			fail("Unexpected " + caughtException);
-		if (!caughtException.getMessage().contains("\"x\""))
-			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+		if (!caughtException.getMessage().equals(expectedExceptionMessage))
+			fail("Expected exception message \"" + expectedExceptionMessage + "\". Got \"" + caughtException.getMessage() + "\"");
 	}
 
 	@Test
-	public void allNotNullSucceed()
+	public void deadlineSucceed()
+	{
+		long deadline = System.nanoTime() + TimeUnit.HOURS.toNanos(1);
+		assertEquals(deadline, Assertions.withinDeadline(deadline, "x"));
+		assertEquals(deadline, Assertions.withinDeadline(deadline, CoarseClock.get(), "x"));
+		Instant instant = Instant.now().plusSeconds(3600);
+		assertSame(instant, Assertions.notExpired(instant, "x"));
+		assertSame(instant, Assertions.notExpired(instant, CoarseClock.get(), "x"));
+		assertSame(Instant.MAX, Assertions.notExpired(Instant.MAX, "x"));
+	}
+
+	@Test
+	public void deadlineFail()
 	{
+		long deadline = System.nanoTime() - TimeUnit.SECONDS.toNanos(10);
+		List<Runnable> expired = Arrays.asList(
+			() -> Assertions.withinDeadline(deadline, "x"),
+			() -> Assertions.withinDeadline(deadline, CoarseClock.get(), "x"),
+			() -> Assertions.notExpired(Instant.now().minusSeconds(10), "x"),
+			() -> Assertions.notExpired(Instant.now().minusSeconds(10), CoarseClock.get(), "x"));
+		for (Runnable check : expired)
+		{
+			Exception caughtException = null;
+			try
+			{
+				check.run();
+			}
+			catch (Exception e)
+			{
+				caughtException = e;
+			}
+			if (!(caughtException instanceof CheckFailedException))
+				fail("Unexpected " + caughtException);
+			if (!caughtException.getMessage().startsWith("Variable \"x\" must not have expired. Expired PT"))
+				fail("Unexpected exception message \"" + caughtException.getMessage() + "\"");
+			long overdueNanos = (Long) ((CheckFailedException) caughtException).getActualValue();
+			// The coarse clock and the millisecond precision of the Instant checks can make the deadline look slightly less overdue
+			assertTrue(overdueNanos >= TimeUnit.SECONDS.toNanos(9) && overdueNanos < TimeUnit.SECONDS.toNanos(20));
+		}
+
+		String expectedExceptionMessage = "Variable \"x\" must not have expired. Expired PT2562047H47M16.854775807S ago";
 		Exception caughtException = null;
 		try
 		{
-			Collection<String> input = new ArrayList<>();
-			Collection<String> result = Assertions.allNotNull(input, "x");
-			assertSame(input, result);
-			input = Arrays.asList("a", "");
-			result = Assertions.allNotNull(input, "x");
-			assertSame(input, result);
+			Assertions.notExpired(Instant.MIN, "x");
 		}
 		catch (Exception e)
 		{
-			e.printStackTrace();
 			caughtException = e;
 		}
-		if (caughtException != null)
+		if (!(caughtException instanceof CheckFailedException))
 			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().equals(expectedExceptionMessage))
+			fail("Expected exception message \"" + expectedExceptionMessage + "\". Got \"" + caughtException.getMessage() + "\"");
 	}
 
 	@Test
-	public void allNotNullFail()
+	public void coarseClockAdvances() throws InterruptedException
+	{
+		CoarseClock clock = CoarseClock.get();
+		long nanoTime = clock.nanoTime();
+		long currentTimeMillis = clock.currentTimeMillis();
+		Thread.sleep(50);
+		assertTrue(clock.nanoTime() - nanoTime >= TimeUnit.MILLISECONDS.toNanos(10));
+		assertTrue(clock.currentTimeMillis() > currentTimeMillis);
+		assertTrue(clock.nanoTime() - System.nanoTime() <= 0);
+	}
+
+	@Test
+	public void oneOfSucceed()
 	{
 		Exception caughtException = null;
 		try
 		{
-			Assertions.allNotNull(null, "x");
+			EnumMembership<TimeUnit> enumMembers = EnumMembership.of(TimeUnit.SECONDS, TimeUnit.MINUTES);
+			TimeUnit enumResult = Assertions.oneOf(TimeUnit.SECONDS, enumMembers, "x");
+			assertSame(TimeUnit.SECONDS, enumResult);
+			enumResult = Assertions.oneOf(TimeUnit.DAYS, EnumMembership.copyOf(EnumSet.allOf(TimeUnit.class)), "x");
+			assertSame(TimeUnit.DAYS, enumResult);
+
+			ObjectMembership<String> objectMembers = ObjectMembership.of("a", "b", "c", "a");
+			String objectResult = Assertions.oneOf("c", objectMembers, "x");
+			assertEquals("c", objectResult);
+			objectResult = Assertions.oneOf(new String("b"), ObjectMembership.copyOf(Arrays.asList("a", "b")), "x");
+			assertEquals("b", objectResult);
+
+			LongMembership longMembers = LongMembership.of(7, -3, Long.MAX_VALUE, 7);
+			long longResult = Assertions.oneOf(-3, longMembers, "x");
+			assertEquals(-3, longResult);
+			longResult = Assertions.oneOf(Long.MAX_VALUE, longMembers, "x");
+			assertEquals(Long.MAX_VALUE, longResult);
 		}
 		catch (Exception e)
 		{
+			e.printStackTrace();
 			caughtException = e;
 		}
-		if (caughtException == null)
-			fail("Did not throw expected NullPointerException");
-		if (!(caughtException instanceof NullPointerException))
+		if (caughtException != null)
 			fail("Unexpected " + caughtException);
-		if (!caughtException.getMessage().contains("\"x\""))
-			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+	}
 
-		caughtException = null;
+	@Test
+	public void oneOfFail()
+	{
+		Exception caughtException = null;
 		try
 		{
-			Assertions.allNotNull(Arrays.asList("a", null), "x");
+			Assertions.oneOf(TimeUnit.DAYS, EnumMembership.copyOf(EnumSet.noneOf(TimeUnit.class)), "x");
 		}
 		catch (Exception e)
 		{
 			caughtException = e;
 		}
 		if (caughtException == null)
-			fail("Did not throw expected NullPointerException");
-		if (!(caughtException instanceof NullPointerException))
+			fail("Did not throw expected IllegalStateException");
+		if (!(caughtException instanceof IllegalStateException))
 			fail("Unexpected " + caughtException);
 		if (!caughtException.getMessage().contains("\"x\""))
 			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
-	}
 
-	@Test
-	public void notEmptyAllNotNullSucceed()
-	{
-		Exception caughtException = null;
+		caughtException = null;
 		try
 		{
-			Collection<String> input = Arrays.asList("a", "");
-			Collection<String> result = Assertions.notEmptyAllNotNull(input, "x");
-			assertSame(input, result);
+			TimeUnit input = null;
+			Assertions.oneOf(input, EnumMembership.of(TimeUnit.DAYS), "x");
 		}
 		catch (Exception e)
 		{
-			e.printStackTrace();
 			caughtException = e;
 		}
-		if (caughtException != null)
+		if (caughtException == null)
+			fail("Did not throw expected NullPointerException");
+		if (!(caughtException instanceof NullPointerException))
 			fail("Unexpected " + caughtException);
-	}
+		if (!caughtException.getMessage().contains("\"x\""))
+			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
 
-	@Test
-	public void notEmptyAllNotNullFail()
-	{
-		Exception caughtException = null;
+		caughtException = null;
 		try
 		{
-			Assertions.notEmptyAllNotNull(null, "x");
+			Assertions.oneOf("d", ObjectMembership.of("a", "b", "c"), "x");
 		}
 		catch (Exception e)
 		{
 			caughtException = e;
 		}
 		if (caughtException == null)
-			fail("Did not throw expected NullPointerException");
-		if (!(caughtException instanceof NullPointerException))
+			fail("Did not throw expected IllegalStateException");
+		if (!(caughtException instanceof IllegalStateException))
 			fail("Unexpected " + caughtException);
 		if (!caughtException.getMessage().contains("\"x\""))
 			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+		if (!caughtException.getMessage().contains("[a, b, c]"))
+			fail("Did not get members in exception message. Got \"" + caughtException.getMessage() + "\"");
 
 		caughtException = null;
 		try
 		{
-			Assertions.notEmptyAllNotNull(new ArrayList<>(), "x");
+			Assertions.oneOf(12, ObjectMembership.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11), "x");
 		}
 		catch (Exception e)
 		{
@@ -1243,37 +1490,46 @@ public class AssertionsTest
 		}
 		if (caughtException == null)
 			fail("Did not throw expected IllegalStateException");
-		if (!(caughtException instanceof IllegalStateException))
-			fail("Unexpected " + caughtException);
-		if (!caughtException.getMessage().contains("\"x\""))
-			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+		if (!caughtException.getMessage().contains("[0, 1, 2, 3, 4, 5, 6, 7, 8, 9, ... (2 more)]"))
+			fail("Did not get truncated members in exception message. Got \"" + caughtException.getMessage() + "\"");
 
 		caughtException = null;
 		try
 		{
-			Assertions.notEmptyAllNotNull(Arrays.asList("a", null), "x");
+			Assertions.oneOf(8, LongMembership.of(7, 9), "x");
 		}
 		catch (Exception e)
 		{
 			caughtException = e;
 		}
 		if (caughtException == null)
-			fail("Did not throw expected NullPointerException");
-		if (!(caughtException instanceof NullPointerException))
+			fail("Did not throw expected IllegalStateException");
+		if (!(caughtException instanceof IllegalStateException))
 			fail("Unexpected " + caughtException);
 		if (!caughtException.getMessage().contains("\"x\""))
 			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
 	}
 
 	@Test
-	public void notEmptyAllNotEmptySucceed()
+	public void noneOfSucceed()
 	{
 		Exception caughtException = null;
 		try
 		{
-			Collection<String> input = Arrays.asList("a", "b");
-			Collection<String> result = Assertions.notEmptyAllNotEmpty(input, "x");
-			assertSame(input, result);
+			TimeUnit enumResult = Assertions.noneOf(TimeUnit.DAYS, EnumMembership.of(TimeUnit.SECONDS), "x");
+			assertSame(TimeUnit.DAYS, enumResult);
+			enumResult = Assertions.noneOf(null, EnumMembership.of(TimeUnit.SECONDS), "x");
+			assertSame(null, enumResult);
+
+			String objectResult = Assertions.noneOf("d", ObjectMembership.of("a", "b", "c"), "x");
+			assertEquals("d", objectResult);
+			objectResult = Assertions.noneOf(null, ObjectMembership.of("a"), "x");
+			assertSame(null, objectResult);
+
+			long longResult = Assertions.noneOf(8, LongMembership.of(7, 9), "x");
+			assertEquals(8, longResult);
+			longResult = Assertions.noneOf(8, LongMembership.of(), "x");
+			assertEquals(8, longResult);
 		}
 		catch (Exception e)
 		{
@@ -1285,28 +1541,12 @@ public class AssertionsTest
 	}
 
 	@Test
-	public void notEmptyAllNotEmptyFail()
+	public void noneOfFail()
 	{
 		Exception caughtException = null;
 		try
 		{
-			Assertions.notEmptyAllNotEmpty(null, "x");
-		}
-		catch (Exception e)
-		{
-			caughtException = e;
-		}
-		if (caughtException == null)
-			fail("Did not throw expected NullPointerException");
-		if (!(caughtException instanceof NullPointerException))
-			fail("Unexpected " + caughtException);
-		if (!caughtException.getMessage().contains("\"x\""))
-			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
-
-		caughtException = null;
-		try
-		{
-			Assertions.notEmptyAllNotEmpty(new ArrayList<>(), "x");
+			Assertions.noneOf(TimeUnit.SECONDS, EnumMembership.of(TimeUnit.SECONDS), "x");
 		}
 		catch (Exception e)
 		{
@@ -1322,15 +1562,15 @@ public class AssertionsTest
 		caughtException = null;
 		try
 		{
-			Assertions.notEmptyAllNotEmpty(Arrays.asList("a", null), "x");
+			Assertions.noneOf("b", ObjectMembership.of("a", "b", "c"), "x");
 		}
 		catch (Exception e)
 		{
 			caughtException = e;
 		}
 		if (caughtException == null)
-			fail("Did not throw expected NullPointerException");
-		if (!(caughtException instanceof NullPointerException))
+			fail("Did not throw expected IllegalStateException");
+		if (!(caughtException instanceof IllegalStateException))
 			fail("Unexpected " + caughtException);
 		if (!caughtException.getMessage().contains("\"x\""))
 			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
@@ -1338,7 +1578,7 @@ public class AssertionsTest
 		caughtException = null;
 		try
 		{
-			Assertions.notEmptyAllNotEmpty(Arrays.asList("a", ""), "x");
+			Assertions.noneOf(9, LongMembership.of(7, 9), "x");
 		}
 		catch (Exception e)
 		{
@@ -1353,30 +1593,17 @@ public class AssertionsTest
 	}
 
 	@Test
-	public void copyIfAllNotNullSucceed()
+	public void collectionNotEmptySucceed()
 	{
 		Exception caughtException = null;
 		try
 		{
-			List<String> listInput = new ArrayList<>();
-			List<String> listResult = Assertions.copyIfAllNotNull(listInput, "x");
-			assertFalse("listInput cannot be same object as listResult", listInput == listResult);
-			assertEquals(listInput, listResult);
-			listInput = Arrays.asList("a", "");
-			listResult = Assertions.copyIfAllNotNull(listInput, "x");
-			assertFalse("listInput cannot be same object as listResult", listInput == listResult);
-			assertEquals(listInput, listResult);
-
-			Set<String> setInput = new HashSet<>();
-			Set<String> setResult = Assertions.copyIfAllNotNull(setInput, "x");
-			assertFalse("setInput cannot be same object as setResult", setInput == setResult);
-			assertEquals(setInput, setResult);
-			setInput = new HashSet<>();
-			setInput.add("a");
-			setInput.add("");
-			setResult = Assertions.copyIfAllNotNull(setInput, "x");
-			assertFalse("setInput cannot be same object as setResult", setInput == setResult);
-			assertEquals(setInput, setResult);
+			Collection<String> input = Arrays.asList("a");
+			Collection<String> result = Assertions.notEmpty(input, "x");
+			assertSame(input, result);
+			input = Arrays.asList("a");
+			result = Assertions.notEmpty(input, "x");
+			assertSame(input, result);
 		}
 		catch (Exception e)
 		{
@@ -1388,13 +1615,13 @@ public class AssertionsTest
 	}
 
 	@Test
-	public void copyIfAllNotNullFail()
+	public void collectionNotEmptyFail()
 	{
 		Exception caughtException = null;
 		try
 		{
-			List<Object> input = null;
-			Assertions.copyIfAllNotNull(input, "x");
+			Collection<Object> c = null;
+			Assertions.notEmpty(c, "x");
 		}
 		catch (Exception e)
 		{
@@ -1410,27 +1637,52 @@ public class AssertionsTest
 		caughtException = null;
 		try
 		{
-			Set<Object> input = null;
-			Assertions.copyIfAllNotNull(input, "x");
+			Assertions.notEmpty(new ArrayList<>(), "x");
 		}
 		catch (Exception e)
 		{
 			caughtException = e;
 		}
 		if (caughtException == null)
-			fail("Did not throw expected NullPointerException");
-		if (!(caughtException instanceof NullPointerException))
+			fail("Did not throw expected IllegalStateException");
+		if (!(caughtException instanceof IllegalStateException))
 			fail("Unexpected " + caughtException);
 		if (!caughtException.getMessage().contains("\"x\""))
 			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+	}
 
-		caughtException = null;
+	@Test
+	public void allNotNullSucceed()
+	{
+		Exception caughtException = null;
 		try
 		{
-			Assertions.copyIfAllNotNull(Arrays.asList("a", null), "x");
-		}
-		catch (Exception e)
-		{
+			Collection<String> input = new ArrayList<>();
+			Collection<String> result = Assertions.allNotNull(input, "x");
+			assertSame(input, result);
+			input = Arrays.asList("a", "");
+			result = Assertions.allNotNull(input, "x");
+			assertSame(input, result);
+		}
+		catch (Exception e)
+		{
+			e.printStackTrace();
+			caughtException = e;
+		}
+		if (caughtException != null)
+			fail("Unexpected " + caughtException);
+	}
+
+	@Test
+	public void allNotNullFail()
+	{
+		Exception caughtException = null;
+		try
+		{
+			Assertions.allNotNull(null, "x");
+		}
+		catch (Exception e)
+		{
 			caughtException = e;
 		}
 		if (caughtException == null)
@@ -1443,10 +1695,7 @@ public class AssertionsTest
 		caughtException = null;
 		try
 		{
-			Set<String> input = new HashSet<>();
-			input.add("a");
-			input.add(null);
-			Assertions.copyIfAllNotNull(input, "x");
+			Assertions.allNotNull(Arrays.asList("a", null), "x");
 		}
 		catch (Exception e)
 		{
@@ -1461,22 +1710,14 @@ public class AssertionsTest
 	}
 
 	@Test
-	public void copyIfNotEmptyAllNotNullSucceed()
+	public void notEmptyAllNotNullSucceed()
 	{
 		Exception caughtException = null;
 		try
 		{
-			List<String> listInput = Arrays.asList("a", "");
-			List<String> listResult = Assertions.copyIfNotEmptyAllNotNull(listInput, "x");
-			assertFalse("listInput cannot be same object as listResult", listInput == listResult);
-			assertEquals(listInput, listResult);
-
-			Set<String> setInput = new HashSet<>();
-			setInput.add("a");
-			setInput.add("");
-			Set<String> setResult = Assertions.copyIfNotEmptyAllNotNull(setInput, "x");
-			assertFalse("setInput cannot be same object as setResult", setInput == setResult);
-			assertEquals(setInput, setResult);
+			Collection<String> input = Arrays.asList("a", "");
+			Collection<String> result = Assertions.notEmptyAllNotNull(input, "x");
+			assertSame(input, result);
 		}
 		catch (Exception e)
 		{
@@ -1488,13 +1729,12 @@ public class AssertionsTest
 	}
 
 	@Test
-	public void copyIfNotEmptyAllNotNullFail()
+	public void notEmptyAllNotNullFail()
 	{
 		Exception caughtException = null;
 		try
 		{
-			List<Object> input = null;
-			Assertions.copyIfNotEmptyAllNotNull(input, "x");
+			Assertions.notEmptyAllNotNull(null, "x");
 		}
 		catch (Exception e)
 		{
@@ -1510,8 +1750,23 @@ public class AssertionsTest
 		caughtException = null;
 		try
 		{
-			Set<Object> input = null;
-			Assertions.copyIfNotEmptyAllNotNull(input, "x");
+			Assertions.notEmptyAllNotNull(new ArrayList<>(), "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected IllegalStateException");
+		if (!(caughtException instanceof IllegalStateException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"x\""))
+			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+
+		caughtException = null;
+		try
+		{
+			Assertions.notEmptyAllNotNull(Arrays.asList("a", null), "x");
 		}
 		catch (Exception e)
 		{
@@ -1523,19 +1778,42 @@ public class AssertionsTest
 			fail("Unexpected " + caughtException);
 		if (!caughtException.getMessage().contains("\"x\""))
 			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+	}
 
-		caughtException = null;
+	@Test
+	public void notEmptyAllNotEmptySucceed()
+	{
+		Exception caughtException = null;
 		try
 		{
-			Assertions.copyIfNotEmptyAllNotNull(new ArrayList<>(), "x");
+			Collection<String> input = Arrays.asList("a", "b");
+			Collection<String> result = Assertions.notEmptyAllNotEmpty(input, "x");
+			assertSame(input, result);
+		}
+		catch (Exception e)
+		{
+			e.printStackTrace();
+			caughtException = e;
+		}
+		if (caughtException != null)
+			fail("Unexpected " + caughtException);
+	}
+
+	@Test
+	public void notEmptyAllNotEmptyFail()
+	{
+		Exception caughtException = null;
+		try
+		{
+			Assertions.notEmptyAllNotEmpty(null, "x");
 		}
 		catch (Exception e)
 		{
 			caughtException = e;
 		}
 		if (caughtException == null)
-			fail("Did not throw expected IllegalStateException");
-		if (!(caughtException instanceof IllegalStateException))
+			fail("Did not throw expected NullPointerException");
+		if (!(caughtException instanceof NullPointerException))
 			fail("Unexpected " + caughtException);
 		if (!caughtException.getMessage().contains("\"x\""))
 			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
@@ -1543,7 +1821,7 @@ public class AssertionsTest
 		caughtException = null;
 		try
 		{
-			Assertions.copyIfNotEmptyAllNotNull(new HashSet<>(), "x");
+			Assertions.notEmptyAllNotEmpty(new ArrayList<>(), "x");
 		}
 		catch (Exception e)
 		{
@@ -1559,7 +1837,7 @@ public class AssertionsTest
 		caughtException = null;
 		try
 		{
-			Assertions.copyIfNotEmptyAllNotNull(Arrays.asList("a", null), "x");
+			Assertions.notEmptyAllNotEmpty(Arrays.asList("a", null), "x");
 		}
 		catch (Exception e)
 		{
@@ -1575,38 +1853,93 @@ public class AssertionsTest
 		caughtException = null;
 		try
 		{
-			Set<String> input = new HashSet<>();
-			input.add("a");
-			input.add(null);
-			Assertions.copyIfNotEmptyAllNotNull(input, "x");
+			Assertions.notEmptyAllNotEmpty(Arrays.asList("a", ""), "x");
 		}
 		catch (Exception e)
 		{
 			caughtException = e;
 		}
 		if (caughtException == null)
-			fail("Did not throw expected NullPointerException");
-		if (!(caughtException instanceof NullPointerException))
+			fail("Did not throw expected IllegalStateException");
+		if (!(caughtException instanceof IllegalStateException))
 			fail("Unexpected " + caughtException);
 		if (!caughtException.getMessage().contains("\"x\""))
 			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
 	}
 
 	@Test
-	public void copyIfNotEmptyAllNotEmptySucceed()
+	public void notEmptyAllNotEmptyConcurrentKeys() throws Exception
+	{
+		for (int size : new int[] { 10, 200_000 })
+		{
+			ConcurrentHashMap<String, Boolean> map = new ConcurrentHashMap<>();
+			for (int i = 0; i < size; i++)
+				map.put("k" + i, true);
+			assertSame(map.keySet(), Assertions.notEmptyAllNotEmpty(map.keySet(), "x"));
+
+			// Concurrent writers that only add valid keys never cause a failure
+			AtomicBoolean stop = new AtomicBoolean();
+			Thread writer = new Thread(() ->
+			{
+				for (int i = 0; !stop.get(); i++)
+					map.put("w" + i, true);
+			});
+			writer.start();
+			try
+			{
+				for (int i = 0; i < 5; i++)
+					Assertions.notEmptyAllNotEmpty(map.keySet(), "x");
+			}
+			finally
+			{
+				stop.set(true);
+				writer.join();
+			}
+
+			map.put("", true);
+			Exception caughtException = null;
+			try
+			{
+				Assertions.notEmptyAllNotEmpty(map.keySet(), "x");
+			}
+			catch (Exception e)
+			{
+				caughtException = e;
+			}
+			if (caughtException == null)
+				fail("Did not throw expected IllegalStateException");
+			if (!(caughtException instanceof IllegalStateException))
+				fail("Unexpected " + caughtException);
+			if (!caughtException.getMessage().contains("\"x\""))
+				fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+			int index = ((CheckFailure) caughtException).getIndex();
+			assertTrue("Got index " + index, index >= 0 && index < map.size());
+		}
+	}
+
+	@Test
+	public void copyIfAllNotNullSucceed()
 	{
 		Exception caughtException = null;
 		try
 		{
-			List<String> listInput = Arrays.asList("a", "b");
-			List<String> listResult = Assertions.copyIfNotEmptyAllNotEmpty(listInput, "x");
+			List<String> listInput = new ArrayList<>();
+			List<String> listResult = Assertions.copyIfAllNotNull(listInput, "x");
+			assertFalse("listInput cannot be same object as listResult", listInput == listResult);
+			assertEquals(listInput, listResult);
+			listInput = Arrays.asList("a", "");
+			listResult = Assertions.copyIfAllNotNull(listInput, "x");
 			assertFalse("listInput cannot be same object as listResult", listInput == listResult);
 			assertEquals(listInput, listResult);
 
 			Set<String> setInput = new HashSet<>();
+			Set<String> setResult = Assertions.copyIfAllNotNull(setInput, "x");
+			assertFalse("setInput cannot be same object as setResult", setInput == setResult);
+			assertEquals(setInput, setResult);
+			setInput = new HashSet<>();
 			setInput.add("a");
-			setInput.add("b");
-			Set<String> setResult = Assertions.copyIfNotEmptyAllNotEmpty(setInput, "x");
+			setInput.add("");
+			setResult = Assertions.copyIfAllNotNull(setInput, "x");
 			assertFalse("setInput cannot be same object as setResult", setInput == setResult);
 			assertEquals(setInput, setResult);
 		}
@@ -1620,13 +1953,13 @@ public class AssertionsTest
 	}
 
 	@Test
-	public void copyIfNotEmptyAllNotEmptyFail()
+	public void copyIfAllNotNullFail()
 	{
 		Exception caughtException = null;
 		try
 		{
-			List<String> input = null;
-			Assertions.copyIfNotEmptyAllNotEmpty(input, "x");
+			List<Object> input = null;
+			Assertions.copyIfAllNotNull(input, "x");
 		}
 		catch (Exception e)
 		{
@@ -1642,8 +1975,8 @@ public class AssertionsTest
 		caughtException = null;
 		try
 		{
-			Set<String> input = null;
-			Assertions.copyIfNotEmptyAllNotEmpty(input, "x");
+			Set<Object> input = null;
+			Assertions.copyIfAllNotNull(input, "x");
 		}
 		catch (Exception e)
 		{
@@ -1659,15 +1992,15 @@ public class AssertionsTest
 		caughtException = null;
 		try
 		{
-			Assertions.copyIfNotEmptyAllNotEmpty(new ArrayList<>(), "x");
+			Assertions.copyIfAllNotNull(Arrays.asList("a", null), "x");
 		}
 		catch (Exception e)
 		{
 			caughtException = e;
 		}
 		if (caughtException == null)
-			fail("Did not throw expected IllegalStateException");
-		if (!(caughtException instanceof IllegalStateException))
+			fail("Did not throw expected NullPointerException");
+		if (!(caughtException instanceof NullPointerException))
 			fail("Unexpected " + caughtException);
 		if (!caughtException.getMessage().contains("\"x\""))
 			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
@@ -1675,23 +2008,66 @@ public class AssertionsTest
 		caughtException = null;
 		try
 		{
-			Assertions.copyIfNotEmptyAllNotEmpty(new HashSet<>(), "x");
+			Set<String> input = new HashSet<>();
+			input.add("a");
+			input.add(null);
+			Assertions.copyIfAllNotNull(input, "x");
 		}
 		catch (Exception e)
 		{
 			caughtException = e;
 		}
 		if (caughtException == null)
-			fail("Did not throw expected IllegalStateException");
-		if (!(caughtException instanceof IllegalStateException))
+			fail("Did not throw expected NullPointerException");
+		if (!(caughtException instanceof NullPointerException))
 			fail("Unexpected " + caughtException);
 		if (!caughtException.getMessage().contains("\"x\""))
 			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+	}
 
-		caughtException = null;
+	@Test
+	public void copyIfAllNotNullToArraySucceed()
+	{
+		Exception caughtException = null;
 		try
 		{
-			Assertions.copyIfNotEmptyAllNotEmpty(Arrays.asList("a", null), "x");
+			assertArrayEquals(new long[0], Assertions.copyIfAllNotNullToLongArray(new ArrayList<>(), "x"));
+			assertArrayEquals(new long[] { 1, Long.MIN_VALUE, 3 }, Assertions.copyIfAllNotNullToLongArray(Arrays.asList(1L, Long.MIN_VALUE, 3L), "x"));
+			assertArrayEquals(new long[] { 1, 2, 3 }, Assertions.copyIfAllNotNullToLongArray(new LinkedList<>(Arrays.asList(1L, 2L, 3L)), "x"));
+			assertArrayEquals(new int[] { 1, 2 }, Assertions.copyIfAllNotNullToIntArray(Arrays.asList(1, 2), "x"));
+			assertArrayEquals(new int[] { 1, 2 }, Assertions.copyIfAllNotNullToIntArray(new LinkedList<>(Arrays.asList(1, 2)), "x"));
+			assertArrayEquals(new double[] { 1.5, Double.NaN }, Assertions.copyIfAllNotNullToDoubleArray(Arrays.asList(1.5, Double.NaN), "x"), 0);
+			assertArrayEquals(new double[] { 1.5 }, Assertions.copyIfAllNotNullToDoubleArray(new LinkedList<>(Arrays.asList(1.5)), "x"), 0);
+
+			// Reports one element more than it holds, as if another thread removed one right after size() was called
+			List<Long> shrinking = new CopyOnWriteArrayList<Long>(Arrays.asList(1L, 2L))
+			{
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				public int size()
+				{
+					return super.size() + 1;
+				}
+			};
+			assertArrayEquals(new long[] { 1, 2 }, Assertions.copyIfAllNotNullToLongArray(shrinking, "x"));
+		}
+		catch (Exception e)
+		{
+			e.printStackTrace();
+			caughtException = e;
+		}
+		if (caughtException != null)
+			fail("Unexpected " + caughtException);
+	}
+
+	@Test
+	public void copyIfAllNotNullToArrayFail()
+	{
+		Exception caughtException = null;
+		try
+		{
+			Assertions.copyIfAllNotNullToLongArray(null, "x");
 		}
 		catch (Exception e)
 		{
@@ -1707,10 +2083,7 @@ public class AssertionsTest
 		caughtException = null;
 		try
 		{
-			Set<String> input = new HashSet<>();
-			input.add("a");
-			input.add(null);
-			Assertions.copyIfNotEmptyAllNotEmpty(input, "x");
+			Assertions.copyIfAllNotNullToIntArray(Arrays.asList(1, null), "x");
 		}
 		catch (Exception e)
 		{
@@ -1722,19 +2095,69 @@ public class AssertionsTest
 			fail("Unexpected " + caughtException);
 		if (!caughtException.getMessage().contains("\"x\""))
 			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+		assertEquals(1, ((CheckFailure) caughtException).getIndex());
 
 		caughtException = null;
 		try
 		{
-			Assertions.copyIfNotEmptyAllNotEmpty(Arrays.asList("a", ""), "x");
+			Assertions.copyIfAllNotNullToDoubleArray(new LinkedList<>(Arrays.asList(1.0, 2.0, null)), "x");
 		}
 		catch (Exception e)
 		{
 			caughtException = e;
 		}
 		if (caughtException == null)
-			fail("Did not throw expected IllegalStateException");
-		if (!(caughtException instanceof IllegalStateException))
+			fail("Did not throw expected NullPointerException");
+		if (!(caughtException instanceof NullPointerException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"x\""))
+			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+		assertEquals(2, ((CheckFailure) caughtException).getIndex());
+	}
+
+	@Test
+	public void copyIfNotEmptyAllNotNullSucceed()
+	{
+		Exception caughtException = null;
+		try
+		{
+			List<String> listInput = Arrays.asList("a", "");
+			List<String> listResult = Assertions.copyIfNotEmptyAllNotNull(listInput, "x");
+			assertFalse("listInput cannot be same object as listResult", listInput == listResult);
+			assertEquals(listInput, listResult);
+
+			Set<String> setInput = new HashSet<>();
+			setInput.add("a");
+			setInput.add("");
+			Set<String> setResult = Assertions.copyIfNotEmptyAllNotNull(setInput, "x");
+			assertFalse("setInput cannot be same object as setResult", setInput == setResult);
+			assertEquals(setInput, setResult);
+		}
+		catch (Exception e)
+		{
+			e.printStackTrace();
+			caughtException = e;
+		}
+		if (caughtException != null)
+			fail("Unexpected " + caughtException);
+	}
+
+	@Test
+	public void copyIfNotEmptyAllNotNullFail()
+	{
+		Exception caughtException = null;
+		try
+		{
+			List<Object> input = null;
+			Assertions.copyIfNotEmptyAllNotNull(input, "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected NullPointerException");
+		if (!(caughtException instanceof NullPointerException))
 			fail("Unexpected " + caughtException);
 		if (!caughtException.getMessage().contains("\"x\""))
 			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
@@ -1742,20 +2165,1177 @@ public class AssertionsTest
 		caughtException = null;
 		try
 		{
-			Set<String> input = new HashSet<>();
-			input.add("a");
-			input.add("");
-			Assertions.copyIfNotEmptyAllNotEmpty(input, "x");
+			Set<Object> input = null;
+			Assertions.copyIfNotEmptyAllNotNull(input, "x");
 		}
 		catch (Exception e)
 		{
 			caughtException = e;
 		}
 		if (caughtException == null)
-			fail("Did not throw expected IllegalStateException");
-		if (!(caughtException instanceof IllegalStateException))
+			fail("Did not throw expected NullPointerException");
+		if (!(caughtException instanceof NullPointerException))
 			fail("Unexpected " + caughtException);
 		if (!caughtException.getMessage().contains("\"x\""))
 			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+
+		caughtException = null;
+		try
+		{
+			Assertions.copyIfNotEmptyAllNotNull(new ArrayList<>(), "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected IllegalStateException");
+		if (!(caughtException instanceof IllegalStateException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"x\""))
+			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+
+		caughtException = null;
+		try
+		{
+			Assertions.copyIfNotEmptyAllNotNull(new HashSet<>(), "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected IllegalStateException");
+		if (!(caughtException instanceof IllegalStateException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"x\""))
+			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+
+		caughtException = null;
+		try
+		{
+			Assertions.copyIfNotEmptyAllNotNull(Arrays.asList("a", null), "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected NullPointerException");
+		if (!(caughtException instanceof NullPointerException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"x\""))
+			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+
+		caughtException = null;
+		try
+		{
+			Set<String> input = new HashSet<>();
+			input.add("a");
+			input.add(null);
+			Assertions.copyIfNotEmptyAllNotNull(input, "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected NullPointerException");
+		if (!(caughtException instanceof NullPointerException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"x\""))
+			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+	}
+
+	@Test
+	public void copyIfNotEmptyAllNotEmptySucceed()
+	{
+		Exception caughtException = null;
+		try
+		{
+			List<String> listInput = Arrays.asList("a", "b");
+			List<String> listResult = Assertions.copyIfNotEmptyAllNotEmpty(listInput, "x");
+			assertFalse("listInput cannot be same object as listResult", listInput == listResult);
+			assertEquals(listInput, listResult);
+
+			Set<String> setInput = new HashSet<>();
+			setInput.add("a");
+			setInput.add("b");
+			Set<String> setResult = Assertions.copyIfNotEmptyAllNotEmpty(setInput, "x");
+			assertFalse("setInput cannot be same object as setResult", setInput == setResult);
+			assertEquals(setInput, setResult);
+		}
+		catch (Exception e)
+		{
+			e.printStackTrace();
+			caughtException = e;
+		}
+		if (caughtException != null)
+			fail("Unexpected " + caughtException);
+	}
+
+	@Test
+	public void copyIfNotEmptyAllNotEmptyFail()
+	{
+		Exception caughtException = null;
+		try
+		{
+			List<String> input = null;
+			Assertions.copyIfNotEmptyAllNotEmpty(input, "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected NullPointerException");
+		if (!(caughtException instanceof NullPointerException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"x\""))
+			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+
+		caughtException = null;
+		try
+		{
+			Set<String> input = null;
+			Assertions.copyIfNotEmptyAllNotEmpty(input, "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected NullPointerException");
+		if (!(caughtException instanceof NullPointerException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"x\""))
+			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+
+		caughtException = null;
+		try
+		{
+			Assertions.copyIfNotEmptyAllNotEmpty(new ArrayList<>(), "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected IllegalStateException");
+		if (!(caughtException instanceof IllegalStateException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"x\""))
+			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+
+		caughtException = null;
+		try
+		{
+			Assertions.copyIfNotEmptyAllNotEmpty(new HashSet<>(), "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected IllegalStateException");
+		if (!(caughtException instanceof IllegalStateException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"x\""))
+			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+
+		caughtException = null;
+		try
+		{
+			Assertions.copyIfNotEmptyAllNotEmpty(Arrays.asList("a", null), "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected NullPointerException");
+		if (!(caughtException instanceof NullPointerException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"x\""))
+			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+
+		caughtException = null;
+		try
+		{
+			Set<String> input = new HashSet<>();
+			input.add("a");
+			input.add(null);
+			Assertions.copyIfNotEmptyAllNotEmpty(input, "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected NullPointerException");
+		if (!(caughtException instanceof NullPointerException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"x\""))
+			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+
+		caughtException = null;
+		try
+		{
+			Assertions.copyIfNotEmptyAllNotEmpty(Arrays.asList("a", ""), "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected IllegalStateException");
+		if (!(caughtException instanceof IllegalStateException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"x\""))
+			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+
+		caughtException = null;
+		try
+		{
+			Set<String> input = new HashSet<>();
+			input.add("a");
+			input.add("");
+			Assertions.copyIfNotEmptyAllNotEmpty(input, "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected IllegalStateException");
+		if (!(caughtException instanceof IllegalStateException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"x\""))
+			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+	}
+
+	@Test
+	public void immutableCopySucceed()
+	{
+		Exception caughtException = null;
+		try
+		{
+			List<String> listInput = new ArrayList<>(Arrays.asList("a", "", "b"));
+			List<String> listResult = Assertions.immutableCopyIfAllNotNull(listInput, "x");
+			assertEquals(listInput, listResult);
+			listInput.set(0, "c");
+			assertEquals("a", listResult.get(0));
+			assertEquals(Arrays.asList("a"), Assertions.immutableCopyIfNotEmptyAllNotNull(Arrays.asList("a"), "x"));
+			assertEquals(new ArrayList<>(), Assertions.immutableCopyIfAllNotNull(new ArrayList<String>(), "x"));
+
+			Set<String> setInput = new HashSet<>(Arrays.asList("a", "", "b", "c"));
+			Set<String> setResult = Assertions.immutableCopyIfAllNotNull(setInput, "x");
+			assertEquals(setInput, setResult);
+			setInput.remove("a");
+			assertTrue(setResult.contains("a"));
+			assertEquals(new HashSet<>(Arrays.asList("a", "b")), Assertions.immutableCopyIfNotEmptyAllNotNull(new HashSet<>(Arrays.asList("a", "b")), "x"));
+		}
+		catch (Exception e)
+		{
+			e.printStackTrace();
+			caughtException = e;
+		}
+		if (caughtException != null)
+			fail("Unexpected " + caughtException);
+	}
+
+	@Test
+	public void immutableCopyReusesImmutableInput() throws Exception
+	{
+		List<String> compactList = Assertions.immutableCopyIfAllNotNull(Arrays.asList("a", "b", "c"), "x");
+		assertSame(compactList, Assertions.immutableCopyIfAllNotNull(compactList, "x"));
+		assertSame(compactList, Assertions.immutableCopyIfNotEmptyAllNotNull(compactList, "x"));
+		assertSame(compactList, Assertions.immutableCopyIfNotEmptyAllNotEmpty(compactList, "x"));
+		Set<String> compactSet = Assertions.immutableCopyIfAllNotNull(new HashSet<>(Arrays.asList("a", "b", "c")), "x");
+		assertSame(compactSet, Assertions.immutableCopyIfAllNotNull(compactSet, "x"));
+		assertSame(compactSet, Assertions.immutableCopyIfNotEmptyAllNotEmpty(compactSet, "x"));
+
+		List<String> singleton = Collections.singletonList("a");
+		assertSame(singleton, Assertions.immutableCopyIfAllNotNull(singleton, "x"));
+		List<String> unmodifiable = Collections.unmodifiableList(new ArrayList<>(Arrays.asList("a", "b")));
+		assertFalse("unmodifiable views must be copied", unmodifiable == Assertions.immutableCopyIfAllNotNull(unmodifiable, "x"));
+
+		// Immutable collections that may hold null are still checked
+		Exception caughtException = null;
+		try
+		{
+			Assertions.immutableCopyIfAllNotNull(Collections.singletonList((String) null), "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (!(caughtException instanceof NullPointerException))
+			fail("Unexpected " + caughtException);
+		caughtException = null;
+		try
+		{
+			Assertions.immutableCopyIfNotEmptyAllNotNull(Collections.emptyList(), "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (!(caughtException instanceof IllegalStateException))
+			fail("Unexpected " + caughtException);
+		caughtException = null;
+		try
+		{
+			List<String> withEmpty = Assertions.immutableCopyIfAllNotNull(Arrays.asList("a", ""), "x");
+			Assertions.immutableCopyIfNotEmptyAllNotEmpty(withEmpty, "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (!(caughtException instanceof IllegalStateException))
+			fail("Unexpected " + caughtException);
+
+		// List.of and Set.of exist only on newer JDKs
+		Method listOf = null;
+		try
+		{
+			listOf = List.class.getMethod("of", Object[].class);
+		}
+		catch (NoSuchMethodException e)
+		{
+		}
+		if (listOf != null)
+		{
+			@SuppressWarnings("unchecked")
+			List<String> jdkList = (List<String>) listOf.invoke(null, (Object) new Object[] { "a", "b", "c" });
+			assertSame(jdkList, Assertions.immutableCopyIfAllNotNull(jdkList, "x"));
+			@SuppressWarnings("unchecked")
+			Set<String> jdkSet = (Set<String>) Set.class.getMethod("of", Object[].class).invoke(null, (Object) new Object[] { "a", "b", "c" });
+			assertSame(jdkSet, Assertions.immutableCopyIfNotEmptyAllNotNull(jdkSet, "x"));
+		}
+	}
+
+	@Test
+	public void immutableCopyFail()
+	{
+		Exception caughtException = null;
+		try
+		{
+			List<Object> input = null;
+			Assertions.immutableCopyIfAllNotNull(input, "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected NullPointerException");
+		if (!(caughtException instanceof NullPointerException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"x\""))
+			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+
+		caughtException = null;
+		try
+		{
+			Assertions.immutableCopyIfAllNotNull(new HashSet<>(Arrays.asList("a", null)), "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected NullPointerException");
+		if (!(caughtException instanceof NullPointerException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"x\""))
+			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+
+		caughtException = null;
+		try
+		{
+			Assertions.immutableCopyIfNotEmptyAllNotNull(new ArrayList<String>(), "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected IllegalStateException");
+		if (!(caughtException instanceof IllegalStateException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"x\""))
+			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+
+		caughtException = null;
+		try
+		{
+			Assertions.immutableCopyIfNotEmptyAllNotNull(Arrays.asList("a", "b", null), "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected NullPointerException");
+		if (!(caughtException instanceof NullPointerException))
+			fail("Unexpected " + caughtException);
+		assertEquals(2, ((CheckFailure) caughtException).getIndex());
+	}
+
+	@Test
+	public void validatedCollectionsSucceed()
+	{
+		Exception caughtException = null;
+		try
+		{
+			List<String> list = Assertions.nonEmptyStringList("x");
+			for (int i = 0; i < 5; i++)
+			{
+				list.add("s" + i);
+				Assertions.notEmptyAllNotEmpty(list, "x");
+				Assertions.notEmptyAllNotNull(list, "x");
+			}
+			list.add(0, "first");
+			list.set(1, "second");
+			list.addAll(Arrays.asList("y", "z"));
+			list.subList(0, 2).clear();
+			list.replaceAll(s -> s + "!");
+			list.removeIf(s -> s.startsWith("z"));
+			assertEquals(Arrays.asList("s1!", "s2!", "s3!", "s4!", "y!"), list);
+			assertEquals(list, Assertions.copyIfNotEmptyAllNotEmpty(list, "x"));
+
+			Set<Object> set = Assertions.nonNullSet("x");
+			set.add(1);
+			set.add(2);
+			set.remove(1);
+			assertEquals(Collections.singleton(2), Assertions.copyIfNotEmptyAllNotNull(set, "x"));
+			Set<String> strings = Assertions.nonEmptyStringSet("x");
+			strings.addAll(Arrays.asList("b", "a", "b"));
+			assertEquals(Arrays.asList("b", "a"), new ArrayList<>(Assertions.notEmptyAllNotEmpty(strings, "x")));
+			assertTrue(Assertions.nonNullList("x").isEmpty());
+		}
+		catch (Exception e)
+		{
+			e.printStackTrace();
+			caughtException = e;
+		}
+		if (caughtException != null)
+			fail("Unexpected " + caughtException);
+	}
+
+	@Test
+	public void validatedCollectionsFail()
+	{
+		List<Object> list = Assertions.nonNullList("x");
+		list.add("a");
+		for (Runnable mutation : Arrays.<Runnable> asList(() -> list.add(null), () -> list.set(0, null), () -> list.addAll(Arrays.asList("b", null)),
+			() -> list.replaceAll(o -> null), () -> list.listIterator().add(null), () -> list.subList(0, 1).add(null)))
+		{
+			Exception caughtException = null;
+			try
+			{
+				mutation.run();
+			}
+			catch (Exception e)
+			{
+				caughtException = e;
+			}
+			if (caughtException == null)
+				fail("Did not throw expected NullPointerException");
+			if (!(caughtException instanceof NullPointerException))
+				fail("Unexpected " + caughtException);
+			if (!caughtException.getMessage().contains("\"x\""))
+				fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+			Assertions.allNotNull(list, "x");
+			for (Object o : list)
+				assertTrue(o != null);
+		}
+
+		Set<String> set = Assertions.nonEmptyStringSet("x");
+		Exception caughtException = null;
+		try
+		{
+			set.add("");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected IllegalStateException");
+		if (!(caughtException instanceof IllegalStateException))
+			fail("Unexpected " + caughtException);
+
+		caughtException = null;
+		try
+		{
+			Assertions.notEmptyAllNotEmpty(set, "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected IllegalStateException");
+		if (!caughtException.getMessage().equals("Collection \"x\" cannot be empty"))
+			fail("Unexpected message \"" + caughtException.getMessage() + "\"");
+	}
+
+	@Test
+	public void allDistinctSucceed()
+	{
+		Exception caughtException = null;
+		try
+		{
+			Collection<String> collectionInput = Arrays.asList("a", "b", null);
+			Collection<String> collectionResult = Assertions.allDistinct(collectionInput, "x");
+			assertSame(collectionInput, collectionResult);
+			collectionInput = new HashSet<>(Arrays.asList("a", "b"));
+			collectionResult = Assertions.allDistinct(collectionInput, "x");
+			assertSame(collectionInput, collectionResult);
+
+			long[] longInput = new long[100_000];
+			for (int i = 0; i < longInput.length; i++)
+				longInput[i] = (i - 50_000) * 1024L;
+			long[] longResult = Assertions.allDistinct(longInput, "x");
+			assertSame(longInput, longResult);
+			longInput = new long[] { 0, Long.MIN_VALUE, Long.MAX_VALUE };
+			longResult = Assertions.allDistinct(longInput, "x");
+			assertSame(longInput, longResult);
+
+			int[] intInput = new int[] { 3, 0, -3 };
+			int[] intResult = Assertions.allDistinct(intInput, "x");
+			assertSame(intInput, intResult);
+			intInput = new int[0];
+			intResult = Assertions.allDistinct(intInput, "x");
+			assertSame(intInput, intResult);
+		}
+		catch (Exception e)
+		{
+			e.printStackTrace();
+			caughtException = e;
+		}
+		if (caughtException != null)
+			fail("Unexpected " + caughtException);
+	}
+
+	@Test
+	public void allDistinctFail()
+	{
+		Exception caughtException = null;
+		try
+		{
+			Assertions.allDistinct(Arrays.asList("a", "b", "a"), "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected IllegalStateException");
+		if (!(caughtException instanceof IllegalStateException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"x\""))
+			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+
+		caughtException = null;
+		try
+		{
+			Set<String> identitySet = Collections.newSetFromMap(new IdentityHashMap<>());
+			identitySet.add("a");
+			identitySet.add(new String("a"));
+			Assertions.allDistinct(identitySet, "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected IllegalStateException");
+		if (!(caughtException instanceof IllegalStateException))
+			fail("Unexpected " + caughtException);
+
+		caughtException = null;
+		try
+		{
+			long[] input = new long[100_000];
+			for (int i = 0; i < input.length; i++)
+				input[i] = i * 1024L;
+			input[input.length - 1] = 0;
+			Assertions.allDistinct(input, "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected IllegalStateException");
+		if (!(caughtException instanceof IllegalStateException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"x\""))
+			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+
+		caughtException = null;
+		try
+		{
+			Assertions.allDistinct(new int[] { 1, 2, 3, 2 }, "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected IllegalStateException");
+		if (!(caughtException instanceof IllegalStateException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"x\""))
+			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+
+		caughtException = null;
+		try
+		{
+			long[] input = null;
+			Assertions.allDistinct(input, "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected NullPointerException");
+		if (!(caughtException instanceof NullPointerException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"x\""))
+			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+	}
+
+	@Test
+	public void sortedSucceed()
+	{
+		Exception caughtException = null;
+		try
+		{
+			long[] longInput = new long[] { -1, 0, 0, 5 };
+			long[] longResult = Assertions.sorted(longInput, "x");
+			assertSame(longInput, longResult);
+
+			double[] doubleInput = new double[] { Double.NEGATIVE_INFINITY, -0.0, 0.0, 0.5, 0.5 };
+			double[] doubleResult = Assertions.sorted(doubleInput, "x");
+			assertSame(doubleInput, doubleResult);
+
+			List<String> listInput = Arrays.asList("a", "a", "b");
+			List<String> listResult = Assertions.sorted(listInput, "x");
+			assertSame(listInput, listResult);
+			listInput = new ArrayList<>();
+			listResult = Assertions.sorted(listInput, "x");
+			assertSame(listInput, listResult);
+		}
+		catch (Exception e)
+		{
+			e.printStackTrace();
+			caughtException = e;
+		}
+		if (caughtException != null)
+			fail("Unexpected " + caughtException);
+	}
+
+	@Test
+	public void sortedFail()
+	{
+		Exception caughtException = null;
+		try
+		{
+			Assertions.sorted(new long[] { 1, 2, 1 }, "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected IllegalStateException");
+		if (!(caughtException instanceof IllegalStateException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"x\""))
+			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+		if (!caughtException.getMessage().contains("index 2"))
+			fail("Did not get index in exception message. Got \"" + caughtException.getMessage() + "\"");
+
+		caughtException = null;
+		try
+		{
+			Assertions.sorted(new double[] { 1, Double.NaN }, "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected IllegalStateException");
+		if (!(caughtException instanceof IllegalStateException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"x\""))
+			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+
+		caughtException = null;
+		try
+		{
+			Assertions.sorted(Arrays.asList("b", "a"), "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected IllegalStateException");
+		if (!(caughtException instanceof IllegalStateException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"x\""))
+			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+
+		caughtException = null;
+		try
+		{
+			Assertions.sorted(Arrays.asList("a", null), "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected NullPointerException");
+		if (!(caughtException instanceof NullPointerException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"x\""))
+			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+	}
+
+	@Test
+	public void strictlyIncreasingSucceed()
+	{
+		Exception caughtException = null;
+		try
+		{
+			long[] longInput = new long[] { Long.MIN_VALUE, 0, Long.MAX_VALUE };
+			long[] longResult = Assertions.strictlyIncreasing(longInput, "x");
+			assertSame(longInput, longResult);
+
+			double[] doubleInput = new double[] { -1, 0.5, Double.POSITIVE_INFINITY };
+			double[] doubleResult = Assertions.strictlyIncreasing(doubleInput, "x");
+			assertSame(doubleInput, doubleResult);
+
+			List<Integer> listInput = Arrays.asList(1, 2, 3);
+			List<Integer> listResult = Assertions.strictlyIncreasing(listInput, "x");
+			assertSame(listInput, listResult);
+		}
+		catch (Exception e)
+		{
+			e.printStackTrace();
+			caughtException = e;
+		}
+		if (caughtException != null)
+			fail("Unexpected " + caughtException);
+	}
+
+	@Test
+	public void strictlyIncreasingFail()
+	{
+		Exception caughtException = null;
+		try
+		{
+			Assertions.strictlyIncreasing(new long[] { 1, 2, 2 }, "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected IllegalStateException");
+		if (!(caughtException instanceof IllegalStateException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"x\""))
+			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+
+		caughtException = null;
+		try
+		{
+			Assertions.strictlyIncreasing(new double[] { 0.0, -0.0 }, "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected IllegalStateException");
+		if (!(caughtException instanceof IllegalStateException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"x\""))
+			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+
+		caughtException = null;
+		try
+		{
+			Assertions.strictlyIncreasing(Arrays.asList(1, 1), "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected IllegalStateException");
+		if (!(caughtException instanceof IllegalStateException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"x\""))
+			fail("Did not get variable name in exception message. Got \"" + caughtException.getMessage() + "\"");
+	}
+
+	private static class FieldHolder
+	{
+		private String name = "a";
+		private int age = 1;
+		private Long boxedCount = 5L;
+		private double ratio = 0.5;
+		private List<String> tags = Arrays.asList("t");
+	}
+
+	private static class FieldHolderSubclass extends FieldHolder
+	{
+		@SuppressWarnings("unused")
+		private Object extra = new Object();
+	}
+
+	private static final Rules FIELD_HOLDER_RULES = Rules.rules()
+		.notEmpty("name")
+		.between("age", 0, 150)
+		.between("boxedCount", 1, 10)
+		.between("ratio", 0.0, 1.0)
+		.notEmpty("tags");
+
+	@Test
+	public void deepAllNotNullSucceed()
+	{
+		Exception caughtException = null;
+		try
+		{
+			assertEquals("a", Assertions.deepAllNotNull("a", "x"));
+			List<Object> payload = payload();
+			assertSame(payload, Assertions.deepAllNotNull(payload, "x"));
+			assertSame(payload, Assertions.deepNotEmptyAllNotEmpty(payload, "x"));
+
+			// Shared and cyclic structures are walked once
+			List<Object> cyclic = new ArrayList<>();
+			cyclic.add("a");
+			cyclic.add(cyclic);
+			cyclic.add(Arrays.asList(cyclic, payload, payload));
+			Assertions.deepNotEmptyAllNotEmpty(cyclic, "x");
+
+			// Deep nesting needs no Java stack
+			List<Object> deep = new ArrayList<>();
+			List<Object> current = deep;
+			for (int i = 0; i < 100_000; i++)
+			{
+				List<Object> next = new ArrayList<>();
+				current.add(next);
+				current = next;
+			}
+			current.add("leaf");
+			Assertions.deepNotEmptyAllNotEmpty(deep, 100_001, "x");
+
+			Assertions.deepAllNotNull(Arrays.asList("", new ArrayList<>(), new int[0]), "x");
+		}
+		catch (Exception e)
+		{
+			e.printStackTrace();
+			caughtException = e;
+		}
+		if (caughtException != null)
+			fail("Unexpected " + caughtException);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void deepAllNotNullFail()
+	{
+		List<Object> payload = payload();
+		((List<Object>) ((Map<?, ?>) payload.get(3)).get("tags")).set(7, null);
+		assertDeepFailure(NullPointerException.class, "Variable \"payload\" cannot contain null. Found null at payload[3].tags[7]",
+			() -> Assertions.deepAllNotNull(payload, "payload"));
+
+		Map<Object, Object> keys = new LinkedHashMap<>();
+		keys.put("a b", Arrays.asList("c", null));
+		assertDeepFailure(NullPointerException.class, "Variable \"x\" cannot contain null. Found null at x[\"a b\"][1]",
+			() -> Assertions.deepAllNotNull(keys, "x"));
+		keys.clear();
+		keys.put(5, new Object[] { "c", null });
+		assertDeepFailure(NullPointerException.class, "Variable \"x\" cannot contain null. Found null at x[5][1]",
+			() -> Assertions.deepAllNotNull(keys, "x"));
+		keys.clear();
+		keys.put(null, "c");
+		assertDeepFailure(NullPointerException.class, "Variable \"x\" cannot contain null. Found null at x[null key]",
+			() -> Assertions.deepAllNotNull(keys, "x"));
+		assertDeepFailure(NullPointerException.class, "Variable \"x\" cannot be null", () -> Assertions.deepAllNotNull(null, "x"));
+
+		List<Object> deep = new ArrayList<>();
+		List<Object> current = deep;
+		for (int i = 0; i < 3; i++)
+		{
+			List<Object> next = new ArrayList<>();
+			current.add(next);
+			current = next;
+		}
+		assertDeepFailure(IllegalStateException.class, "Variable \"x\" cannot be nested more than 3 levels deep. Exceeded at x[0][0][0]",
+			() -> Assertions.deepAllNotNull(deep, 3, "x"));
+		Assertions.deepAllNotNull(deep, 4, "x");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void deepNotEmptyAllNotEmptyFail()
+	{
+		List<Object> payload = payload();
+		((List<Object>) ((Map<?, ?>) payload.get(3)).get("tags")).set(7, "");
+		assertDeepFailure(IllegalStateException.class,
+			"Variable \"payload\" cannot be or contain an empty string, collection, map or array. Found one at payload[3].tags[7]",
+			() -> Assertions.deepNotEmptyAllNotEmpty(payload, "payload"));
+		assertDeepFailure(IllegalStateException.class,
+			"Variable \"x\" cannot be or contain an empty string, collection, map or array. Found one at x[1]",
+			() -> Assertions.deepNotEmptyAllNotEmpty(Arrays.asList("a", new long[0]), "x"));
+		assertDeepFailure(IllegalStateException.class,
+			"Variable \"x\" cannot be or contain an empty string, collection, map or array. Found one at x",
+			() -> Assertions.deepNotEmptyAllNotEmpty(new HashMap<>(), "x"));
+		assertDeepFailure(NullPointerException.class, "Variable \"x\" cannot contain null. Found null at x[0]",
+			() -> Assertions.deepNotEmptyAllNotEmpty(Arrays.asList((Object) null), "x"));
+	}
+
+	private static void assertDeepFailure(Class<? extends Exception> expectedType, String expectedMessage, Runnable check)
+	{
+		Exception caughtException = null;
+		try
+		{
+			check.run();
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected " + expectedType.getSimpleName());
+		if (!expectedType.isInstance(caughtException))
+			fail("Unexpected " + caughtException);
+		assertEquals(expectedMessage, caughtException.getMessage());
+	}
+
+	// A list of four maps, each with a list of ten tags
+	private static List<Object> payload()
+	{
+		List<Object> payload = new ArrayList<>();
+		for (int i = 0; i < 4; i++)
+		{
+			Map<String, Object> item = new LinkedHashMap<>();
+			item.put("id", i);
+			List<String> tags = new ArrayList<>();
+			for (int j = 0; j < 10; j++)
+				tags.add("t" + j);
+			item.put("tags", tags);
+			payload.add(item);
+		}
+		return payload;
+	}
+
+	@Test
+	public void validateFieldsSucceed()
+	{
+		Exception caughtException = null;
+		try
+		{
+			FieldHolder input = new FieldHolder();
+			FieldHolder result = Assertions.validateFields(input, FIELD_HOLDER_RULES);
+			assertSame(input, result);
+			result = Assertions.validateFields(input, FIELD_HOLDER_RULES);
+			assertSame(input, result);
+
+			FieldHolderSubclass subclassInput = new FieldHolderSubclass();
+			FieldHolderSubclass subclassResult = Assertions.validateFields(subclassInput, FIELD_HOLDER_RULES.notNull("extra"));
+			assertSame(subclassInput, subclassResult);
+
+			Assertions.validateFields(input, Rules.rules());
+		}
+		catch (Exception e)
+		{
+			e.printStackTrace();
+			caughtException = e;
+		}
+		if (caughtException != null)
+			fail("Unexpected " + caughtException);
+	}
+
+	private static class MixedFieldHolder
+	{
+		private char letter = 'm';
+		private Character boxedLetter = 'm';
+		private BigDecimal amount = new BigDecimal("10000000000000000.01");
+		private BigInteger count = BigInteger.TEN.pow(18).add(BigInteger.ONE);
+		private Number quantity = new BigDecimal("10000000000000000.01");
+	}
+
+	@Test
+	public void validateFieldsMixedTypes()
+	{
+		Assertions.validateFields(new MixedFieldHolder(), Rules.rules()
+			.between("letter", 'a', 'z')
+			.between("boxedLetter", 'a', 'z')
+			.between("boxedLetter", 97.0, 122.0)
+			.between("amount", 0.0, 1e17)
+			.between("count", 0.0, Double.POSITIVE_INFINITY)
+			.between("quantity", 0.0, 1e17));
+
+		// Exact comparisons, where doubleValue() would round to the high reference value and pass
+		List<Rules> failing = Arrays.asList(
+			Rules.rules().between("boxedLetter", 'n', 'z'),
+			Rules.rules().between("amount", 0.0, 1e16),
+			Rules.rules().between("count", 0.0, 1e18),
+			Rules.rules().between("quantity", 0.0, 1e16));
+		for (Rules rules : failing)
+		{
+			Exception caughtException = null;
+			try
+			{
+				Assertions.validateFields(new MixedFieldHolder(), rules);
+			}
+			catch (Exception e)
+			{
+				caughtException = e;
+			}
+			if (!(caughtException instanceof IllegalStateException))
+				fail("Unexpected " + caughtException);
+		}
+
+		List<Runnable> invalid = Arrays.asList(
+			() -> Rules.rules().between("letter", 2, 1),
+			() -> Rules.rules().between("ratio", 2.0, 1.0),
+			() -> Rules.rules().between("ratio", Double.NaN, 1.0));
+		for (Runnable rules : invalid)
+		{
+			Exception caughtException = null;
+			try
+			{
+				rules.run();
+			}
+			catch (Exception e)
+			{
+				caughtException = e;
+			}
+			if (!(caughtException instanceof IllegalArgumentException))
+				fail("Unexpected " + caughtException);
+		}
+	}
+
+	@Test
+	public void validateFieldsFail()
+	{
+		Exception caughtException = null;
+		try
+		{
+			FieldHolder input = new FieldHolder();
+			input.name = "";
+			Assertions.validateFields(input, FIELD_HOLDER_RULES);
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected IllegalStateException");
+		if (!(caughtException instanceof IllegalStateException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"name\""))
+			fail("Did not get field name in exception message. Got \"" + caughtException.getMessage() + "\"");
+
+		caughtException = null;
+		try
+		{
+			FieldHolder input = new FieldHolder();
+			input.age = 151;
+			Assertions.validateFields(input, FIELD_HOLDER_RULES);
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected IllegalStateException");
+		if (!(caughtException instanceof IllegalStateException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"age\""))
+			fail("Did not get field name in exception message. Got \"" + caughtException.getMessage() + "\"");
+
+		caughtException = null;
+		try
+		{
+			FieldHolder input = new FieldHolder();
+			input.boxedCount = null;
+			Assertions.validateFields(input, FIELD_HOLDER_RULES);
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected NullPointerException");
+		if (!(caughtException instanceof NullPointerException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"boxedCount\""))
+			fail("Did not get field name in exception message. Got \"" + caughtException.getMessage() + "\"");
+
+		caughtException = null;
+		try
+		{
+			FieldHolder input = new FieldHolder();
+			input.ratio = 1.5;
+			Assertions.validateFields(input, FIELD_HOLDER_RULES);
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected IllegalStateException");
+		if (!(caughtException instanceof IllegalStateException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"ratio\""))
+			fail("Did not get field name in exception message. Got \"" + caughtException.getMessage() + "\"");
+
+		caughtException = null;
+		try
+		{
+			Assertions.validateFields(new FieldHolder(), Rules.rules().notNull("missing"));
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected IllegalArgumentException");
+		if (!(caughtException instanceof IllegalArgumentException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"missing\""))
+			fail("Did not get field name in exception message. Got \"" + caughtException.getMessage() + "\"");
+
+		caughtException = null;
+		try
+		{
+			Assertions.validateFields(new FieldHolder(), Rules.rules().notEmpty("age"));
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected IllegalArgumentException");
+		if (!(caughtException instanceof IllegalArgumentException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"age\""))
+			fail("Did not get field name in exception message. Got \"" + caughtException.getMessage() + "\"");
 	}
 }
\ No newline at end of file
@@ -0,0 +1,258 @@
+package com.zieglersoftware.assertions;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.junit.Test;
+
+public class CheckFailureTest
+{
+	@Test
+	public void messagesAreUnchanged()
+	{
+		assertMessage("Variable \"x\" cannot be null", () -> Assertions.notNull(null, "x"));
+		assertMessage("Variable \"x\" must be equal to b. Was a", () -> Assertions.equal("a", "b", "x"));
+		assertMessage("Variable \"x\" must be equal to b. Was null", () -> Assertions.equal(null, "b", "x"));
+		assertMessage("Variable \"x\" must not be equal to a", () -> Assertions.notEqual("a", "a", "x"));
+		assertMessage("Variable \"x\" must not be equal to the given reference value. Both are null", () -> Assertions.notEqual(null, null, "x"));
+		assertMessage("String \"x\" cannot be null", () -> Assertions.notEmpty((String) null, "x"));
+		assertMessage("String \"x\" cannot be empty", () -> Assertions.notEmpty("", "x"));
+		assertMessage("Variable \"x\" must be present", () -> Assertions.present(Optional.empty(), "x"));
+		assertMessage("Variable \"x\" must be equal to 2. Was 1", () -> Assertions.equal(1, 2, "x"));
+		assertMessage("Variable \"x\" must be equal to 2.5. Was 1.0", () -> Assertions.equal(1.0, 2.5, "x"));
+		assertMessage("Variable \"x\" must be equal to 2.50. Was 1.0", () -> Assertions.sameValue(new BigDecimal("1.0"), new BigDecimal("2.50"), "x"));
+		assertMessage("Variable \"x\" must not be equal to 1", () -> Assertions.notEqual(1, 1, "x"));
+		assertMessage("Variable \"x\" must be greater than 5. Was 3", () -> Assertions.greater(3, 5, "x"));
+		assertMessage("Variable \"x\" must not be greater than 5. Was 7", () -> Assertions.notGreater(7, 5, "x"));
+		assertMessage("Variable \"x\" must be less than 5. Was 7", () -> Assertions.less(7, 5, "x"));
+		assertMessage("Variable \"x\" must not be less than 5.0. Was 3.0", () -> Assertions.notLess(3.0, 5.0, "x"));
+		assertMessage("Variable \"x\" must be between 0 and 1, inclusive. Was 2", () -> Assertions.between(2, 0, 1, "x"));
+		assertMessage("Collection \"x\" cannot be null", () -> Assertions.allNotNull(null, "x"));
+		assertMessage("Collection \"x\" cannot be empty", () -> Assertions.notEmptyAllNotNull(Collections.emptyList(), "x"));
+		assertMessage("No element in collection \"x\" may be null", () -> Assertions.allNotNull(Arrays.asList("a", null), "x"));
+		assertMessage("No string in collection \"x\" may be null", () -> Assertions.notEmptyAllNotEmpty(Arrays.asList("a", null), "x"));
+		assertMessage("No string in collection \"x\" may be empty", () -> Assertions.notEmptyAllNotEmpty(Arrays.asList("a", ""), "x"));
+		assertMessage("List \"x\" cannot be empty", () -> Assertions.copyIfNotEmptyAllNotEmpty(Collections.<String> emptyList(), "x"));
+		assertMessage("No element in list \"x\" may be null", () -> Assertions.copyIfNotEmptyAllNotEmpty(Arrays.asList("a", null), "x"));
+		assertMessage("No string in list \"x\" may be empty", () -> Assertions.copyIfNotEmptyAllNotEmpty(Arrays.asList("a", ""), "x"));
+		assertMessage("Array \"x\" must be sorted. Element at index 2 was 1, after 2", () -> Assertions.sorted(new long[] { 1, 2, 1 }, "x"));
+	}
+
+	@Test
+	public void messageIsRenderedOnDemand()
+	{
+		CountingToString actual = new CountingToString();
+		CountingToString reference = new CountingToString();
+		CheckFailedException caughtException = null;
+		try
+		{
+			Assertions.equal(actual, reference, "x");
+		}
+		catch (CheckFailedException e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected CheckFailedException");
+		assertEquals(0, actual.count + reference.count);
+		assertEquals("Variable \"x\" must be equal to counted. Was counted", caughtException.getMessage());
+		assertSame(caughtException.getMessage(), caughtException.getMessage());
+		assertEquals(2, actual.count + reference.count);
+	}
+
+	@Test
+	public void accessors()
+	{
+		CheckFailure failure = (CheckFailure) thrown(() -> Assertions.between(2, 0, 1, "x"));
+		assertEquals(CheckKind.BETWEEN, failure.getCheckKind());
+		assertEquals("x", failure.getVariableName());
+		assertEquals(2L, failure.getActualValue());
+		assertArrayEquals(new Object[] { 0L, 1L }, failure.getReferenceValues());
+		assertEquals(-1, failure.getIndex());
+
+		failure = (CheckFailure) thrown(() -> Assertions.strictlyIncreasing(new long[] { 1, 1 }, "y"));
+		assertEquals(CheckKind.NOT_STRICTLY_INCREASING, failure.getCheckKind());
+		assertEquals(1, failure.getIndex());
+
+		failure = (CheckFailure) thrown(() -> Assertions.notNull(null, "z"));
+		assertTrue(failure instanceof NullPointerException);
+		assertEquals(CheckKind.NULL, failure.getCheckKind());
+		assertNull(failure.getActualValue());
+		assertEquals(0, failure.getReferenceValues().length);
+	}
+
+	@Test
+	public void serializationKeepsMessage() throws Exception
+	{
+		Object unserializable = new Object()
+		{
+			@Override
+			public String toString()
+			{
+				return "unserializable";
+			}
+		};
+		RuntimeException original = thrown(() -> Assertions.equal(unserializable, "b", "x"));
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes))
+		{
+			out.writeObject(original);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())))
+		{
+			CheckFailedException copy = (CheckFailedException) in.readObject();
+			assertEquals(original.getMessage(), copy.getMessage());
+			assertNull(copy.getCheckKind());
+			assertEquals(-1, copy.getIndex());
+		}
+	}
+
+	@Test
+	public void primitiveValuesAreRenderedUnboxed()
+	{
+		assertMessage("Variable \"x\" must be equal to NaN. Was NaN", () -> Assertions.equal(Double.NaN, Double.NaN, "x"));
+		assertMessage("Array \"x\" must not contain duplicates. Found duplicate " + Long.MIN_VALUE,
+			() -> Assertions.allDistinct(new long[] { Long.MIN_VALUE, Long.MIN_VALUE }, "x"));
+		assertMessage("Array \"x\" must be strictly increasing. Element at index 1 was -0.0, after 0.0",
+			() -> Assertions.strictlyIncreasing(new double[] { 0.0, -0.0 }, "x"));
+		CheckFailure failure = (CheckFailure) thrown(() -> Assertions.between(2.5, -0.5, 0.5, "x"));
+		assertEquals(2.5, failure.getActualValue());
+		assertArrayEquals(new Object[] { -0.5, 0.5 }, failure.getReferenceValues());
+		failure = (CheckFailure) thrown(() -> Assertions.allDistinct(new int[] { 7, 7 }, "x"));
+		assertEquals(7L, failure.getActualValue());
+		assertEquals(0, failure.getReferenceValues().length);
+	}
+
+	@Test
+	public void messageBuilderIsReusedAndBounded()
+	{
+		thrown(() -> Assertions.greater(1, 2, "x")).getMessage();
+		StringBuilder retained = MessageBuilders.retained();
+		assertNotNull(retained);
+		assertEquals(0, retained.length());
+		thrown(() -> Assertions.less(2, 1, "y")).getMessage();
+		assertSame(retained, MessageBuilders.retained());
+
+		char[] longName = new char[MessageBuilders.MAX_RETAINED_CAPACITY * 2];
+		Arrays.fill(longName, 'n');
+		String longMessage = thrown(() -> Assertions.notNull(null, new String(longName))).getMessage();
+		assertEquals(longName.length + "Variable \"\" cannot be null".length(), longMessage.length());
+		assertNull(MessageBuilders.retained());
+	}
+
+	@Test
+	public void nestedRenderingGetsItsOwnBuilder()
+	{
+		Object nested = new Object()
+		{
+			@Override
+			public String toString()
+			{
+				return thrown(() -> Assertions.greater(1, 2, "inner")).getMessage();
+			}
+		};
+		assertMessage("Variable \"outer\" must be equal to b. Was Variable \"inner\" must be greater than 2. Was 1",
+			() -> Assertions.equal(nested, "b", "outer"));
+	}
+
+	@Test
+	public void concurrentRendering() throws Exception
+	{
+		List<Thread> threads = new ArrayList<>();
+		Queue<String> errors = new ConcurrentLinkedQueue<>();
+		for (int t = 0; t < 8; t++)
+		{
+			int threadNumber = t;
+			threads.add(new Thread(() -> renderRepeatedly(threadNumber, errors)));
+		}
+		// Virtual threads exist only on newer JDKs, so they are created reflectively when available
+		Method ofVirtual = null;
+		try
+		{
+			ofVirtual = Thread.class.getMethod("ofVirtual");
+		}
+		catch (NoSuchMethodException e)
+		{
+		}
+		if (ofVirtual != null)
+		{
+			Object builder = ofVirtual.invoke(null);
+			Method unstarted = Class.forName("java.lang.Thread$Builder").getMethod("unstarted", Runnable.class);
+			for (int t = 8; t < 1000; t++)
+			{
+				int threadNumber = t;
+				threads.add((Thread) unstarted.invoke(builder, (Runnable) () -> renderRepeatedly(threadNumber, errors)));
+			}
+		}
+		for (Thread thread : threads)
+			thread.start();
+		for (Thread thread : threads)
+			thread.join();
+		assertEquals(Collections.emptyList(), new ArrayList<>(errors));
+	}
+
+	private static void renderRepeatedly(int threadNumber, Queue<String> errors)
+	{
+		for (int i = 0; i < 200; i++)
+		{
+			long val = threadNumber * 1000L + i;
+			long referenceVal = i;
+			String expected = "Variable \"t" + threadNumber + "\" must be less than " + referenceVal + ". Was " + val;
+			String actual = thrown(() -> Assertions.less(val, referenceVal, "t" + threadNumber)).getMessage();
+			if (!expected.equals(actual))
+				errors.add(actual);
+		}
+	}
+
+	private static final class CountingToString
+	{
+		int count;
+
+		@Override
+		public String toString()
+		{
+			count++;
+			return "counted";
+		}
+	}
+
+	private static void assertMessage(String expectedMessage, Runnable check)
+	{
+		assertEquals(expectedMessage, thrown(check).getMessage());
+	}
+
+	private static RuntimeException thrown(Runnable check)
+	{
+		try
+		{
+			check.run();
+		}
+		catch (RuntimeException e)
+		{
+			if (!(e instanceof CheckFailure))
+				fail("Unexpected " + e);
+			return e;
+		}
+		fail("Did not throw expected exception");
+		return null;
+	}
+}
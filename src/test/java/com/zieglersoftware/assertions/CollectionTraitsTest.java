@@ -0,0 +1,201 @@
+package com.zieglersoftware.assertions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Stack;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.Vector;
+import java.util.WeakHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class CollectionTraitsTest
+{
+	private static final List<String> ELEMENTS = Arrays.asList("b", "a", "c");
+
+	@Test
+	public void everyJdkCollectionIsCheckedCorrectly()
+	{
+		for (Collection<?> collection : jdkCollections())
+		{
+			String type = collection.getClass().getName();
+			boolean cannotContainNull = CollectionTraits.cannotContainNull(collection);
+			// Asking again must give the same answer, whether or not the spliterator is consulted
+			assertEquals(type, cannotContainNull, CollectionTraits.cannotContainNull(collection));
+			if (cannotContainNull && !collection.isEmpty())
+				assertRejectsNull(collection);
+			Assertions.allNotNull(collection, "x");
+		}
+	}
+
+	@Test
+	public void nullHostileCollectionsAreRecognized()
+	{
+		assertTrue(CollectionTraits.cannotContainNull(new ConcurrentLinkedQueue<>(ELEMENTS)));
+		assertTrue(CollectionTraits.cannotContainNull(new ConcurrentLinkedDeque<>(ELEMENTS)));
+		assertTrue(CollectionTraits.cannotContainNull(new ConcurrentHashMap<>(map()).keySet()));
+		assertTrue(CollectionTraits.cannotContainNull(new ConcurrentSkipListSet<>(ELEMENTS)));
+		assertTrue(CollectionTraits.cannotContainNull(new LinkedBlockingQueue<>(ELEMENTS)));
+		assertTrue(CollectionTraits.cannotContainNull(new ArrayDeque<>(ELEMENTS)));
+		assertTrue(CollectionTraits.cannotContainNull(new PriorityQueue<>(ELEMENTS)));
+		assertTrue(CollectionTraits.cannotContainNull(EnumSet.of(TimeUnit.SECONDS)));
+		assertTrue(CollectionTraits.cannotContainNull(Collections.emptyList()));
+		assertTrue(CollectionTraits.cannotContainNull(Collections.unmodifiableCollection(new ConcurrentLinkedQueue<>(ELEMENTS))));
+		assertTrue(CollectionTraits.cannotContainNull(Assertions.immutableCopyIfAllNotNull(ELEMENTS, "x")));
+
+		assertFalse(CollectionTraits.cannotContainNull(new ArrayList<>(ELEMENTS)));
+		assertFalse(CollectionTraits.cannotContainNull(new HashSet<>(ELEMENTS)));
+		assertFalse(CollectionTraits.cannotContainNull(new TreeSet<>(ELEMENTS)));
+		assertFalse(CollectionTraits.cannotContainNull(new CopyOnWriteArrayList<>(ELEMENTS)));
+		assertFalse(CollectionTraits.cannotContainNull(Collections.singletonList("a")));
+	}
+
+	@Test
+	public void equalsBasedSetsAreRecognized()
+	{
+		assertTrue(CollectionTraits.has(new HashSet<>(ELEMENTS), CollectionTraits.DISTINCT));
+		assertTrue(CollectionTraits.has(new LinkedHashSet<>(ELEMENTS), CollectionTraits.DISTINCT));
+		assertTrue(CollectionTraits.has(EnumSet.of(TimeUnit.SECONDS), CollectionTraits.DISTINCT));
+		assertTrue(CollectionTraits.has(new CopyOnWriteArraySet<>(ELEMENTS), CollectionTraits.DISTINCT));
+		assertTrue(CollectionTraits.has(new ConcurrentHashMap<>(map()).keySet(), CollectionTraits.DISTINCT));
+		assertTrue(CollectionTraits.has(Collections.singleton("a"), CollectionTraits.DISTINCT));
+		assertTrue(CollectionTraits.has(Assertions.immutableCopyIfAllNotNull(new HashSet<>(ELEMENTS), "x"), CollectionTraits.DISTINCT));
+
+		assertFalse(CollectionTraits.has(new TreeSet<>(ELEMENTS), CollectionTraits.DISTINCT));
+		assertFalse(CollectionTraits.has(new ConcurrentSkipListSet<>(ELEMENTS), CollectionTraits.DISTINCT));
+		assertFalse(CollectionTraits.has(Collections.newSetFromMap(new IdentityHashMap<>()), CollectionTraits.DISTINCT));
+		assertFalse(CollectionTraits.has(Collections.unmodifiableSet(new HashSet<>(ELEMENTS)), CollectionTraits.DISTINCT));
+		assertFalse(CollectionTraits.has(new ArrayList<>(ELEMENTS), CollectionTraits.DISTINCT));
+		assertFalse(CollectionTraits.has(Assertions.immutableCopyIfAllNotNull(ELEMENTS, "x"), CollectionTraits.DISTINCT));
+	}
+
+	@Test
+	public void nullsAreStillFound()
+	{
+		for (Collection<String> collection : Arrays.<Collection<String>> asList(new ArrayList<>(ELEMENTS), new LinkedList<>(ELEMENTS),
+			new HashSet<>(ELEMENTS), new CopyOnWriteArrayList<>(ELEMENTS), Collections.synchronizedList(new ArrayList<>(ELEMENTS))))
+		{
+			collection.add(null);
+			Exception caughtException = null;
+			try
+			{
+				Assertions.allNotNull(collection, "x");
+			}
+			catch (Exception e)
+			{
+				caughtException = e;
+			}
+			if (!(caughtException instanceof NullPointerException))
+				fail("Unexpected " + caughtException + " for " + collection.getClass().getName());
+		}
+	}
+
+	private static List<Collection<?>> jdkCollections()
+	{
+		List<Collection<?>> collections = new ArrayList<>();
+		collections.add(new ArrayList<>(ELEMENTS));
+		collections.add(new LinkedList<>(ELEMENTS));
+		collections.add(new Vector<>(ELEMENTS));
+		Stack<String> stack = new Stack<>();
+		stack.addAll(ELEMENTS);
+		collections.add(stack);
+		collections.add(new CopyOnWriteArrayList<>(ELEMENTS));
+		collections.add(ELEMENTS);
+		collections.add(ELEMENTS.subList(0, 2));
+		collections.add(new ArrayList<>(ELEMENTS).subList(0, 2));
+		collections.add(Collections.unmodifiableList(new ArrayList<>(ELEMENTS)));
+		collections.add(Collections.synchronizedList(new ArrayList<>(ELEMENTS)));
+		collections.add(Collections.checkedList(new ArrayList<>(ELEMENTS), String.class));
+		collections.add(Collections.singletonList("a"));
+		collections.add(Collections.singleton("a"));
+		collections.add(Collections.emptyList());
+		collections.add(Collections.emptySet());
+		collections.add(Collections.nCopies(3, "a"));
+		collections.add(new HashSet<>(ELEMENTS));
+		collections.add(new LinkedHashSet<>(ELEMENTS));
+		collections.add(new TreeSet<>(ELEMENTS));
+		collections.add(new TreeSet<>(ELEMENTS).descendingSet());
+		collections.add(EnumSet.allOf(TimeUnit.class));
+		collections.add(new CopyOnWriteArraySet<>(ELEMENTS));
+		collections.add(new ConcurrentSkipListSet<>(ELEMENTS));
+		collections.add(ConcurrentHashMap.newKeySet());
+		collections.add(new ConcurrentHashMap<>(map()).keySet());
+		collections.add(new ConcurrentHashMap<>(map()).values());
+		collections.add(new ConcurrentSkipListMap<>(map()).keySet());
+		collections.add(new ConcurrentSkipListMap<>(map()).values());
+		collections.add(new HashMap<>(map()).keySet());
+		collections.add(new HashMap<>(map()).values());
+		collections.add(new LinkedHashMap<>(map()).keySet());
+		collections.add(new TreeMap<>(map()).keySet());
+		collections.add(new IdentityHashMap<>(map()).keySet());
+		collections.add(new WeakHashMap<>(map()).keySet());
+		collections.add(Collections.newSetFromMap(new ConcurrentHashMap<>()));
+		collections.add(Collections.unmodifiableSet(new HashSet<>(ELEMENTS)));
+		collections.add(Collections.synchronizedSet(new HashSet<>(ELEMENTS)));
+		collections.add(Collections.unmodifiableCollection(new ConcurrentLinkedQueue<>(ELEMENTS)));
+		collections.add(new ArrayDeque<>(ELEMENTS));
+		collections.add(new PriorityQueue<>(ELEMENTS));
+		collections.add(new ConcurrentLinkedQueue<>(ELEMENTS));
+		collections.add(new ConcurrentLinkedDeque<>(ELEMENTS));
+		collections.add(new LinkedBlockingQueue<>(ELEMENTS));
+		collections.add(new LinkedBlockingDeque<>(ELEMENTS));
+		collections.add(new ArrayBlockingQueue<>(3, false, ELEMENTS));
+		collections.add(new PriorityBlockingQueue<>(ELEMENTS));
+		collections.add(new LinkedTransferQueue<>(ELEMENTS));
+		collections.add(new SynchronousQueue<>());
+		return collections;
+	}
+
+	private static HashMap<String, String> map()
+	{
+		HashMap<String, String> map = new HashMap<>();
+		for (String s : ELEMENTS)
+			map.put(s, s + s);
+		return map;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void assertRejectsNull(Collection<?> collection)
+	{
+		try
+		{
+			if (((Collection<Object>) collection).add(null))
+				fail(collection.getClass().getName() + " accepted null but was treated as unable to contain it");
+		}
+		catch (NullPointerException | UnsupportedOperationException e)
+		{
+		}
+	}
+}
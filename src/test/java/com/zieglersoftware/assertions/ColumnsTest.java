@@ -0,0 +1,225 @@
+package com.zieglersoftware.assertions;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class ColumnsTest
+{
+	private static final long[] INTERESTING_LONGS = { Long.MIN_VALUE, Long.MIN_VALUE + 1, -1, 0, 1, Long.MAX_VALUE - 1, Long.MAX_VALUE };
+
+	@Test
+	public void longBetweenMatchesAssertions()
+	{
+		Random random = new Random(30);
+		for (int rows : new int[] { 0, 1, 63, 64, 65, 1000 })
+		{
+			long[] column = randomLongs(random, rows);
+			for (long low : INTERESTING_LONGS)
+				for (long high : INTERESTING_LONGS)
+					if (low <= high)
+						assertArrayEquals(expected(column, low, high), Columns.between(column, low, high, "x"));
+			assertArrayEquals(expected(column, -100, 100), Columns.between(column, -100, 100, "x"));
+		}
+	}
+
+	@Test
+	public void doubleBetweenMatchesAssertions()
+	{
+		double[] column = { Double.NEGATIVE_INFINITY, -1, -0.0, 0.5, 1, 1.5, Double.NaN, Double.POSITIVE_INFINITY };
+		BitSet expected = new BitSet();
+		for (int i = 0; i < column.length; i++)
+		{
+			double val = column[i];
+			if (!passes(() -> Assertions.between(val, 0, 1, "x")))
+				expected.set(i);
+		}
+		assertArrayEquals(expected.toLongArray(), trim(Columns.between(column, 0, 1, "x")));
+	}
+
+	@Test
+	public void longGreaterMatchesAssertions()
+	{
+		Random random = new Random(31);
+		long[] column = randomLongs(random, 1000);
+		for (long referenceVal : INTERESTING_LONGS)
+		{
+			BitSet expected = new BitSet();
+			for (int i = 0; i < column.length; i++)
+			{
+				long val = column[i];
+				if (!passes(() -> Assertions.greater(val, referenceVal, "x")))
+					expected.set(i);
+			}
+			assertArrayEquals(expected.toLongArray(), trim(Columns.greater(column, referenceVal, "x")));
+		}
+	}
+
+	@Test
+	public void doubleGreater()
+	{
+		long[] failing = Columns.greater(new double[] { 2, 1, 0, Double.NaN }, 1, "x");
+		assertEquals(1, failing.length);
+		assertEquals(0b1110L, failing[0]);
+	}
+
+	@Test
+	public void notNullAndNotEmpty()
+	{
+		String[] column = new String[130];
+		for (int i = 0; i < column.length; i++)
+			column[i] = i % 3 == 0 ? null : i % 3 == 1 ? "" : "a";
+		long[] nulls = Columns.notNull(column, "x");
+		long[] empties = Columns.notEmpty(column, "x");
+		assertEquals(3, nulls.length);
+		for (int i = 0; i < column.length; i++)
+		{
+			assertEquals(column[i] == null, Columns.isSet(nulls, i));
+			assertEquals(column[i] == null || column[i].isEmpty(), Columns.isSet(empties, i));
+		}
+		assertEquals(44, Columns.cardinality(nulls));
+		assertEquals(87, Columns.cardinality(empties));
+	}
+
+	@Test
+	public void bitmapOperations()
+	{
+		long[] a = { 0b1010L, 1L << 63 };
+		long[] b = { 0b0110L, 1L };
+		assertArrayEquals(new long[] { 0b1110L, (1L << 63) | 1L }, Columns.or(a, b));
+		assertArrayEquals(new long[] { 0b0010L, 0 }, Columns.and(a, b));
+		assertEquals(1, Columns.nextSetBit(a, 0));
+		assertEquals(3, Columns.nextSetBit(a, 2));
+		assertEquals(127, Columns.nextSetBit(a, 4));
+		assertEquals(-1, Columns.nextSetBit(a, 128));
+		assertEquals(-1, Columns.nextSetBit(new long[] { 0, 0 }, 0));
+		assertTrue(Columns.isSet(a, 127));
+		assertFalse(Columns.isSet(a, 126));
+	}
+
+	@Test
+	public void invalidArgumentsFail()
+	{
+		Exception caughtException = null;
+		try
+		{
+			Columns.between((long[]) null, 0, 1, "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected NullPointerException");
+		if (!(caughtException instanceof NullPointerException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains("\"x\""))
+			fail("Did not get column name in exception message. Got \"" + caughtException.getMessage() + "\"");
+
+		caughtException = null;
+		try
+		{
+			Columns.between(new long[1], 1, 0, "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (!(caughtException instanceof IllegalArgumentException))
+			fail("Unexpected " + caughtException);
+
+		caughtException = null;
+		try
+		{
+			Columns.between(new double[1], 1, 0, "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (!(caughtException instanceof IllegalArgumentException))
+			fail("Unexpected " + caughtException);
+
+		caughtException = null;
+		try
+		{
+			Columns.between(new double[1], Double.NaN, 0, "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (!(caughtException instanceof IllegalArgumentException))
+			fail("Unexpected " + caughtException);
+
+		caughtException = null;
+		try
+		{
+			Columns.or(new long[1], new long[2]);
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (!(caughtException instanceof IllegalArgumentException))
+			fail("Unexpected " + caughtException);
+	}
+
+	private static long[] randomLongs(Random random, int rows)
+	{
+		long[] column = new long[rows];
+		for (int i = 0; i < rows; i++)
+		{
+			switch (random.nextInt(3))
+			{
+			case 0:
+				column[i] = INTERESTING_LONGS[random.nextInt(INTERESTING_LONGS.length)];
+				break;
+			case 1:
+				column[i] = random.nextInt(401) - 200;
+				break;
+			default:
+				column[i] = random.nextLong();
+			}
+		}
+		return column;
+	}
+
+	private static long[] expected(long[] column, long low, long high)
+	{
+		long[] expected = new long[(column.length + 63) / 64];
+		for (int i = 0; i < column.length; i++)
+		{
+			long val = column[i];
+			if (!passes(() -> Assertions.between(val, low, high, "x")))
+				expected[i / 64] |= 1L << i;
+		}
+		return expected;
+	}
+
+	// BitSet.toLongArray drops trailing zero words
+	private static long[] trim(long[] bitmap)
+	{
+		return BitSet.valueOf(bitmap).toLongArray();
+	}
+
+	private static boolean passes(Runnable check)
+	{
+		try
+		{
+			check.run();
+			return true;
+		}
+		catch (IllegalStateException e)
+		{
+			return false;
+		}
+	}
+}
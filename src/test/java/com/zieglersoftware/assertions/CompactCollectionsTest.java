@@ -0,0 +1,112 @@
+package com.zieglersoftware.assertions;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class CompactCollectionsTest
+{
+	@Test
+	public void listsMatchTheirElements()
+	{
+		for (int size = 0; size < 5; size++)
+		{
+			List<Integer> expected = new ArrayList<>();
+			for (int i = 0; i < size; i++)
+				expected.add(i);
+			List<Integer> list = CompactCollections.list(expected.toArray());
+			assertEquals(expected, list);
+			assertEquals(expected.hashCode(), list.hashCode());
+			assertArrayEquals(expected.toArray(), list.toArray());
+			assertUnsupported(() -> list.add(1));
+			if (size > 0)
+			{
+				assertUnsupported(() -> list.clear());
+				assertUnsupported(() -> list.set(0, 1));
+			}
+		}
+	}
+
+	@Test
+	public void setsMatchTheirElements()
+	{
+		for (int size = 0; size < 100; size++)
+		{
+			Set<String> expected = new HashSet<>();
+			for (int i = 0; i < size; i++)
+				expected.add("e" + i);
+			Set<String> set = CompactCollections.set(expected.toArray());
+			assertEquals(expected, set);
+			assertEquals(set, expected);
+			assertEquals(expected.hashCode(), set.hashCode());
+			assertEquals(size, set.size());
+			for (String s : expected)
+				assertTrue(set.contains(s));
+			assertFalse(set.contains("e" + size));
+			assertFalse(set.contains(null));
+			assertUnsupported(() -> set.add("x"));
+			if (size > 0)
+				assertUnsupported(() -> set.removeAll(expected));
+		}
+	}
+
+	@Test
+	public void setsSkipEqualElements()
+	{
+		assertEquals(1, CompactCollections.set(new Object[] { "a", new String("a") }).size());
+		Set<Object> set = CompactCollections.set(new Object[] { "a", "b", new String("a"), "c", "b" });
+		assertEquals(new HashSet<>(Arrays.asList("a", "b", "c")), set);
+		assertEquals(3, set.size());
+	}
+
+	@Test
+	public void iteratorsEnd()
+	{
+		for (int size : new int[] { 2, 5 })
+		{
+			Object[] elements = new Object[size];
+			for (int i = 0; i < size; i++)
+				elements[i] = i;
+			Iterator<Object> iterator = CompactCollections.set(elements).iterator();
+			for (int i = 0; i < size; i++)
+				iterator.next();
+			assertFalse(iterator.hasNext());
+			Exception caughtException = null;
+			try
+			{
+				iterator.next();
+			}
+			catch (Exception e)
+			{
+				caughtException = e;
+			}
+			if (!(caughtException instanceof NoSuchElementException))
+				fail("Unexpected " + caughtException);
+		}
+	}
+
+	private static void assertUnsupported(Runnable modification)
+	{
+		try
+		{
+			modification.run();
+		}
+		catch (UnsupportedOperationException e)
+		{
+			return;
+		}
+		fail("Did not throw expected UnsupportedOperationException");
+	}
+}
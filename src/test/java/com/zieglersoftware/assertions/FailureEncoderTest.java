@@ -0,0 +1,165 @@
+package com.zieglersoftware.assertions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class FailureEncoderTest
+{
+	@Test
+	public void json() throws IOException
+	{
+		assertJson("{\"check\":\"BETWEEN\",\"name\":\"x\",\"actual\":2,\"references\":[0,1],\"index\":-1}",
+			() -> Assertions.between(2, 0, 1, "x"));
+		assertJson("{\"check\":\"GREATER\",\"name\":\"x\",\"actual\":" + Long.MIN_VALUE + ",\"references\":[" + Long.MAX_VALUE + "],\"index\":-1}",
+			() -> Assertions.greater(Long.MIN_VALUE, Long.MAX_VALUE, "x"));
+		assertJson("{\"check\":\"EQUAL\",\"name\":\"x\",\"actual\":\"NaN\",\"references\":[1.5],\"index\":-1}",
+			() -> Assertions.equal(Double.NaN, 1.5, "x"));
+		assertJson("{\"check\":\"EQUAL\",\"name\":\"x\",\"actual\":1.0,\"references\":[2.50],\"index\":-1}",
+			() -> Assertions.sameValue(new BigDecimal("1.0"), new BigDecimal("2.50"), "x"));
+		assertJson("{\"check\":\"EQUAL\",\"name\":\"q\\\"\\\\\\n\\u0001\",\"actual\":\"a\\tb\",\"references\":[null],\"index\":-1}",
+			() -> Assertions.equal("a\tb", null, "q\"\\\n\u0001"));
+		assertJson("{\"check\":\"NULL\",\"name\":\"x\",\"actual\":null,\"references\":[],\"index\":-1}",
+			() -> Assertions.notNull(null, "x"));
+		assertJson("{\"check\":\"NULL_ELEMENT\",\"name\":\"x\",\"actual\":null,\"references\":[],\"index\":2}",
+			() -> Assertions.allNotNull(Arrays.asList("a", "b", null), "x"));
+		assertJson("{\"check\":\"NOT_SORTED\",\"name\":\"x\",\"actual\":1,\"references\":[2],\"index\":2}",
+			() -> Assertions.sorted(new long[] { 1, 2, 1 }, "x"));
+	}
+
+	@Test
+	public void elementIndexes()
+	{
+		assertEquals(1, ((CheckFailure) thrown(() -> Assertions.notEmptyAllNotEmpty(Arrays.asList("a", "", "b"), "x"))).getIndex());
+		assertEquals(0, ((CheckFailure) thrown(() -> Assertions.copyIfAllNotNull(Arrays.asList((String) null), "x"))).getIndex());
+		assertEquals(3, ((CheckFailure) thrown(() -> Assertions.allDistinct(new int[] { 1, 2, 3, 2 }, "x"))).getIndex());
+		assertEquals(2, ((CheckFailure) thrown(() -> Assertions.allDistinct(Arrays.asList("a", "b", "a"), "x"))).getIndex());
+		assertEquals(1, ((CheckFailure) thrown(() -> Assertions.sorted(Arrays.asList("a", null), "x"))).getIndex());
+	}
+
+	@Test
+	public void binary()
+	{
+		for (ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN })
+		{
+			ByteBuffer buffer = ByteBuffer.allocate(256).order(order);
+			buffer.put((byte) 42);
+			FailureEncoder.writeBinary((CheckFailure) thrown(() -> Assertions.between(2.5, 0, 1, "xé€😀")), buffer);
+			FailureEncoder.writeBinary((CheckFailure) thrown(() -> Assertions.notEmptyAllNotEmpty(Arrays.asList("a", null), "y")), buffer);
+			buffer.flip();
+			assertEquals(42, buffer.get());
+
+			int length = buffer.getInt();
+			int start = buffer.position();
+			assertEquals(FailureEncoder.BINARY_VERSION, buffer.get());
+			assertEquals(CheckKind.BETWEEN.ordinal(), buffer.get());
+			assertEquals("xé€😀", readString(buffer));
+			assertEquals(FailureEncoder.DOUBLE_TAG, buffer.get());
+			assertEquals(2.5, buffer.getDouble(), 0);
+			assertEquals(2, buffer.getInt());
+			assertEquals(FailureEncoder.DOUBLE_TAG, buffer.get());
+			assertEquals(0.0, buffer.getDouble(), 0);
+			assertEquals(FailureEncoder.DOUBLE_TAG, buffer.get());
+			assertEquals(1.0, buffer.getDouble(), 0);
+			assertEquals(-1, buffer.getInt());
+			assertEquals(length, buffer.position() - start);
+
+			length = buffer.getInt();
+			start = buffer.position();
+			assertEquals(FailureEncoder.BINARY_VERSION, buffer.get());
+			assertEquals(CheckKind.NULL_ELEMENT.ordinal(), buffer.get());
+			assertEquals("y", readString(buffer));
+			assertEquals(FailureEncoder.NULL_TAG, buffer.get());
+			assertEquals(0, buffer.getInt());
+			assertEquals(1, buffer.getInt());
+			assertEquals(length, buffer.position() - start);
+			assertEquals(0, buffer.remaining());
+		}
+	}
+
+	@Test
+	public void binaryOverflowRestoresPosition()
+	{
+		ByteBuffer buffer = ByteBuffer.allocate(20);
+		buffer.put((byte) 1);
+		Exception caughtException = null;
+		try
+		{
+			FailureEncoder.writeBinary((CheckFailure) thrown(() -> Assertions.equal("a long actual value", "b", "x")), buffer);
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (!(caughtException instanceof BufferOverflowException))
+			fail("Unexpected " + caughtException);
+		assertEquals(1, buffer.position());
+	}
+
+	@Test
+	public void deserializedFailure() throws Exception
+	{
+		RuntimeException original = thrown(() -> Assertions.equal(1, 2, "x"));
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes))
+		{
+			out.writeObject(original);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())))
+		{
+			CheckFailure copy = (CheckFailure) in.readObject();
+			assertEquals("{\"check\":null,\"name\":null,\"actual\":null,\"references\":[],\"index\":-1}",
+				FailureEncoder.writeJson(copy, new StringBuilder()).toString());
+			ByteBuffer buffer = FailureEncoder.writeBinary(copy, ByteBuffer.allocate(32));
+			buffer.flip();
+			assertEquals(15, buffer.getInt());
+			assertEquals(FailureEncoder.BINARY_VERSION, buffer.get());
+			assertEquals(-1, buffer.get());
+			assertEquals(null, readString(buffer));
+		}
+	}
+
+	private static String readString(ByteBuffer buffer)
+	{
+		int length = buffer.getInt();
+		if (length < 0)
+			return null;
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void assertJson(String expectedJson, Runnable check) throws IOException
+	{
+		assertEquals(expectedJson, FailureEncoder.writeJson((CheckFailure) thrown(check), new StringBuilder()).toString());
+	}
+
+	private static RuntimeException thrown(Runnable check)
+	{
+		try
+		{
+			check.run();
+		}
+		catch (RuntimeException e)
+		{
+			if (!(e instanceof CheckFailure))
+				fail("Unexpected " + e);
+			return e;
+		}
+		fail("Did not throw expected exception");
+		return null;
+	}
+}
@@ -0,0 +1,155 @@
+package com.zieglersoftware.assertions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class FailurePolicyTest
+{
+	@After
+	public void restoreDefault()
+	{
+		FailurePolicy.standard();
+	}
+
+	@Test
+	public void standardKeepsStackTraces()
+	{
+		for (int i = 0; i < 1000; i++)
+			assertTrue(hasStackTrace(failBetween("x")));
+	}
+
+	@Test
+	public void stormDropsStackTracesExceptForSamples()
+	{
+		FailurePolicy.adaptive(100, Duration.ofMinutes(1), 50);
+		int withStackTrace = 0;
+		for (int i = 1; i <= 1000; i++)
+		{
+			CheckFailedException e = failBetween("x");
+			assertEquals("Variable \"x\" must be between 1 and 9, inclusive. Was 10", e.getMessage());
+			assertEquals(10L, e.getActualValue());
+			if (i <= 100)
+				assertTrue(hasStackTrace(e));
+			if (hasStackTrace(e))
+				withStackTrace++;
+		}
+		// The first 100, then every 50th failure of the remaining 900
+		assertEquals(100 + 900 / 50, withStackTrace);
+		// Other names are not affected
+		assertTrue(hasStackTrace(failBetween("y")));
+	}
+
+	@Test
+	public void stormOfNullChecks()
+	{
+		FailurePolicy.adaptive(10, Duration.ofMinutes(1), Integer.MAX_VALUE);
+		for (int i = 1; i <= 100; i++)
+		{
+			NullCheckFailedException e = null;
+			try
+			{
+				Assertions.notNull(null, "x");
+			}
+			catch (NullCheckFailedException caught)
+			{
+				e = caught;
+			}
+			if (e == null)
+				fail("Did not throw expected NullCheckFailedException");
+			assertEquals("Variable \"x\" cannot be null", e.getMessage());
+			assertEquals(i <= 10, hasStackTrace(e));
+		}
+	}
+
+	@Test
+	public void stormSubsides() throws InterruptedException
+	{
+		FailurePolicy.adaptive(10, Duration.ofMillis(100), Integer.MAX_VALUE);
+		for (int i = 0; i < 100; i++)
+			failBetween("x");
+		assertTrue(!hasStackTrace(failBetween("x")));
+		Thread.sleep(250);
+		assertTrue(hasStackTrace(failBetween("x")));
+	}
+
+	@Test
+	public void concurrentStorm() throws InterruptedException
+	{
+		FailurePolicy.adaptive(1000, Duration.ofMinutes(1), 100);
+		Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+		List<Thread> threads = new ArrayList<>();
+		for (int t = 0; t < 8; t++)
+		{
+			threads.add(new Thread(() ->
+			{
+				try
+				{
+					for (int i = 0; i < 10_000; i++)
+						if (failBetween("x").getCheckKind() != CheckKind.BETWEEN)
+							errors.add(new AssertionError("Wrong check kind"));
+				}
+				catch (Throwable e)
+				{
+					errors.add(e);
+				}
+			}));
+		}
+		for (Thread thread : threads)
+			thread.start();
+		for (Thread thread : threads)
+			thread.join();
+		assertEquals(new ArrayList<Throwable>(), new ArrayList<>(errors));
+		// Still storming. At most one of two consecutive failures is sampled.
+		assertTrue(!hasStackTrace(failBetween("x")) || !hasStackTrace(failBetween("x")));
+	}
+
+	@Test
+	public void invalidSettings()
+	{
+		for (Runnable settings : new Runnable[] {
+			() -> FailurePolicy.adaptive(0, Duration.ofSeconds(1), 1),
+			() -> FailurePolicy.adaptive(1, Duration.ZERO, 1),
+			() -> FailurePolicy.adaptive(1, Duration.ofSeconds(1), 0) })
+		{
+			Exception caughtException = null;
+			try
+			{
+				settings.run();
+			}
+			catch (Exception e)
+			{
+				caughtException = e;
+			}
+			if (!(caughtException instanceof IllegalArgumentException))
+				fail("Unexpected " + caughtException);
+		}
+	}
+
+	private static CheckFailedException failBetween(String name)
+	{
+		try
+		{
+			Assertions.between(10, 1, 9, name);
+		}
+		catch (CheckFailedException e)
+		{
+			return e;
+		}
+		throw new AssertionError("Did not throw expected CheckFailedException");
+	}
+
+	private static boolean hasStackTrace(Throwable e)
+	{
+		return e.getStackTrace().length > 0;
+	}
+}
@@ -0,0 +1,104 @@
+package com.zieglersoftware.assertions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.Test;
+
+public class FastAssertionsTest
+{
+	@Test
+	public void everyMethodHasAnAssertionsCounterpart() throws Exception
+	{
+		for (Method method : FastAssertions.class.getDeclaredMethods())
+		{
+			if (!Modifier.isPublic(method.getModifiers()))
+				continue;
+			Method counterpart = Assertions.class.getMethod(method.getName(), method.getParameterTypes());
+			assertEquals(counterpart.toGenericString(),
+				method.toGenericString().replace(FastAssertions.class.getName(), Assertions.class.getName()));
+		}
+	}
+
+	@Test
+	public void passWithoutCheckingNames()
+	{
+		FastAssertions.notNull("x", null);
+		FastAssertions.tru(true, null);
+		FastAssertions.tru(true, null, (Object[]) null);
+		FastAssertions.fals(false, null);
+		FastAssertions.fals(false, null, (Object[]) null);
+		FastAssertions.notEmpty("x", null);
+		FastAssertions.notEmpty(Arrays.asList("x"), null);
+		assertEquals("x", FastAssertions.present(Optional.of("x"), null));
+		assertEquals(1, FastAssertions.equal(1, 1, null));
+		assertEquals(2.0, FastAssertions.greater(2.0, 1.0, null), 0);
+		assertEquals(5, FastAssertions.between(5, 1, 9, null));
+	}
+
+	@Test
+	public void failuresMatchAssertions()
+	{
+		assertSameFailure(() -> FastAssertions.notNull(null, "x"), () -> Assertions.notNull(null, "x"));
+		assertSameFailure(() -> FastAssertions.tru(false, "x %s", "y"), () -> Assertions.tru(false, "x %s", "y"));
+		assertSameFailure(() -> FastAssertions.tru(false, "x %d", "y"), () -> Assertions.tru(false, "x %d", "y"));
+		assertSameFailure(() -> FastAssertions.tru(false, "x"), () -> Assertions.tru(false, "x"));
+		assertSameFailure(() -> FastAssertions.fals(true, "x %s", "y"), () -> Assertions.fals(true, "x %s", "y"));
+		assertSameFailure(() -> FastAssertions.fals(true, "x"), () -> Assertions.fals(true, "x"));
+		assertSameFailure(() -> FastAssertions.notEmpty((String) null, "x"), () -> Assertions.notEmpty((String) null, "x"));
+		assertSameFailure(() -> FastAssertions.notEmpty("", "x"), () -> Assertions.notEmpty("", "x"));
+		assertSameFailure(() -> FastAssertions.notEmpty(new ArrayList<>(), "x"), () -> Assertions.notEmpty(new ArrayList<>(), "x"));
+		assertSameFailure(() -> FastAssertions.present(Optional.empty(), "x"), () -> Assertions.present(Optional.empty(), "x"));
+		assertSameFailure(() -> FastAssertions.equal(1, 2, "x"), () -> Assertions.equal(1, 2, "x"));
+		assertSameFailure(() -> FastAssertions.equal(1.5, 2.5, "x"), () -> Assertions.equal(1.5, 2.5, "x"));
+		assertSameFailure(() -> FastAssertions.notEqual(1, 1, "x"), () -> Assertions.notEqual(1, 1, "x"));
+		assertSameFailure(() -> FastAssertions.notEqual(1.5, 1.5, "x"), () -> Assertions.notEqual(1.5, 1.5, "x"));
+		assertSameFailure(() -> FastAssertions.greater(1, 1, "x"), () -> Assertions.greater(1, 1, "x"));
+		assertSameFailure(() -> FastAssertions.greater(1.5, 1.5, "x"), () -> Assertions.greater(1.5, 1.5, "x"));
+		assertSameFailure(() -> FastAssertions.notGreater(2, 1, "x"), () -> Assertions.notGreater(2, 1, "x"));
+		assertSameFailure(() -> FastAssertions.notGreater(2.5, 1.5, "x"), () -> Assertions.notGreater(2.5, 1.5, "x"));
+		assertSameFailure(() -> FastAssertions.less(1, 1, "x"), () -> Assertions.less(1, 1, "x"));
+		assertSameFailure(() -> FastAssertions.less(1.5, 1.5, "x"), () -> Assertions.less(1.5, 1.5, "x"));
+		assertSameFailure(() -> FastAssertions.notLess(1, 2, "x"), () -> Assertions.notLess(1, 2, "x"));
+		assertSameFailure(() -> FastAssertions.notLess(1.5, 2.5, "x"), () -> Assertions.notLess(1.5, 2.5, "x"));
+		assertSameFailure(() -> FastAssertions.between(0, 1, 9, "x"), () -> Assertions.between(0, 1, 9, "x"));
+		assertSameFailure(() -> FastAssertions.between(9.5, 1.5, 9, "x"), () -> Assertions.between(9.5, 1.5, 9, "x"));
+	}
+
+	private static void assertSameFailure(Runnable fast, Runnable reference)
+	{
+		Exception fastException = caught(fast);
+		Exception referenceException = caught(reference);
+		if (fastException == null || referenceException == null)
+			fail("Did not throw expected exception");
+		assertEquals(referenceException.getClass(), fastException.getClass());
+		assertEquals(referenceException.getMessage(), fastException.getMessage());
+		if (referenceException instanceof CheckFailure)
+		{
+			CheckFailure fastFailure = (CheckFailure) fastException;
+			CheckFailure referenceFailure = (CheckFailure) referenceException;
+			assertEquals(referenceFailure.getCheckKind(), fastFailure.getCheckKind());
+			assertEquals(referenceFailure.getActualValue(), fastFailure.getActualValue());
+			assertEquals(Arrays.asList(referenceFailure.getReferenceValues()), Arrays.asList(fastFailure.getReferenceValues()));
+		}
+	}
+
+	private static Exception caught(Runnable runnable)
+	{
+		try
+		{
+			runnable.run();
+		}
+		catch (Exception e)
+		{
+			return e;
+		}
+		return null;
+	}
+}
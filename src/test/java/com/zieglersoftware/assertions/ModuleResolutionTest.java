@@ -0,0 +1,105 @@
+package com.zieglersoftware.assertions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.module.Configuration;
+import java.lang.module.ModuleFinder;
+import java.lang.module.ModuleReference;
+import java.lang.module.ResolvedModule;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Resolves the module as it is loaded from the multi-release jar, with nothing but {@code java.base} available, as in a minimal image
+ * built with jlink or run with {@code --limit-modules java.base}.
+ */
+public class ModuleResolutionTest
+{
+	private static final String MODULE_NAME = "com.zieglersoftware.assertions";
+
+	private Path exploded;
+
+	// Lays out the Java 9 view of the jar: the base classes, overlaid with META-INF/versions/9
+	@Before
+	public void explode() throws Exception
+	{
+		Path classes = new File(Assertions.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toPath();
+		Path versions = classes.resolve("META-INF/versions");
+		exploded = Files.createTempDirectory("assertions-module");
+		copy(classes, exploded, versions);
+		copy(versions.resolve("9"), exploded, null);
+	}
+
+	@After
+	public void delete() throws IOException
+	{
+		try (Stream<Path> paths = Files.walk(exploded))
+		{
+			for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList()))
+				Files.delete(path);
+		}
+	}
+
+	@Test
+	public void resolvesWithJavaBaseOnly()
+	{
+		ModuleFinder javaBaseOnly = new ModuleFinder()
+		{
+			@Override
+			public Optional<ModuleReference> find(String name)
+			{
+				return name.equals("java.base") ? ModuleFinder.ofSystem().find(name) : Optional.empty();
+			}
+
+			@Override
+			public Set<ModuleReference> findAll()
+			{
+				return Collections.singleton(ModuleFinder.ofSystem().find("java.base").get());
+			}
+		};
+		ModuleFinder finder = ModuleFinder.compose(ModuleFinder.of(exploded), javaBaseOnly);
+		Configuration configuration = Configuration.empty().resolveAndBind(finder, ModuleFinder.of(), Collections.singleton(MODULE_NAME));
+
+		Set<String> resolved = new HashSet<>();
+		for (ResolvedModule module : configuration.modules())
+			resolved.add(module.name());
+		assertEquals(new HashSet<>(Arrays.asList(MODULE_NAME, "java.base")), resolved);
+		Set<String> exports = configuration.findModule(MODULE_NAME).get().reference().descriptor().exports().stream()
+			.map(e -> e.source()).collect(Collectors.toSet());
+		assertTrue(exports.contains("com.zieglersoftware.assertions"));
+		assertTrue(exports.contains("com.zieglersoftware.assertions.annotations"));
+	}
+
+	private static void copy(Path from, Path to, Path skipped) throws IOException
+	{
+		try (Stream<Path> paths = Files.walk(from))
+		{
+			for (Path path : paths.collect(Collectors.toList()))
+			{
+				if (skipped != null && path.startsWith(skipped))
+					continue;
+				Path target = to.resolve(from.relativize(path).toString());
+				if (Files.isDirectory(path))
+					Files.createDirectories(target);
+				else
+					Files.copy(path, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+	}
+}
@@ -0,0 +1,160 @@
+package com.zieglersoftware.assertions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class RangesTest
+{
+	private static final long[] LONGS = { Long.MIN_VALUE, Long.MIN_VALUE + 1, -10, -1, 0, 1, 9, 10, 11, Long.MAX_VALUE - 1, Long.MAX_VALUE };
+	private static final double[] DOUBLES = { Double.NEGATIVE_INFINITY, -Double.MAX_VALUE, -1.5, -0.0, 0.0, Double.MIN_VALUE, 1.5, 2.5,
+		Double.MAX_VALUE, Double.POSITIVE_INFINITY, Double.NaN };
+
+	@Test
+	public void longRangeMatchesBetween()
+	{
+		for (long low : LONGS)
+			for (long high : LONGS)
+			{
+				if (low > high)
+					continue;
+				LongRange range = LongRange.of(low, high);
+				for (long val : LONGS)
+				{
+					Exception expected = caught(() -> Assertions.between(val, low, high, "x"));
+					Exception actual = caught(() -> range.check(val, "x"));
+					assertSameOutcome(expected, actual);
+					assertEquals(expected == null, range.contains(val));
+				}
+			}
+	}
+
+	@Test
+	public void doubleRangeMatchesBetween()
+	{
+		for (double low : DOUBLES)
+			for (double high : DOUBLES)
+			{
+				if (Double.isNaN(low) || Double.isNaN(high) || low > high)
+					continue;
+				DoubleRange range = DoubleRange.of(low, high);
+				for (double val : DOUBLES)
+				{
+					Exception expected = caught(() -> Assertions.between(val, low, high, "x"));
+					Exception actual = caught(() -> range.check(val, "x"));
+					assertSameOutcome(expected, actual);
+					assertEquals(expected == null, range.contains(val));
+				}
+			}
+	}
+
+	@Test
+	public void decimalRangeMatchesBetween()
+	{
+		BigDecimal[] decimals = { new BigDecimal("-1E+3"), new BigDecimal("-1.50"), new BigDecimal("0"), new BigDecimal("0.000"),
+			new BigDecimal("1.5"), new BigDecimal("1.50"), new BigDecimal("1.5000001"), new BigDecimal("99999999999999999999.99") };
+		for (BigDecimal low : decimals)
+			for (BigDecimal high : decimals)
+			{
+				if (low.compareTo(high) > 0)
+					continue;
+				DecimalRange range = DecimalRange.of(low, high);
+				for (BigDecimal val : decimals)
+				{
+					Exception expected = caught(() -> Assertions.between(val, low, high, "x"));
+					Exception actual = caught(() -> range.check(val, "x"));
+					assertSameOutcome(expected, actual);
+					assertEquals(expected == null, range.contains(val));
+				}
+			}
+		assertEquals("[1.5, 2.50]", DecimalRange.of(new BigDecimal("1.5"), new BigDecimal("2.50")).toString());
+	}
+
+	@Test
+	public void decimalRangeNullValue()
+	{
+		Exception caughtException = caught(() -> DecimalRange.of(BigDecimal.ZERO, BigDecimal.ONE).check(null, "x"));
+		if (!(caughtException instanceof NullPointerException) || !caughtException.getMessage().contains("\"x\""))
+			fail("Unexpected " + caughtException);
+	}
+
+	@Test
+	public void invalidBounds()
+	{
+		for (Runnable construction : Arrays.<Runnable> asList(
+			() -> LongRange.of(2, 1),
+			() -> DoubleRange.of(2, 1),
+			() -> DoubleRange.of(Double.NaN, 1),
+			() -> DecimalRange.of(BigDecimal.ONE, BigDecimal.ZERO)))
+		{
+			Exception caughtException = caught(construction);
+			if (!(caughtException instanceof IllegalArgumentException))
+				fail("Unexpected " + caughtException);
+		}
+	}
+
+	@Test
+	public void bulkCheckSucceed()
+	{
+		long[] longs = { 1, 5, 9 };
+		assertSame(longs, LongRange.of(1, 9).check(longs, "x"));
+		double[] doubles = { 1, 5, 9 };
+		assertSame(doubles, DoubleRange.of(1, 9).check(doubles, "x"));
+	}
+
+	@Test
+	public void bulkCheckFail()
+	{
+		String expectedExceptionMessage = "Array \"x\" must only contain values between 1 and 9, inclusive. Element at index 2 was 10";
+		Exception caughtException = caught(() -> LongRange.of(1, 9).check(new long[] { 1, 5, 10, 0 }, "x"));
+		if (!(caughtException instanceof CheckFailedException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().equals(expectedExceptionMessage))
+			fail("Expected exception message \"" + expectedExceptionMessage + "\". Got \"" + caughtException.getMessage() + "\"");
+		assertEquals(2, ((CheckFailedException) caughtException).getIndex());
+		assertEquals(10L, ((CheckFailedException) caughtException).getActualValue());
+
+		expectedExceptionMessage = "Array \"x\" must only contain values between 1.0 and 9.0, inclusive. Element at index 0 was 0.5";
+		caughtException = caught(() -> DoubleRange.of(1, 9).check(new double[] { 0.5 }, "x"));
+		if (!(caughtException instanceof CheckFailedException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().equals(expectedExceptionMessage))
+			fail("Expected exception message \"" + expectedExceptionMessage + "\". Got \"" + caughtException.getMessage() + "\"");
+
+		caughtException = caught(() -> LongRange.of(1, 9).check((long[]) null, "x"));
+		if (!(caughtException instanceof NullPointerException))
+			fail("Unexpected " + caughtException);
+	}
+
+	private static void assertSameOutcome(Exception expected, Exception actual)
+	{
+		if (expected == null)
+		{
+			if (actual != null)
+				fail("Unexpected " + actual);
+			return;
+		}
+		if (actual == null)
+			fail("Did not throw expected " + expected);
+		assertEquals(expected.getClass(), actual.getClass());
+		assertEquals(expected.getMessage(), actual.getMessage());
+	}
+
+	private static Exception caught(Runnable runnable)
+	{
+		try
+		{
+			runnable.run();
+		}
+		catch (Exception e)
+		{
+			return e;
+		}
+		return null;
+	}
+}
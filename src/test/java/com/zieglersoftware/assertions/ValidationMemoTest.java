@@ -0,0 +1,161 @@
+package com.zieglersoftware.assertions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.junit.Test;
+
+public class ValidationMemoTest
+{
+	@Test
+	public void immutableCollectionsAreRemembered()
+	{
+		ValidationMemo memo = ValidationMemo.withCapacity(16);
+		List<String> list = Assertions.immutableCopyIfAllNotNull(Arrays.asList("a", "b", "c"), "x");
+		assertSame(list, memo.notEmptyAllNotEmpty(list, "x"));
+		assertEquals(0, memo.hitCount());
+		assertEquals(1, memo.missCount());
+		// A stricter check that passed answers the weaker ones
+		memo.notEmptyAllNotEmpty(list, "x");
+		memo.notEmptyAllNotNull(list, "x");
+		memo.allNotNull(list, "x");
+		assertEquals(3, memo.hitCount());
+		assertEquals(1, memo.missCount());
+	}
+
+	@Test
+	public void weakerChecksDoNotAnswerStricterOnes()
+	{
+		ValidationMemo memo = ValidationMemo.withCapacity(16);
+		List<String> list = Assertions.immutableCopyIfAllNotNull(Arrays.asList("a", ""), "x");
+		memo.allNotNull(list, "x");
+		memo.allNotNull(list, "x");
+		assertEquals(1, memo.hitCount());
+		Exception caughtException = null;
+		try
+		{
+			memo.notEmptyAllNotEmpty(list, "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected IllegalStateException");
+		if (!(caughtException instanceof IllegalStateException))
+			fail("Unexpected " + caughtException);
+		// Failures are not remembered, so the check fails again
+		caughtException = null;
+		try
+		{
+			memo.notEmptyAllNotEmpty(list, "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (!(caughtException instanceof IllegalStateException))
+			fail("Unexpected " + caughtException);
+	}
+
+	@Test
+	public void mutableCollectionsAreNotRemembered()
+	{
+		ValidationMemo memo = ValidationMemo.withCapacity(16);
+		List<String> list = new ArrayList<>(Arrays.asList("a"));
+		memo.notEmptyAllNotNull(list, "x");
+		list.add(null);
+		Exception caughtException = null;
+		try
+		{
+			memo.notEmptyAllNotNull(list, "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (!(caughtException instanceof NullPointerException))
+			fail("Unexpected " + caughtException);
+		assertEquals(0, memo.hitCount());
+		assertEquals(2, memo.missCount());
+	}
+
+	@Test
+	public void nullAndInvalidArgumentsFail()
+	{
+		ValidationMemo memo = ValidationMemo.withCapacity(1);
+		Exception caughtException = null;
+		try
+		{
+			memo.allNotNull(null, "x");
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (!(caughtException instanceof NullPointerException) || !caughtException.getMessage().contains("\"x\""))
+			fail("Unexpected " + caughtException);
+
+		caughtException = null;
+		try
+		{
+			ValidationMemo.withCapacity(0);
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (!(caughtException instanceof IllegalArgumentException))
+			fail("Unexpected " + caughtException);
+	}
+
+	@Test
+	public void concurrentUse() throws Exception
+	{
+		ValidationMemo memo = ValidationMemo.withCapacity(64);
+		List<List<String>> lists = new ArrayList<>();
+		for (int i = 0; i < 32; i++)
+			lists.add(Assertions.immutableCopyIfAllNotNull(Arrays.asList("a" + i, "b" + i, "c" + i), "x"));
+		List<String> invalid = Assertions.immutableCopyIfAllNotNull(Arrays.asList("a", ""), "x");
+		Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+		List<Thread> threads = new ArrayList<>();
+		for (int t = 0; t < 16; t++)
+		{
+			threads.add(new Thread(() ->
+			{
+				try
+				{
+					for (int i = 0; i < 10_000; i++)
+					{
+						memo.notEmptyAllNotEmpty(lists.get(i % lists.size()), "x");
+						try
+						{
+							memo.notEmptyAllNotEmpty(invalid, "invalid");
+							errors.add(new AssertionError("Invalid list passed"));
+						}
+						catch (IllegalStateException e)
+						{
+						}
+					}
+				}
+				catch (Throwable e)
+				{
+					errors.add(e);
+				}
+			}));
+		}
+		for (Thread thread : threads)
+			thread.start();
+		for (Thread thread : threads)
+			thread.join();
+		assertEquals(new ArrayList<Throwable>(), new ArrayList<>(errors));
+		assertEquals(16 * 10_000 * 2, memo.hitCount() + memo.missCount());
+	}
+}
@@ -0,0 +1,102 @@
+package com.zieglersoftware.assertions.callers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.function.Supplier;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.zieglersoftware.assertions.Assertions;
+import com.zieglersoftware.assertions.CheckFailedException;
+import com.zieglersoftware.assertions.FailurePolicy;
+import com.zieglersoftware.assertions.NullCheckFailedException;
+
+/**
+ * In its own package, since frames in the package of the library are not callers.
+ */
+public class CallerCaptureTest
+{
+	@After
+	public void restoreDefault()
+	{
+		FailurePolicy.standard();
+	}
+
+	@Test
+	public void callerOnly()
+	{
+		FailurePolicy.callerOnly();
+		StackTraceElement[] stackTrace = new Probe().get();
+		assertCaller(stackTrace);
+
+		NullCheckFailedException caught = null;
+		try
+		{
+			Assertions.notNull(null, "x");
+		}
+		catch (NullCheckFailedException e)
+		{
+			caught = e;
+		}
+		assertEquals("Variable \"x\" cannot be null", caught.getMessage());
+		assertEquals(1, caught.getStackTrace().length);
+		assertEquals(CallerCaptureTest.class.getName(), caught.getStackTrace()[0].getClassName());
+		assertEquals("callerOnly", caught.getStackTrace()[0].getMethodName());
+	}
+
+	@Test
+	public void standardKeepsFullStackTrace()
+	{
+		assertTrue(new Probe().get().length > 1);
+	}
+
+	// Runs the multi-release version of the library, as it would be loaded from the jar, in a class loader of its own
+	@Test
+	@SuppressWarnings("unchecked")
+	public void callerOnlyWithStackWalker() throws Exception
+	{
+		File classes = new File(Assertions.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+		File versions = new File(classes, "META-INF/versions/9");
+		File testClasses = new File(CallerCaptureTest.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+		URL[] urls = { versions.toURI().toURL(), classes.toURI().toURL(), testClasses.toURI().toURL() };
+		try (URLClassLoader loader = new URLClassLoader(urls, null))
+		{
+			Class<?> callerCapture = loader.loadClass("com.zieglersoftware.assertions.CallerCapture");
+			assertTrue(callerCapture.getProtectionDomain().getCodeSource().getLocation().toString().contains("versions/9"));
+			Class<?> policy = loader.loadClass(FailurePolicy.class.getName());
+			policy.getMethod("callerOnly").invoke(null);
+			assertCaller(((Supplier<StackTraceElement[]>) loader.loadClass(Probe.class.getName()).getDeclaredConstructor().newInstance()).get());
+		}
+	}
+
+	private static void assertCaller(StackTraceElement[] stackTrace)
+	{
+		assertEquals(1, stackTrace.length);
+		assertEquals(Probe.class.getName(), stackTrace[0].getClassName());
+		assertEquals("get", stackTrace[0].getMethodName());
+		assertTrue(stackTrace[0].getLineNumber() > 0);
+	}
+
+	// Does not refer to JUnit, so that it can be loaded by the class loader of the multi-release test
+	public static final class Probe implements Supplier<StackTraceElement[]>
+	{
+		@Override
+		public StackTraceElement[] get()
+		{
+			try
+			{
+				Assertions.between(10, 1, 9, "x");
+			}
+			catch (CheckFailedException e)
+			{
+				return e.getStackTrace();
+			}
+			throw new AssertionError("Did not throw expected CheckFailedException");
+		}
+	}
+}
@@ -0,0 +1,210 @@
+package com.zieglersoftware.assertions.processor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.Test;
+
+import com.zieglersoftware.assertions.Assertions;
+
+public class ParameterCheckProcessorTest
+{
+	private static final String PERSON_SOURCE =
+		"package sample;\n" +
+			"import com.zieglersoftware.assertions.annotations.*;\n" +
+			"import java.math.BigDecimal;\n" +
+			"import java.util.List;\n" +
+			"public class Person\n" +
+			"{\n" +
+			"	public Person(@NotEmpty String name, @Between(low = \"0\", high = \"150\") int age, @AllNotNull List<String> tags,\n" +
+			"		@NotNull @Between(low = \"0.00\", high = \"100.00\") BigDecimal score)\n" +
+			"	{\n" +
+			"		PersonChecks.checkConstructor(name, age, tags, score);\n" +
+			"	}\n" +
+			"	public static void rename(Object unchecked, @NotNull String name)\n" +
+			"	{\n" +
+			"		PersonChecks.checkRename(unchecked, name);\n" +
+			"	}\n" +
+			"}\n";
+
+	@Test
+	public void generatedChecksSucceed() throws Exception
+	{
+		Exception caughtException = null;
+		try (URLClassLoader loader = compile("Person", PERSON_SOURCE))
+		{
+			Class<?> person = loader.loadClass("sample.Person");
+			person.getConstructor(String.class, int.class, List.class, BigDecimal.class)
+				.newInstance("a", 150, Arrays.asList("t"), new BigDecimal("99.99"));
+			person.getMethod("rename", Object.class, String.class).invoke(null, null, "a");
+		}
+		catch (Exception e)
+		{
+			e.printStackTrace();
+			caughtException = e;
+		}
+		if (caughtException != null)
+			fail("Unexpected " + caughtException);
+	}
+
+	@Test
+	public void generatedChecksFail() throws Exception
+	{
+		try (URLClassLoader loader = compile("Person", PERSON_SOURCE))
+		{
+			Class<?> person = loader.loadClass("sample.Person");
+			assertFailure(IllegalStateException.class, "\"name\"", () -> person.getConstructor(String.class, int.class, List.class, BigDecimal.class)
+				.newInstance("", 1, Collections.emptyList(), BigDecimal.ONE));
+			assertFailure(IllegalStateException.class, "\"age\"", () -> person.getConstructor(String.class, int.class, List.class, BigDecimal.class)
+				.newInstance("a", 151, Collections.emptyList(), BigDecimal.ONE));
+			assertFailure(NullPointerException.class, "\"tags\"", () -> person.getConstructor(String.class, int.class, List.class, BigDecimal.class)
+				.newInstance("a", 1, Arrays.asList("t", null), BigDecimal.ONE));
+			assertFailure(NullPointerException.class, "\"score\"", () -> person.getConstructor(String.class, int.class, List.class, BigDecimal.class)
+				.newInstance("a", 1, Collections.emptyList(), null));
+			assertFailure(IllegalStateException.class, "\"score\"", () -> person.getConstructor(String.class, int.class, List.class, BigDecimal.class)
+				.newInstance("a", 1, Collections.emptyList(), new BigDecimal("100.01")));
+			assertFailure(NullPointerException.class, "\"name\"", () -> person.getMethod("rename", Object.class, String.class)
+				.invoke(null, null, null));
+		}
+	}
+
+	@Test
+	public void floatBoundsMatchFloatArguments() throws Exception
+	{
+		String source =
+			"package sample;\n" +
+				"import com.zieglersoftware.assertions.annotations.*;\n" +
+				"public class Ratio\n" +
+				"{\n" +
+				"	public static void set(@Between(low = \"0\", high = \"0.2\") float x, @Between(low = \"-0.1\", high = \"0.1\") Float y)\n" +
+				"	{\n" +
+				"		RatioChecks.checkSet(x, y);\n" +
+				"	}\n" +
+				"}\n";
+		try (URLClassLoader loader = compile("Ratio", source))
+		{
+			Class<?> ratio = loader.loadClass("sample.Ratio");
+			ratio.getMethod("set", float.class, Float.class).invoke(null, 0.2f, -0.1f);
+			assertFailure(IllegalStateException.class, "\"x\"", () -> ratio.getMethod("set", float.class, Float.class)
+				.invoke(null, Math.nextUp(0.2f), 0f));
+			assertFailure(IllegalStateException.class, "\"y\"", () -> ratio.getMethod("set", float.class, Float.class)
+				.invoke(null, 0f, Math.nextUp(0.1f)));
+		}
+	}
+
+	@Test
+	public void invalidAnnotationsFail() throws Exception
+	{
+		String source =
+			"package sample;\n" +
+				"import com.zieglersoftware.assertions.annotations.*;\n" +
+				"public class Invalid\n" +
+				"{\n" +
+				"	public Invalid(@NotNull int a, @NotEmpty Object b, @Between(low = \"2\", high = \"1\") long c, @Between(low = \"x\", high = \"1\") double d,\n" +
+				"		@Between(low = \"0\", high = \"10000000000\") int e, @Between(low = \"-129\", high = \"0\") Byte f,\n" +
+				"		@Between(low = \"0\", high = \"1e300\") float g, @Between(low = \"0\", high = \"1e400\") double h)\n" +
+				"	{\n" +
+				"	}\n" +
+				"}\n";
+		StringWriter diagnostics = new StringWriter();
+		assertFalse("Compilation should have failed", tryCompile("Invalid", source, diagnostics).success);
+		String output = diagnostics.toString();
+		assertTrue(output, output.contains("@NotNull cannot be applied to primitive parameter \"a\""));
+		assertTrue(output, output.contains("@NotEmpty can only be applied to String or Collection parameters, not \"b\""));
+		assertTrue(output, output.contains("@Between low bound must not be greater than high bound on \"c\""));
+		assertTrue(output, output.contains("are not valid for \"d\""));
+		assertTrue(output, output.contains("do not fit the int parameter \"e\""));
+		assertTrue(output, output.contains("do not fit the byte parameter \"f\""));
+		assertTrue(output, output.contains("do not fit the float parameter \"g\""));
+		assertTrue(output, output.contains("@Between bounds must be finite on \"h\""));
+	}
+
+	private interface Call
+	{
+		void call() throws Exception;
+	}
+
+	private static void assertFailure(Class<? extends Exception> expectedType, String expectedMessagePart, Call call)
+	{
+		Throwable caughtException = null;
+		try
+		{
+			call.call();
+		}
+		catch (InvocationTargetException e)
+		{
+			caughtException = e.getCause();
+		}
+		catch (Exception e)
+		{
+			caughtException = e;
+		}
+		if (caughtException == null)
+			fail("Did not throw expected " + expectedType.getSimpleName());
+		if (!expectedType.isInstance(caughtException))
+			fail("Unexpected " + caughtException);
+		if (!caughtException.getMessage().contains(expectedMessagePart))
+			fail("Did not get " + expectedMessagePart + " in exception message. Got \"" + caughtException.getMessage() + "\"");
+	}
+
+	private static URLClassLoader compile(String className, String source) throws IOException
+	{
+		StringWriter diagnostics = new StringWriter();
+		Compilation compilation = tryCompile(className, source, diagnostics);
+		assertEquals(diagnostics.toString(), true, compilation.success);
+		return new URLClassLoader(new URL[] { compilation.outputDirectory.toUri().toURL() }, Assertions.class.getClassLoader());
+	}
+
+	private static final class Compilation
+	{
+		final boolean success;
+		final Path outputDirectory;
+
+		Compilation(boolean success, Path outputDirectory)
+		{
+			this.success = success;
+			this.outputDirectory = outputDirectory;
+		}
+	}
+
+	private static Compilation tryCompile(String className, String source, StringWriter diagnostics) throws IOException
+	{
+		Path directory = Files.createTempDirectory("parameter-check-processor");
+		Path sourceFile = directory.resolve("sample").resolve(className + ".java");
+		Files.createDirectories(sourceFile.getParent());
+		Files.write(sourceFile, source.getBytes(StandardCharsets.UTF_8));
+
+		String classPath = new File(Assertions.class.getProtectionDomain().getCodeSource().getLocation().getPath()).getPath();
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8))
+		{
+			Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjects(sourceFile.toFile());
+			JavaCompiler.CompilationTask task = compiler.getTask(diagnostics, fileManager, null,
+				Arrays.asList("-classpath", classPath, "-d", directory.toString(), "-s", directory.toString(), "-implicit:class"),
+				null, units);
+			task.setProcessors(Collections.singletonList(new ParameterCheckProcessor()));
+			return new Compilation(task.call(), directory);
+		}
+	}
+}